@@ -1,19 +1,23 @@
 package com.inventory.registries.brand;
 
-import java.util.List;
-
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import com.inventory.registries.cache.ConditionalGet;
+import com.inventory.registries.cache.RegistryVersions;
 
 @RestController
 @RequestMapping("/api/brands")
 public class BrandController {
 
     private final BrandService service;
+    private final RegistryVersions versions;
 
-    public BrandController(BrandService service) {
+    public BrandController(BrandService service, RegistryVersions versions) {
         this.service = service;
+        this.versions = versions;
     }
 
     // CREATE
@@ -36,8 +40,8 @@ public class BrandController {
     // LIST (ACTIVE ONLY)
     @GetMapping
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT')")
-    public ResponseEntity<List<Brand>> list() {
-        return ResponseEntity.ok(service.list());
+    public ResponseEntity<byte[]> list(WebRequest request) {
+        return ConditionalGet.json(request, versions.brands(), service::listJson);
     }
 
     // DELETE (SOFT)
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface BrandRepository extends JpaRepository<Brand, Long> {
 
@@ -14,4 +15,9 @@ public interface BrandRepository extends JpaRepository<Brand, Long> {
     Optional<Brand> findByIdAndActiveTrue(Long id);
 
     boolean existsByIdAndActiveTrue(Long id);
+
+    long countByActiveTrue();
+
+    @Query("select b.id from Brand b where b.active = true")
+    List<Long> findActiveIds();
 }
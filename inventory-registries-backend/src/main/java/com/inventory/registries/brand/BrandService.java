@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.inventory.registries.cache.ReferenceDataCache;
 import com.inventory.registries.common.exception.DuplicateResourceException;
 import com.inventory.registries.common.exception.ResourceNotFoundException;
 
@@ -11,9 +12,11 @@ import com.inventory.registries.common.exception.ResourceNotFoundException;
 public class BrandService {
 
     private final BrandRepository repo;
+    private final ReferenceDataCache cache;
 
-    public BrandService(BrandRepository repo) {
+    public BrandService(BrandRepository repo, ReferenceDataCache cache) {
         this.repo = repo;
+        this.cache = cache;
     }
 
     // CREATE
@@ -26,7 +29,9 @@ public class BrandService {
 
         brand.setName(name);
         brand.setActive(true);
-        return repo.save(brand);
+        Brand saved = repo.save(brand);
+        cache.brands().invalidate();
+        return saved;
     }
 
     // UPDATE
@@ -43,7 +48,9 @@ public class BrandService {
         }
 
         brand.setName(newName);
-        return repo.save(brand);
+        Brand saved = repo.save(brand);
+        cache.brands().invalidate();
+        return saved;
     }
 
     // LIST
@@ -51,6 +58,11 @@ public class BrandService {
         return repo.findAllByActiveTrue();
     }
 
+    // LIST (CACHED JSON BODY)
+    public byte[] listJson() {
+        return cache.brands().listJson("all", repo::findAllByActiveTrue);
+    }
+
     // DELETE (SOFT)
     public void delete(Long id) {
 
@@ -59,6 +71,7 @@ public class BrandService {
 
         brand.setActive(false);
         repo.save(brand);
+        cache.brands().invalidate();
     }
 }
 
@@ -0,0 +1,29 @@
+package com.inventory.registries.cache;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.inventory.registries.cache.dto.CacheStats;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final ReferenceDataCache cache;
+
+    public CacheController(ReferenceDataCache cache) {
+        this.cache = cache;
+    }
+
+    // HIT / MISS COUNTERS PER REGISTRY
+    @GetMapping("/stats")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
+    public ResponseEntity<List<CacheStats>> stats() {
+        return ResponseEntity.ok(cache.stats());
+    }
+}
@@ -0,0 +1,56 @@
+package com.inventory.registries.cache;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional list responses keyed on a {@link RegistryVersion}. A matching
+ * {@code If-None-Match} gets a 304 before the loader runs, so unchanged lists
+ * cost no database work. Responses are {@code private, no-cache}: browsers
+ * keep them and revalidate on every use.
+ */
+public final class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    public static <T> ResponseEntity<T> of(WebRequest request, RegistryVersion version,
+                                           Supplier<T> loader) {
+        return respond(request, version, null, loader);
+    }
+
+    /** For bodies that are already serialized JSON. */
+    public static ResponseEntity<byte[]> json(WebRequest request, RegistryVersion version,
+                                              Supplier<byte[]> loader) {
+        return respond(request, version, MediaType.APPLICATION_JSON, loader);
+    }
+
+    private static <T> ResponseEntity<T> respond(WebRequest request, RegistryVersion version,
+                                                 MediaType type, Supplier<T> loader) {
+
+        // Read the tag before loading; see RegistryVersion
+        String etag = version.etag();
+
+        // checkNotModified has already written the ETag header
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE);
+        if (type != null) {
+            ok.contentType(type);
+        }
+        return ok.body(loader.get());
+    }
+}
@@ -0,0 +1,77 @@
+package com.inventory.registries.cache;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.inventory.registries.brand.Brand;
+import com.inventory.registries.brand.BrandRepository;
+import com.inventory.registries.cache.dto.CacheStats;
+import com.inventory.registries.department.Department;
+import com.inventory.registries.department.DepartmentRepository;
+import com.inventory.registries.subdepartment.SubDepartment;
+import com.inventory.registries.subdepartment.SubDepartmentRepository;
+import com.inventory.registries.unit.Unit;
+import com.inventory.registries.unit.UnitRepository;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * One {@link RegistryCache} per reference registry, each versioned by its
+ * {@link RegistryVersions} counter. Services invalidate their own registry on
+ * every write; department writes also clear sub-departments, whose JSON embeds
+ * the department.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private final RegistryCache<Brand> brands;
+    private final RegistryCache<Unit> units;
+    private final RegistryCache<Department> departments;
+    private final RegistryCache<SubDepartment> subDepartments;
+
+    public ReferenceDataCache(
+            BrandRepository brandRepo,
+            UnitRepository unitRepo,
+            DepartmentRepository departmentRepo,
+            SubDepartmentRepository subDepartmentRepo,
+            RegistryVersions versions,
+            ObjectMapper mapper,
+            @Value("${registry-cache.max-entries:10000}") int maxEntries,
+            @Value("${registry-cache.max-lists:256}") int maxLists
+    ) {
+        this.brands = new RegistryCache<>("brands",
+                brandRepo::findByIdAndActiveTrue, versions.brands(),
+                mapper, maxEntries, maxLists);
+        this.units = new RegistryCache<>("units",
+                unitRepo::findByIdAndActiveTrue, versions.units(),
+                mapper, maxEntries, maxLists);
+        this.departments = new RegistryCache<>("departments",
+                departmentRepo::findByIdAndActiveTrue, versions.departments(),
+                mapper, maxEntries, maxLists);
+        this.subDepartments = new RegistryCache<>("subDepartments",
+                subDepartmentRepo::findByIdAndActiveTrue, versions.subDepartments(),
+                mapper, maxEntries, maxLists);
+    }
+
+    public RegistryCache<Brand> brands() {
+        return brands;
+    }
+
+    public RegistryCache<Unit> units() {
+        return units;
+    }
+
+    public RegistryCache<Department> departments() {
+        return departments;
+    }
+
+    public RegistryCache<SubDepartment> subDepartments() {
+        return subDepartments;
+    }
+
+    public List<CacheStats> stats() {
+        return List.of(brands.stats(), units.stats(), departments.stats(), subDepartments.stats());
+    }
+}
@@ -0,0 +1,138 @@
+package com.inventory.registries.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.inventory.registries.cache.dto.CacheStats;
+import com.inventory.registries.common.TransactionHooks;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Bounded read-through cache for one reference registry.
+ *
+ * Holds active entities by id (for validation lookups) and list responses
+ * already serialized to JSON, both in access-ordered LRU maps. Any write to
+ * the registry drops everything via {@link #invalidate()}.
+ *
+ * The registry's {@link RegistryVersion} doubles as the cache generation. It
+ * is bumped and the maps cleared under one lock, so an ETag read before a
+ * lookup never describes older cached data. A load that started before an
+ * invalidation is not stored: every fill checks the version it read before
+ * going to the database.
+ */
+public class RegistryCache<T> {
+
+    private final String name;
+    private final Function<Long, Optional<T>> loader;
+    private final ObjectMapper mapper;
+    private final RegistryVersion version;
+
+    // ---- guarded by this ----
+    private final Map<Long, T> byId;
+    private final Map<String, byte[]> lists;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public RegistryCache(String name, Function<Long, Optional<T>> loader, RegistryVersion version,
+                         ObjectMapper mapper, int maxEntries, int maxLists) {
+        this.name = name;
+        this.loader = loader;
+        this.version = version;
+        this.mapper = mapper;
+        this.byId = lru(maxEntries);
+        this.lists = lru(maxLists);
+    }
+
+    // ---------------- READS ----------------
+    /** Active entity by id, loading and caching it on a miss. */
+    public Optional<T> get(Long id) {
+
+        long gen;
+        synchronized (this) {
+            T cached = byId.get(id);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            gen = version.current();
+        }
+
+        misses.increment();
+        Optional<T> loaded = loader.apply(id);
+
+        loaded.ifPresent(value -> {
+            synchronized (this) {
+                if (version.current() == gen) {
+                    byId.put(id, value);
+                }
+            }
+        });
+        return loaded;
+    }
+
+    /** JSON body of a list response, serialized once per generation. */
+    public byte[] listJson(String key, Supplier<List<?>> query) {
+
+        long gen;
+        synchronized (this) {
+            byte[] cached = lists.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            gen = version.current();
+        }
+
+        misses.increment();
+        byte[] json = mapper.writeValueAsBytes(query.get());
+
+        synchronized (this) {
+            if (version.current() == gen) {
+                lists.put(key, json);
+            }
+        }
+        return json;
+    }
+
+    // ---------------- WRITES ----------------
+    /** Bumps the version and drops all entries, after commit when inside a transaction. */
+    public void invalidate() {
+        TransactionHooks.afterCommit(this::clear);
+    }
+
+    private synchronized void clear() {
+        version.increment();
+        byId.clear();
+        lists.clear();
+        invalidations.increment();
+    }
+
+    // ---------------- METRICS ----------------
+    public CacheStats stats() {
+        int entries;
+        int listCount;
+        synchronized (this) {
+            entries = byId.size();
+            listCount = lists.size();
+        }
+        return new CacheStats(name, hits.sum(), misses.sum(),
+                invalidations.sum(), entries, listCount);
+    }
+
+    private static <K, V> Map<K, V> lru(int max) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > max;
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.inventory.registries.cache;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.inventory.registries.common.TransactionHooks;
+
+/**
+ * Monotonic change counter for one registry, used for list ETags.
+ *
+ * A registry whose list embeds other registries (products show brand, unit
+ * and category names) takes them as inputs: {@link #current()} adds their
+ * counters to its own, so a brand rename also changes the product ETag.
+ * Counters only grow, so the sum changes whenever any of them does.
+ *
+ * Counters are bumped after commit, so callers must read the ETag
+ * <em>before</em> loading data: a racing write then yields an old tag with
+ * new data (refetched next time), never a new tag with old data.
+ */
+public class RegistryVersion {
+
+    private final String name;
+    private final String epoch;
+    private final List<RegistryVersion> inputs;
+    private final AtomicLong counter = new AtomicLong();
+
+    RegistryVersion(String name, String epoch, RegistryVersion... inputs) {
+        this.name = name;
+        this.epoch = epoch;
+        this.inputs = List.of(inputs);
+    }
+
+    public long current() {
+        long v = counter.get();
+        for (RegistryVersion input : inputs) {
+            v += input.current();
+        }
+        return v;
+    }
+
+    /** Strong ETag; the epoch keeps tags from a previous process from matching. */
+    public String etag() {
+        return "\"" + name + "-" + epoch + "-" + current() + "\"";
+    }
+
+    /** Records a change, after commit when called inside a transaction. */
+    public void bump() {
+        TransactionHooks.afterCommit(this::increment);
+    }
+
+    void increment() {
+        counter.incrementAndGet();
+    }
+}
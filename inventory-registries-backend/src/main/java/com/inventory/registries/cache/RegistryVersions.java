@@ -0,0 +1,50 @@
+package com.inventory.registries.cache;
+
+import org.springframework.stereotype.Component;
+
+/** Version counters for every registry that serves a list with an ETag. */
+@Component
+public class RegistryVersions {
+
+    private final RegistryVersion brands;
+    private final RegistryVersion units;
+    private final RegistryVersion departments;
+    private final RegistryVersion subDepartments;
+    private final RegistryVersion products;
+    private final RegistryVersion stockTakings;
+
+    public RegistryVersions() {
+        String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+        this.brands = new RegistryVersion("brands", epoch);
+        this.units = new RegistryVersion("units", epoch);
+        this.departments = new RegistryVersion("departments", epoch);
+        this.subDepartments = new RegistryVersion("subDepartments", epoch, departments);
+        this.products = new RegistryVersion("products", epoch, brands, units, subDepartments);
+        this.stockTakings = new RegistryVersion("stockTakings", epoch, products);
+    }
+
+    public RegistryVersion brands() {
+        return brands;
+    }
+
+    public RegistryVersion units() {
+        return units;
+    }
+
+    public RegistryVersion departments() {
+        return departments;
+    }
+
+    public RegistryVersion subDepartments() {
+        return subDepartments;
+    }
+
+    public RegistryVersion products() {
+        return products;
+    }
+
+    public RegistryVersion stockTakings() {
+        return stockTakings;
+    }
+}
@@ -0,0 +1,33 @@
+package com.inventory.registries.cache.dto;
+
+public class CacheStats {
+
+    private final String name;
+    private final long hits;
+    private final long misses;
+    private final long invalidations;
+    private final int entries;
+    private final int lists;
+
+    public CacheStats(String name, long hits, long misses,
+                      long invalidations, int entries, int lists) {
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+        this.invalidations = invalidations;
+        this.entries = entries;
+        this.lists = lists;
+    }
+
+    public String getName() { return name; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getInvalidations() { return invalidations; }
+    public int getEntries() { return entries; }
+    public int getLists() { return lists; }
+
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
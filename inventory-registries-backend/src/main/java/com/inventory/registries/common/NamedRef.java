@@ -0,0 +1,19 @@
+package com.inventory.registries.common;
+
+/**
+ * Minimal {id, name} reference to another registry entry,
+ * used by read models instead of serializing lazy associations.
+ */
+public class NamedRef {
+
+    private final Long id;
+    private final String name;
+
+    public NamedRef(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() { return id; }
+    public String getName() { return name; }
+}
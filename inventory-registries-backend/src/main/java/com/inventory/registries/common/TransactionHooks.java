@@ -0,0 +1,29 @@
+package com.inventory.registries.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Side effects that must not outlive a rolled-back transaction
+ * (in-memory indexes, caches, version counters).
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /** Runs {@code action} after the current transaction commits, or now if there is none. */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            action.run();
+                        }
+                    });
+        } else {
+            action.run();
+        }
+    }
+}
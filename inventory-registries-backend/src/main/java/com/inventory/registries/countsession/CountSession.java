@@ -0,0 +1,66 @@
+package com.inventory.registries.countsession;
+
+import com.inventory.registries.common.Auditable;
+import com.inventory.registries.department.Department;
+
+import jakarta.persistence.*;
+
+/**
+ * A stock count covering every active product of one department. Opening
+ * the session snapshots system stock into its lines; counts are uploaded
+ * against them, the session is approved once and applied as a whole.
+ */
+@Entity
+@Table(name = "count_sessions")
+public class CountSession extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "department_id", nullable = false)
+    private Department department;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.OPEN;
+
+    @Column(name = "approved_by")
+    private String approvedBy;
+
+    public enum Status {
+        OPEN,
+        APPROVED,
+        APPLIED,
+        CANCELLED
+    }
+
+	public Long getId() {
+		return id;
+	}
+
+	public Department getDepartment() {
+		return department;
+	}
+
+	public void setDepartment(Department department) {
+		this.department = department;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(Status status) {
+		this.status = status;
+	}
+
+	public String getApprovedBy() {
+		return approvedBy;
+	}
+
+	public void setApprovedBy(String approvedBy) {
+		this.approvedBy = approvedBy;
+	}
+}
@@ -0,0 +1,90 @@
+package com.inventory.registries.countsession;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import com.inventory.registries.common.CursorPage;
+import com.inventory.registries.countsession.dto.CountLineView;
+import com.inventory.registries.countsession.dto.CountSessionView;
+import com.inventory.registries.countsession.dto.CountUploadReport;
+
+@RestController
+@RequestMapping("/api/count-sessions")
+public class CountSessionController {
+
+    private final CountSessionService service;
+
+    public CountSessionController(CountSessionService service) {
+        this.service = service;
+    }
+
+    // OPEN (SNAPSHOTS THE DEPARTMENT'S STOCK)
+    @PostMapping
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','STAFF')")
+    public ResponseEntity<CountSessionView> open(@RequestParam Long departmentId) {
+        return ResponseEntity.ok(service.open(departmentId));
+    }
+
+    // LIST
+    @GetMapping
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<List<CountSessionView>> list() {
+        return ResponseEntity.ok(service.list());
+    }
+
+    // SUMMARY
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<CountSessionView> get(@PathVariable Long id) {
+        return ResponseEntity.ok(service.view(id));
+    }
+
+    // LINES (KEYSET, pass nextCursor back as `after`)
+    @GetMapping("/{id}/lines")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<CursorPage<CountLineView>> lines(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "false") boolean varianceOnly) {
+        return ResponseEntity.ok(service.lines(id, after, limit, varianceOnly));
+    }
+
+    // UPLOAD COUNTS (STREAMED CSV: code,counted)
+    @PostMapping(value = "/{id}/counts", consumes = "text/csv")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','STAFF')")
+    public ResponseEntity<CountUploadReport> upload(
+            @PathVariable Long id, InputStream body) throws IOException {
+        return ResponseEntity.ok(service.upload(id, body));
+    }
+
+    // APPROVE
+    @PostMapping("/{id}/approve")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER')")
+    public ResponseEntity<CountSessionView> approve(
+            @PathVariable Long id,
+            Authentication authentication) {
+        return ResponseEntity.ok(service.approve(id, authentication));
+    }
+
+    // APPLY (POSTS VARIANCES TO THE STOCK LEDGER)
+    @PostMapping("/{id}/apply")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
+    public ResponseEntity<CountSessionView> apply(@PathVariable Long id) {
+        return ResponseEntity.ok(service.apply(id));
+    }
+
+    // CANCEL (OPEN OR APPROVED)
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
+    public ResponseEntity<Void> cancel(@PathVariable Long id) {
+        service.cancel(id);
+        return ResponseEntity.noContent().build();
+    }
+}
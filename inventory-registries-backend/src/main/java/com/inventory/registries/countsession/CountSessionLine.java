@@ -0,0 +1,72 @@
+package com.inventory.registries.countsession;
+
+import com.inventory.registries.product.Product;
+
+import jakarta.persistence.*;
+
+/**
+ * One product in a count session. Lines are only created and updated by
+ * set-based statements (see CountSessionLineRepository), never one by one.
+ */
+@Entity
+@Table(
+        name = "count_session_lines",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_count_session_lines_product", columnNames = {"session_id", "product_id"}),
+        indexes = @Index(name = "idx_count_session_lines_session", columnList = "session_id, id")
+)
+public class CountSessionLine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "session_id", nullable = false)
+    private CountSession session;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    // Stock when the session was opened
+    @Column(nullable = false)
+    private Integer systemStock;
+
+    // Null until counted
+    private Integer countedStock;
+
+    // countedStock - systemStock, set with the count
+    private Integer variance;
+
+    @Column(nullable = false)
+    private Boolean applied = false;
+
+	public Long getId() {
+		return id;
+	}
+
+	public CountSession getSession() {
+		return session;
+	}
+
+	public Product getProduct() {
+		return product;
+	}
+
+	public Integer getSystemStock() {
+		return systemStock;
+	}
+
+	public Integer getCountedStock() {
+		return countedStock;
+	}
+
+	public Integer getVariance() {
+		return variance;
+	}
+
+	public Boolean getApplied() {
+		return applied;
+	}
+}
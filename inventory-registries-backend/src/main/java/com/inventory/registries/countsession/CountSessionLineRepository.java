@@ -0,0 +1,74 @@
+package com.inventory.registries.countsession;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inventory.registries.countsession.dto.CountLineView;
+
+public interface CountSessionLineRepository extends JpaRepository<CountSessionLine, Long> {
+
+    // Snapshot: one line per active product of the department, in one statement
+    @Modifying
+    @Query("""
+            insert into CountSessionLine (session, product, systemStock, applied)
+            select s, p, p.stock, false
+            from CountSession s, Product p
+            where s.id = :sessionId
+              and p.subDepartment.department.id = s.department.id
+              and p.active = true
+            """)
+    int snapshot(@Param("sessionId") Long sessionId);
+
+    // ---------------- APPLY ----------------
+    // Keyset on id; the applied flag keeps a resumed or concurrent apply from
+    // posting a line twice
+
+    @Query("""
+            select l.id as id, l.product.id as productId, l.variance as variance
+            from CountSessionLine l
+            where l.session.id = :sessionId
+              and l.applied = false
+              and l.variance <> 0
+              and l.id > :afterId
+            order by l.id
+            """)
+    List<PendingLine> findPending(@Param("sessionId") Long sessionId,
+                                  @Param("afterId") long afterId,
+                                  Limit limit);
+
+    @Modifying
+    @Query("update CountSessionLine l set l.applied = true where l.id in :ids")
+    int markApplied(@Param("ids") Collection<Long> ids);
+
+    boolean existsBySession_IdAndAppliedTrue(Long sessionId);
+
+    // ---------------- READ MODEL ----------------
+
+    @Query("""
+            select new com.inventory.registries.countsession.dto.CountLineView(
+                l.id, p.id, p.code, p.name,
+                l.systemStock, l.countedStock, l.variance, l.applied)
+            from CountSessionLine l
+            join l.product p
+            where l.session.id = :sessionId
+              and l.id > :afterId
+              and (:varianceOnly = false or l.variance <> 0)
+            order by l.id
+            """)
+    List<CountLineView> findViews(@Param("sessionId") Long sessionId,
+                                  @Param("afterId") long afterId,
+                                  @Param("varianceOnly") boolean varianceOnly,
+                                  Limit limit);
+
+    interface PendingLine {
+        Long getId();
+        Long getProductId();
+        Integer getVariance();
+    }
+}
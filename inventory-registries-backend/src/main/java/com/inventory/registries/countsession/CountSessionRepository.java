@@ -0,0 +1,49 @@
+package com.inventory.registries.countsession;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inventory.registries.countsession.CountSession.Status;
+import com.inventory.registries.countsession.dto.CountSessionView;
+
+import jakarta.persistence.LockModeType;
+
+public interface CountSessionRepository extends JpaRepository<CountSession, Long> {
+
+    boolean existsByDepartment_IdAndStatusIn(Long departmentId, Collection<Status> statuses);
+
+    // Serializes apply chunks, approve and cancel of the same session
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from CountSession s where s.id = :id")
+    Optional<CountSession> findLocked(@Param("id") Long id);
+
+    // ---------------- READ MODEL (line totals aggregated in the same query) ----------------
+
+    String VIEW_SELECT = """
+            select new com.inventory.registries.countsession.dto.CountSessionView(
+                s.id, d.id, d.name, s.status,
+                count(l), count(l.countedStock),
+                coalesce(sum(case when l.variance <> 0 then 1 else 0 end), 0),
+                coalesce(sum(l.variance), 0),
+                s.approvedBy, s.createdBy, s.createdAt, s.updatedAt)
+            from CountSession s
+            join s.department d
+            left join CountSessionLine l on l.session = s
+            """;
+
+    String VIEW_GROUP = """
+            group by s.id, d.id, d.name, s.status, s.approvedBy, s.createdBy, s.createdAt, s.updatedAt
+            """;
+
+    @Query(VIEW_SELECT + "where s.id = :id " + VIEW_GROUP)
+    Optional<CountSessionView> findView(@Param("id") Long id);
+
+    @Query(VIEW_SELECT + VIEW_GROUP + "order by s.id desc")
+    List<CountSessionView> findViews();
+}
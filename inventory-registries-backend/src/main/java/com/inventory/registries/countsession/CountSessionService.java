@@ -0,0 +1,456 @@
+package com.inventory.registries.countsession;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.inventory.registries.cache.ReferenceDataCache;
+import com.inventory.registries.common.CursorPage;
+import com.inventory.registries.common.exception.ResourceNotFoundException;
+import com.inventory.registries.countsession.CountSession.Status;
+import com.inventory.registries.countsession.dto.CountLineError;
+import com.inventory.registries.countsession.dto.CountLineView;
+import com.inventory.registries.countsession.dto.CountSessionView;
+import com.inventory.registries.countsession.dto.CountUploadReport;
+import com.inventory.registries.department.Department;
+import com.inventory.registries.notification.NotificationService;
+import com.inventory.registries.notification.NotificationType;
+import com.inventory.registries.product.ProductRepository;
+import com.inventory.registries.stockmovement.StockMovement.MovementType;
+import com.inventory.registries.stockmovement.StockMovementService;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Department-wide stock counts.
+ *
+ * Opening a session snapshots every active product's stock with one
+ * INSERT ... SELECT. Counts are uploaded as CSV in chunks and matched to
+ * lines with one JDBC batch per chunk; the database computes each variance
+ * against the snapshot. Apply posts the variances to the stock ledger in
+ * chunked transactions (resumable: applied lines are flagged) and sends one
+ * summary notification instead of one per product.
+ */
+@Service
+public class CountSessionService {
+
+    private static final Logger log = LoggerFactory.getLogger(CountSessionService.class);
+
+    private static final int UPLOAD_CHUNK = 1000;
+    private static final int APPLY_CHUNK = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final String COUNT_SQL = """
+            update count_session_lines
+            set counted_stock = ?, variance = ? - system_stock
+            where session_id = ?
+              and product_id = ?
+              and exists (select 1 from count_sessions s where s.id = session_id and s.status = 'OPEN')
+            """;
+
+    private static final String REFERENCE_TYPE = "COUNT_SESSION";
+
+    private final CountSessionRepository repo;
+    private final CountSessionLineRepository lineRepo;
+    private final ProductRepository productRepo;
+    private final ReferenceDataCache refs;
+    private final StockMovementService stock;
+    private final NotificationService notificationService;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+
+    public CountSessionService(
+            CountSessionRepository repo,
+            CountSessionLineRepository lineRepo,
+            ProductRepository productRepo,
+            ReferenceDataCache refs,
+            StockMovementService stock,
+            NotificationService notificationService,
+            JdbcTemplate jdbc,
+            TransactionTemplate tx) {
+
+        this.repo = repo;
+        this.lineRepo = lineRepo;
+        this.productRepo = productRepo;
+        this.refs = refs;
+        this.stock = stock;
+        this.notificationService = notificationService;
+        this.jdbc = jdbc;
+        this.tx = tx;
+    }
+
+    // ---------------- OPEN (SNAPSHOT) ----------------
+    @Transactional
+    public CountSessionView open(Long departmentId) {
+
+        Department department = refs.departments().get(departmentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Department"));
+
+        if (repo.existsByDepartment_IdAndStatusIn(departmentId, List.of(Status.OPEN, Status.APPROVED))) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT, "A count session is already open for this department");
+        }
+
+        CountSession session = new CountSession();
+        session.setDepartment(department);
+        repo.save(session);
+
+        int lines = lineRepo.snapshot(session.getId());
+        if (lines == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Department has no active products");
+        }
+
+        log.info("Count session {} opened for department {} with {} lines", session.getId(), departmentId, lines);
+        return view(session.getId());
+    }
+
+    // ---------------- UPLOAD COUNTS (STREAMED CSV) ----------------
+    /**
+     * CSV with a header row holding {@code code} and {@code counted} columns.
+     * A product counted twice keeps the last value.
+     */
+    public CountUploadReport upload(Long id, InputStream body) throws IOException {
+
+        requireStatus(find(id), Status.OPEN, "Counts can only be uploaded while the session is open");
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Report report = new Report();
+
+        String header = in.readLine();
+        if (header == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header row is missing");
+        }
+        List<String> columns = splitCsv(header.replace("\uFEFF", ""));
+        int codeCol = columnIndex(columns, "code");
+        int countedCol = columnIndex(columns, "counted");
+        if (codeCol < 0 || countedCol < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV needs code and counted columns");
+        }
+
+        List<Count> chunk = new ArrayList<>(UPLOAD_CHUNK);
+        long lineNo = 1;
+        String text;
+
+        while ((text = in.readLine()) != null) {
+            lineNo++;
+            if (text.isBlank()) {
+                continue;
+            }
+            report.received++;
+
+            List<String> fields = splitCsv(text);
+            String code = field(fields, codeCol);
+            String counted = field(fields, countedCol);
+
+            if (code.isEmpty()) {
+                report.reject(lineNo, null, "code is required");
+                continue;
+            }
+            int qty;
+            try {
+                qty = Integer.parseInt(counted);
+            } catch (NumberFormatException e) {
+                report.reject(lineNo, code, "Invalid counted quantity: '" + counted + "'");
+                continue;
+            }
+            if (qty < 0) {
+                report.reject(lineNo, code, "Counted quantity cannot be negative");
+                continue;
+            }
+
+            chunk.add(new Count(lineNo, code, qty));
+            if (chunk.size() == UPLOAD_CHUNK) {
+                flush(id, chunk, report);
+                chunk.clear();
+            }
+        }
+        flush(id, chunk, report);
+
+        return report.toDto();
+    }
+
+    // One transaction per chunk: resolve codes with one query, count with one batch
+    private void flush(Long id, List<Count> chunk, Report report) {
+
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        tx.executeWithoutResult(status -> {
+
+            Map<String, Long> productIds = new HashMap<>();
+            for (ProductRepository.SearchRow row : productRepo.findRowsByCodeIn(
+                    chunk.stream().map(Count::code).toList())) {
+                productIds.put(row.getCode(), row.getId());
+            }
+
+            List<Count> known = new ArrayList<>(chunk.size());
+            for (Count c : chunk) {
+                if (productIds.containsKey(c.code())) {
+                    known.add(c);
+                } else {
+                    report.reject(c.line(), c.code(), "Unknown product code");
+                }
+            }
+
+            int[][] counts = jdbc.batchUpdate(COUNT_SQL, known, known.size(), (ps, c) -> {
+                ps.setInt(1, c.counted());
+                ps.setInt(2, c.counted());
+                ps.setLong(3, id);
+                ps.setLong(4, productIds.get(c.code()));
+            });
+
+            for (int i = 0; i < known.size(); i++) {
+                if (counts[0][i] == 0) {
+                    report.reject(known.get(i).line(), known.get(i).code(),
+                            "Product is not part of this session, or the session is closed");
+                } else {
+                    report.counted++;
+                }
+            }
+        });
+    }
+
+    // ---------------- APPROVE ----------------
+    @Transactional
+    public CountSessionView approve(Long id, Authentication auth) {
+
+        CountSession session = findLocked(id);
+        requireStatus(session, Status.OPEN, "Only an open session can be approved");
+
+        CountSessionView current = view(id);
+        if (current.getCounted() == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Nothing has been counted yet");
+        }
+
+        session.setStatus(Status.APPROVED);
+        session.setApprovedBy(auth.getName());
+        repo.save(session);
+
+        notificationService.send(
+                session.getCreatedBy(),
+                "Count Session Approved",
+                "Count session #" + id + " has been approved. You may apply it.",
+                NotificationType.INFO,
+                REFERENCE_TYPE,
+                id
+        );
+
+        return view(id);
+    }
+
+    // ---------------- APPLY (CHUNKED) ----------------
+    public CountSessionView apply(Long id) {
+
+        long start = System.nanoTime();
+        CountSession session = find(id);
+        if (session.getStatus() == Status.APPLIED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Count session already applied");
+        }
+        requireStatus(session, Status.APPROVED, "Count session must be approved before applying");
+
+        long lines = 0;
+        long changed = 0;
+        long[] step = { 0, 0, 0 };
+        do {
+            long afterId = step[2];
+            step = tx.execute(status -> applyChunk(id, afterId));
+            lines += step[0];
+            changed += step[1];
+        } while (step[0] > 0);
+
+        long appliedLines = lines;
+        long adjusted = changed;
+        tx.executeWithoutResult(status -> {
+            CountSession s = repo.findLocked(id).orElseThrow();
+            if (s.getStatus() != Status.APPROVED) {
+                return; // finished by a concurrent apply
+            }
+            s.setStatus(Status.APPLIED);
+            repo.save(s);
+
+            String message = "Count session #" + id + " was applied: " + adjusted
+                    + " products adjusted, " + (appliedLines - adjusted) + " skipped (inactive).";
+            notificationService.send(s.getCreatedBy(), "Count Session Applied", message,
+                    NotificationType.INFO, REFERENCE_TYPE, id);
+            if (s.getApprovedBy() != null && !s.getApprovedBy().equals(s.getCreatedBy())) {
+                notificationService.send(s.getApprovedBy(), "Count Session Applied", message,
+                        NotificationType.INFO, REFERENCE_TYPE, id);
+            }
+        });
+
+        log.info("Count session {} applied: {} lines, {} products adjusted in {} ms",
+                id, lines, changed, (System.nanoTime() - start) / 1_000_000);
+        return view(id);
+    }
+
+    // {lines taken, products changed, last line id}; the session lock keeps
+    // concurrent applies apart
+    private long[] applyChunk(Long id, long afterId) {
+
+        CountSession session = repo.findLocked(id).orElseThrow();
+        if (session.getStatus() != Status.APPROVED) {
+            return new long[] { 0, 0, afterId };
+        }
+
+        List<CountSessionLineRepository.PendingLine> pending =
+                lineRepo.findPending(id, afterId, Limit.of(APPLY_CHUNK));
+        if (pending.isEmpty()) {
+            return new long[] { 0, 0, afterId };
+        }
+
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        List<Long> lineIds = new ArrayList<>(pending.size());
+        for (CountSessionLineRepository.PendingLine line : pending) {
+            deltas.put(line.getProductId(), line.getVariance());
+            lineIds.add(line.getId());
+        }
+
+        int changed = stock.recordAll(deltas, MovementType.STOCK_TAKING, REFERENCE_TYPE, id).size();
+        lineRepo.markApplied(lineIds);
+        return new long[] { pending.size(), changed, lineIds.get(lineIds.size() - 1) };
+    }
+
+    // ---------------- CANCEL ----------------
+    // Waits for a running apply chunk; once any line is posted, the session
+    // can only be finished, not cancelled
+    @Transactional
+    public void cancel(Long id) {
+
+        CountSession session = findLocked(id);
+        if (session.getStatus() != Status.OPEN && session.getStatus() != Status.APPROVED) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT, "Only open or approved sessions can be cancelled");
+        }
+        if (lineRepo.existsBySession_IdAndAppliedTrue(id)) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT, "Count session is partly applied; apply it again to finish");
+        }
+        session.setStatus(Status.CANCELLED);
+        repo.save(session);
+    }
+
+    // ---------------- READ ----------------
+    public List<CountSessionView> list() {
+        return repo.findViews();
+    }
+
+    public CountSessionView view(Long id) {
+        return repo.findView(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Count session not found"));
+    }
+
+    public CursorPage<CountLineView> lines(Long id, Long after, int limit, boolean varianceOnly) {
+
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<CountLineView> items = lineRepo.findViews(
+                id, after == null ? 0 : after, varianceOnly, Limit.of(size));
+
+        String next = items.size() == size
+                ? String.valueOf(items.get(items.size() - 1).getId())
+                : null;
+        return new CursorPage<>(items, next, null);
+    }
+
+    // ---------------- HELPERS ----------------
+    private CountSession find(Long id) {
+        return repo.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Count session not found"));
+    }
+
+    // Same row lock as the apply chunks, so status changes never interleave with them
+    private CountSession findLocked(Long id) {
+        return repo.findLocked(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Count session not found"));
+    }
+
+    private static void requireStatus(CountSession session, Status expected, String message) {
+        if (session.getStatus() != expected) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, message);
+        }
+    }
+
+    private static int columnIndex(List<String> header, String name) {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).trim().equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String field(List<String> fields, int idx) {
+        return idx < fields.size() ? fields.get(idx).trim() : "";
+    }
+
+    // One physical line per record; quoted fields may hold commas and doubled quotes
+    private static List<String> splitCsv(String line) {
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private record Count(long line, String code, int counted) {
+    }
+
+    private static final class Report {
+
+        long received;
+        long counted;
+        long failed;
+        final List<CountLineError> errors = new ArrayList<>();
+
+        void reject(long line, String code, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new CountLineError(line, code, message));
+            }
+        }
+
+        CountUploadReport toDto() {
+            return new CountUploadReport(received, counted, failed, errors, failed > errors.size());
+        }
+    }
+}
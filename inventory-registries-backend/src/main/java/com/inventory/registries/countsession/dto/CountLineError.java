@@ -0,0 +1,18 @@
+package com.inventory.registries.countsession.dto;
+
+public class CountLineError {
+
+    private final long line;
+    private final String code;
+    private final String message;
+
+    public CountLineError(long line, String code, String message) {
+        this.line = line;
+        this.code = code;
+        this.message = message;
+    }
+
+    public long getLine() { return line; }
+    public String getCode() { return code; }
+    public String getMessage() { return message; }
+}
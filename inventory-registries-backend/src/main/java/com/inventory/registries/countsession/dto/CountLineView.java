@@ -0,0 +1,41 @@
+package com.inventory.registries.countsession.dto;
+
+/**
+ * One count-session line with the product's code and name.
+ * {@code countedStock} and {@code variance} are null until counted.
+ */
+public class CountLineView {
+
+    private final Long id;
+    private final Long productId;
+    private final String code;
+    private final String name;
+    private final Integer systemStock;
+    private final Integer countedStock;
+    private final Integer variance;
+    private final Boolean applied;
+
+    // Constructor expression target for JPQL (select new ...)
+    public CountLineView(
+            Long id, Long productId, String code, String name,
+            Integer systemStock, Integer countedStock, Integer variance, Boolean applied
+    ) {
+        this.id = id;
+        this.productId = productId;
+        this.code = code;
+        this.name = name;
+        this.systemStock = systemStock;
+        this.countedStock = countedStock;
+        this.variance = variance;
+        this.applied = applied;
+    }
+
+    public Long getId() { return id; }
+    public Long getProductId() { return productId; }
+    public String getCode() { return code; }
+    public String getName() { return name; }
+    public Integer getSystemStock() { return systemStock; }
+    public Integer getCountedStock() { return countedStock; }
+    public Integer getVariance() { return variance; }
+    public Boolean getApplied() { return applied; }
+}
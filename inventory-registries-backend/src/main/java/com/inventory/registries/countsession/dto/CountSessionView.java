@@ -0,0 +1,58 @@
+package com.inventory.registries.countsession.dto;
+
+import java.time.LocalDateTime;
+
+import com.inventory.registries.common.NamedRef;
+import com.inventory.registries.countsession.CountSession.Status;
+
+/**
+ * Read model for count sessions, with line totals: {@code lines} in the
+ * snapshot, how many were {@code counted}, how many differ from system stock
+ * and the net variance in units.
+ */
+public class CountSessionView {
+
+    private final Long id;
+    private final NamedRef department;
+    private final Status status;
+    private final long lines;
+    private final long counted;
+    private final long withVariance;
+    private final long netVariance;
+    private final String approvedBy;
+    private final String createdBy;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    // Constructor expression target for JPQL (select new ...)
+    public CountSessionView(
+            Long id, Long departmentId, String departmentName, Status status,
+            Long lines, Long counted, Long withVariance, Long netVariance,
+            String approvedBy, String createdBy,
+            LocalDateTime createdAt, LocalDateTime updatedAt
+    ) {
+        this.id = id;
+        this.department = new NamedRef(departmentId, departmentName);
+        this.status = status;
+        this.lines = lines;
+        this.counted = counted;
+        this.withVariance = withVariance;
+        this.netVariance = netVariance;
+        this.approvedBy = approvedBy;
+        this.createdBy = createdBy;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() { return id; }
+    public NamedRef getDepartment() { return department; }
+    public Status getStatus() { return status; }
+    public long getLines() { return lines; }
+    public long getCounted() { return counted; }
+    public long getWithVariance() { return withVariance; }
+    public long getNetVariance() { return netVariance; }
+    public String getApprovedBy() { return approvedBy; }
+    public String getCreatedBy() { return createdBy; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
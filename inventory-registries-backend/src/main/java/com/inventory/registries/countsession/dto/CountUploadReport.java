@@ -0,0 +1,31 @@
+package com.inventory.registries.countsession.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a count upload. {@code errors} lists rejected rows by source
+ * line and is capped; {@code failed} always holds the full count.
+ */
+public class CountUploadReport {
+
+    private final long received;
+    private final long counted;
+    private final long failed;
+    private final List<CountLineError> errors;
+    private final boolean errorsTruncated;
+
+    public CountUploadReport(long received, long counted, long failed,
+                             List<CountLineError> errors, boolean errorsTruncated) {
+        this.received = received;
+        this.counted = counted;
+        this.failed = failed;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public long getReceived() { return received; }
+    public long getCounted() { return counted; }
+    public long getFailed() { return failed; }
+    public List<CountLineError> getErrors() { return errors; }
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+}
@@ -0,0 +1,27 @@
+package com.inventory.registries.dashboard;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.inventory.registries.dashboard.dto.DashboardSummary;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService service;
+
+    public DashboardController(DashboardService service) {
+        this.service = service;
+    }
+
+    // SUMMARY (ONE ROUND TRIP)
+    @GetMapping("/summary")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<DashboardSummary> summary() {
+        return ResponseEntity.ok(service.summary());
+    }
+}
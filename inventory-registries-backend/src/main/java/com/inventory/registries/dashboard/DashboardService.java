@@ -0,0 +1,194 @@
+package com.inventory.registries.dashboard;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.inventory.registries.brand.BrandRepository;
+import com.inventory.registries.dashboard.dto.DashboardCounts;
+import com.inventory.registries.dashboard.dto.DashboardSummary;
+import com.inventory.registries.dashboard.dto.ProductSnapshot;
+import com.inventory.registries.department.DepartmentRepository;
+import com.inventory.registries.pricelevel.PriceLevelRepository;
+import com.inventory.registries.product.Product;
+import com.inventory.registries.product.ProductRepository;
+import com.inventory.registries.subdepartment.SubDepartmentRepository;
+import com.inventory.registries.unit.UnitRepository;
+
+/**
+ * Builds the dashboard summary with a handful of set-based aggregates
+ * and keeps the result in memory.
+ *
+ * Within {@code ttl} the cached summary is served as-is. Between {@code ttl}
+ * and {@code ttl + staleWhileRevalidate} the stale summary is still served
+ * while a single background refresh runs. Past that window the caller
+ * recomputes synchronously.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private final ProductRepository productRepo;
+    private final BrandRepository brandRepo;
+    private final DepartmentRepository departmentRepo;
+    private final SubDepartmentRepository subDepartmentRepo;
+    private final UnitRepository unitRepo;
+    private final PriceLevelRepository priceLevelRepo;
+    private final TaskExecutor executor;
+
+    private final long ttlMillis;
+    private final long staleMillis;
+    private final int lowStockThreshold;
+    private final int listSize;
+
+    private final ReentrantLock computeLock = new ReentrantLock();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile CachedSummary cached;
+
+    public DashboardService(
+            ProductRepository productRepo,
+            BrandRepository brandRepo,
+            DepartmentRepository departmentRepo,
+            SubDepartmentRepository subDepartmentRepo,
+            UnitRepository unitRepo,
+            PriceLevelRepository priceLevelRepo,
+            @Qualifier("applicationTaskExecutor") TaskExecutor executor,
+            @Value("${dashboard.cache.ttl:30s}") Duration ttl,
+            @Value("${dashboard.cache.stale-while-revalidate:5m}") Duration staleWhileRevalidate,
+            @Value("${dashboard.low-stock-threshold:5}") int lowStockThreshold,
+            @Value("${dashboard.list-size:5}") int listSize
+    ) {
+        this.productRepo = productRepo;
+        this.brandRepo = brandRepo;
+        this.departmentRepo = departmentRepo;
+        this.subDepartmentRepo = subDepartmentRepo;
+        this.unitRepo = unitRepo;
+        this.priceLevelRepo = priceLevelRepo;
+        this.executor = executor;
+        this.ttlMillis = ttl.toMillis();
+        this.staleMillis = staleWhileRevalidate.toMillis();
+        this.lowStockThreshold = lowStockThreshold;
+        this.listSize = listSize;
+    }
+
+    // ---------------- SUMMARY (CACHED) ----------------
+    public DashboardSummary summary() {
+
+        CachedSummary current = cached;
+        long now = System.currentTimeMillis();
+
+        if (current != null) {
+            long age = now - current.computedAt;
+
+            if (age < ttlMillis) {
+                return current.summary;
+            }
+
+            if (age < ttlMillis + staleMillis) {
+                refreshInBackground();
+                return current.summary;
+            }
+        }
+
+        return recompute(now);
+    }
+
+    // ---------------- REFRESH ----------------
+    private DashboardSummary recompute(long requestedAt) {
+
+        computeLock.lock();
+        try {
+            // Another caller may have refreshed while we waited
+            CachedSummary current = cached;
+            if (current != null && current.computedAt >= requestedAt - ttlMillis) {
+                return current.summary;
+            }
+
+            DashboardSummary summary = compute();
+            cached = new CachedSummary(summary, System.currentTimeMillis());
+            return summary;
+        } finally {
+            computeLock.unlock();
+        }
+    }
+
+    private void refreshInBackground() {
+
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    recompute(System.currentTimeMillis());
+                } catch (RuntimeException e) {
+                    log.warn("Dashboard refresh failed, serving stale summary", e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            log.warn("Dashboard refresh could not be scheduled", e);
+        }
+    }
+
+    // ---------------- AGGREGATES ----------------
+    private DashboardSummary compute() {
+
+        ProductRepository.StockStats stats = productRepo.stockStats(lowStockThreshold);
+
+        DashboardCounts counts = new DashboardCounts(
+                brandRepo.countByActiveTrue(),
+                departmentRepo.countByActiveTrue(),
+                subDepartmentRepo.countByActiveTrue(),
+                stats.getProducts(),
+                unitRepo.countByActiveTrue(),
+                priceLevelRepo.countByActiveTrue(),
+                stats.getTotalStock(),
+                stats.getLowStock(),
+                stats.getOutOfStock()
+        );
+
+        Map<String, Long> byDepartment = new LinkedHashMap<>();
+        for (ProductRepository.DepartmentCount row : productRepo.countActiveByDepartment()) {
+            byDepartment.put(row.getName(), row.getTotal());
+        }
+
+        Limit limit = Limit.of(listSize);
+
+        return new DashboardSummary(
+                counts,
+                byDepartment,
+                snapshots(productRepo.findByActiveTrueAndStockLessThanEqualOrderByStockAscIdAsc(
+                        lowStockThreshold, limit)),
+                snapshots(productRepo.findByActiveTrueAndStockLessThanEqualOrderByStockAscIdAsc(
+                        0, limit)),
+                snapshots(productRepo.findByActiveTrueOrderByIdDesc(limit)),
+                LocalDateTime.now()
+        );
+    }
+
+    private List<ProductSnapshot> snapshots(List<Product> products) {
+        return products.stream()
+                .map(ProductSnapshot::of)
+                .toList();
+    }
+
+    private record CachedSummary(DashboardSummary summary, long computedAt) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.inventory.registries.dashboard.dto;
+
+public class DashboardCounts {
+
+    private final long brands;
+    private final long departments;
+    private final long subDepartments;
+    private final long products;
+    private final long units;
+    private final long priceLevels;
+    private final long totalStockQty;
+    private final long lowStock;
+    private final long outOfStock;
+
+    public DashboardCounts(
+            long brands,
+            long departments,
+            long subDepartments,
+            long products,
+            long units,
+            long priceLevels,
+            long totalStockQty,
+            long lowStock,
+            long outOfStock
+    ) {
+        this.brands = brands;
+        this.departments = departments;
+        this.subDepartments = subDepartments;
+        this.products = products;
+        this.units = units;
+        this.priceLevels = priceLevels;
+        this.totalStockQty = totalStockQty;
+        this.lowStock = lowStock;
+        this.outOfStock = outOfStock;
+    }
+
+    public long getBrands() { return brands; }
+    public long getDepartments() { return departments; }
+    public long getSubDepartments() { return subDepartments; }
+    public long getProducts() { return products; }
+    public long getUnits() { return units; }
+    public long getPriceLevels() { return priceLevels; }
+    public long getTotalStockQty() { return totalStockQty; }
+    public long getLowStock() { return lowStock; }
+    public long getOutOfStock() { return outOfStock; }
+}
@@ -0,0 +1,38 @@
+package com.inventory.registries.dashboard.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public class DashboardSummary {
+
+    private final DashboardCounts counts;
+    private final Map<String, Long> productsByDepartment;
+    private final List<ProductSnapshot> lowStockItems;
+    private final List<ProductSnapshot> outOfStockItems;
+    private final List<ProductSnapshot> recentProducts;
+    private final LocalDateTime generatedAt;
+
+    public DashboardSummary(
+            DashboardCounts counts,
+            Map<String, Long> productsByDepartment,
+            List<ProductSnapshot> lowStockItems,
+            List<ProductSnapshot> outOfStockItems,
+            List<ProductSnapshot> recentProducts,
+            LocalDateTime generatedAt
+    ) {
+        this.counts = counts;
+        this.productsByDepartment = productsByDepartment;
+        this.lowStockItems = lowStockItems;
+        this.outOfStockItems = outOfStockItems;
+        this.recentProducts = recentProducts;
+        this.generatedAt = generatedAt;
+    }
+
+    public DashboardCounts getCounts() { return counts; }
+    public Map<String, Long> getProductsByDepartment() { return productsByDepartment; }
+    public List<ProductSnapshot> getLowStockItems() { return lowStockItems; }
+    public List<ProductSnapshot> getOutOfStockItems() { return outOfStockItems; }
+    public List<ProductSnapshot> getRecentProducts() { return recentProducts; }
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+}
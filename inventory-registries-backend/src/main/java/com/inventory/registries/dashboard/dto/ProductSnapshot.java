@@ -0,0 +1,40 @@
+package com.inventory.registries.dashboard.dto;
+
+import com.inventory.registries.product.Product;
+
+/**
+ * Flat product row used by the dashboard tables.
+ * Carries only scalar columns so no lazy association is touched.
+ */
+public class ProductSnapshot {
+
+    private final Long id;
+    private final String code;
+    private final String name;
+    private final Double sellingPrice;
+    private final Integer stock;
+
+    public ProductSnapshot(Long id, String code, String name, Double sellingPrice, Integer stock) {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+        this.sellingPrice = sellingPrice;
+        this.stock = stock;
+    }
+
+    public static ProductSnapshot of(Product p) {
+        return new ProductSnapshot(
+                p.getId(),
+                p.getCode(),
+                p.getName(),
+                p.getSellingPrice(),
+                p.getStock()
+        );
+    }
+
+    public Long getId() { return id; }
+    public String getCode() { return code; }
+    public String getName() { return name; }
+    public Double getSellingPrice() { return sellingPrice; }
+    public Integer getStock() { return stock; }
+}
@@ -1,19 +1,23 @@
 package com.inventory.registries.department;
 
-import java.util.List;
-
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import com.inventory.registries.cache.ConditionalGet;
+import com.inventory.registries.cache.RegistryVersions;
 
 @RestController
 @RequestMapping("/api/departments")
 public class DepartmentController {
 
     private final DepartmentService service;
+    private final RegistryVersions versions;
 
-    public DepartmentController(DepartmentService service) {
+    public DepartmentController(DepartmentService service, RegistryVersions versions) {
         this.service = service;
+        this.versions = versions;
     }
 
     @PostMapping
@@ -33,8 +37,8 @@ public class DepartmentController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER','STAFF')")
-    public ResponseEntity<List<Department>> list() {
-        return ResponseEntity.ok(service.list());
+    public ResponseEntity<byte[]> list(WebRequest request) {
+        return ConditionalGet.json(request, versions.departments(), service::listJson);
     }
 
     @DeleteMapping("/{id}")
@@ -14,4 +14,6 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     Optional<Department> findByIdAndActiveTrue(Long id);
 
     boolean existsByIdAndActiveTrue(Long id);
+
+    long countByActiveTrue();
 }
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.inventory.registries.cache.ReferenceDataCache;
 import com.inventory.registries.common.exception.DuplicateResourceException;
 import com.inventory.registries.common.exception.ResourceNotFoundException;
 import com.inventory.registries.subdepartment.SubDepartmentRepository;
@@ -13,11 +14,14 @@ public class DepartmentService {
 
     private final DepartmentRepository repo;
     private final SubDepartmentRepository subRepo;
+    private final ReferenceDataCache cache;
 
     public DepartmentService(DepartmentRepository repo,
-                             SubDepartmentRepository subRepo) {
+                             SubDepartmentRepository subRepo,
+                             ReferenceDataCache cache) {
         this.repo = repo;
         this.subRepo = subRepo;
+        this.cache = cache;
     }
 
     public Department create(Department department) {
@@ -29,7 +33,9 @@ public class DepartmentService {
 
         department.setName(name);
         department.setActive(true);
-        return repo.save(department);
+        Department saved = repo.save(department);
+        cache.departments().invalidate();
+        return saved;
     }
 
     public Department update(Long id, Department data) {
@@ -44,13 +50,19 @@ public class DepartmentService {
         }
 
         dept.setName(newName);
-        return repo.save(dept);
+        Department saved = repo.save(dept);
+        invalidate();
+        return saved;
     }
 
     public List<Department> list() {
         return repo.findAllByActiveTrue();
     }
 
+    public byte[] listJson() {
+        return cache.departments().listJson("all", repo::findAllByActiveTrue);
+    }
+
     public void delete(Long id) {
         Department dept = repo.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found"));
@@ -63,5 +75,12 @@ public class DepartmentService {
 
         dept.setActive(false);
         repo.save(dept);
+        invalidate();
+    }
+
+    // Sub-department JSON embeds the department, so it goes stale too
+    private void invalidate() {
+        cache.departments().invalidate();
+        cache.subDepartments().invalidate();
     }
 }
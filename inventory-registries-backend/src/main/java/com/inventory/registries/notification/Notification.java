@@ -2,6 +2,8 @@ package com.inventory.registries.notification;
 
 import java.time.LocalDateTime;
 
+import com.inventory.registries.security.Role;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,14 +11,25 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
+/**
+ * Addressed either to one user ({@code recipientUsername}) or to everyone in
+ * a role ({@code recipientRole}). A role notification is stored once; who has
+ * read it is kept per user in {@link NotificationReadMarker}, and
+ * {@code isRead} only applies to user notifications.
+ */
 @Entity
+// Partitioned by month, so its indexes live in schema-postgresql.sql
 @Table(name = "notifications")
 public class Notification {
 
+    // One id per insert, not pooled: read markers and stream replay need ids
+    // to follow insert order across instances (see NotificationReadMarker)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_ids_seq")
+    @SequenceGenerator(name = "notification_ids_seq", sequenceName = "notification_ids_seq", allocationSize = 1)
     private Long id;
 
     private String title;
@@ -32,8 +45,14 @@ public class Notification {
 
     private String recipientUsername;
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Role recipientRole;
+
     private boolean isRead = false;
 
+    // Partition key (see NotificationPartitions)
+    @Column(nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
 	public Long getId() {
@@ -92,6 +111,14 @@ public class Notification {
 		this.recipientUsername = recipientUsername;
 	}
 
+	public Role getRecipientRole() {
+		return recipientRole;
+	}
+
+	public void setRecipientRole(Role recipientRole) {
+		this.recipientRole = recipientRole;
+	}
+
 	public boolean isRead() {
 		return isRead;
 	}
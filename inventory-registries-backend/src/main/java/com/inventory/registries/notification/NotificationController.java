@@ -2,9 +2,17 @@ package com.inventory.registries.notification;
 
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.inventory.registries.common.CursorPage;
+import com.inventory.registries.notification.dto.NotificationReadRequest;
+import com.inventory.registries.notification.dto.NotificationView;
+import com.inventory.registries.notification.dto.UnreadCount;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -18,24 +26,60 @@ public class NotificationController {
 
     // ✅ LIST logged-in user's notifications
     @GetMapping
-    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
-    public ResponseEntity<List<Notification>> myNotifications() {
-        return ResponseEntity.ok(service.getMyNotifications());
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<List<NotificationView>> myNotifications(Authentication authentication) {
+        return ResponseEntity.ok(service.getMyNotifications(authentication));
+    }
+
+    // PAGE (KEYSET, newest first) - selected whenever ?limit= is present
+    @GetMapping(params = "limit")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<CursorPage<NotificationView>> page(
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(service.page(authentication, cursor, limit));
+    }
+
+    // UNREAD BADGE
+    @GetMapping("/unread-count")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<UnreadCount> unreadCount(Authentication authentication) {
+        return ResponseEntity.ok(service.unreadCount(authentication));
+    }
+
+    // LIVE STREAM (SSE): pushes new notifications; Last-Event-ID resumes
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            Authentication authentication) {
+
+        return service.subscribe(authentication, lastEventId);
     }
 
     // ✅ MARK AS READ
     @PutMapping("/{id}/read")
-    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
-    public ResponseEntity<Void> markRead(@PathVariable Long id) {
-        service.markRead(id);
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<Void> markRead(@PathVariable Long id, Authentication authentication) {
+        service.markRead(id, authentication);
         return ResponseEntity.ok().build();
     }
 
+    // BULK MARK AS READ: ids, or everything up to a time
+    @PutMapping("/read")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<Void> markRead(@RequestBody NotificationReadRequest req, Authentication authentication) {
+        service.markRead(req, authentication);
+        return ResponseEntity.noContent().build();
+    }
+
     // ✅ DELETE
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        service.delete(id);
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<Void> delete(@PathVariable Long id, Authentication authentication) {
+        service.delete(id, authentication);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,48 @@
+package com.inventory.registries.notification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Opaque keyset cursor for the inbox, newest first: the last row's
+ * {@code createdAt \n id}, base64url without padding.
+ */
+record NotificationCursor(LocalDateTime createdAt, long id) {
+
+    // Before every row: the first page
+    static final NotificationCursor START =
+            new NotificationCursor(LocalDateTime.of(9999, 1, 1, 0, 0), Long.MAX_VALUE);
+
+    String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((createdAt + "\n" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static NotificationCursor decode(String cursor) {
+
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\n", 2);
+            if (parts.length != 2) {
+                throw invalid();
+            }
+            return new NotificationCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    private static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+}
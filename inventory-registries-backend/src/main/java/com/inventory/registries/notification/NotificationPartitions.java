@@ -0,0 +1,225 @@
+package com.inventory.registries.notification;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Monthly range partitions of {@code notifications} on {@code created_at}, and
+ * the retention job that ages them out.
+ *
+ * Hibernate creates {@code notifications} as a plain table; the first run
+ * rebuilds it as a partitioned one (primary key {@code (id, created_at)},
+ * since a partitioned key must include the partition column) and copies the
+ * rows over. After that every run keeps {@link #monthsAhead} future months
+ * created and, for each month older than the retention window, drops the
+ * partition or, with {@code archive}, detaches it as a standalone
+ * {@code notifications_archive_yyyy_mm} table. Either way it is one catalog
+ * change instead of a DELETE per row, so nothing is left for vacuum.
+ *
+ * Before a month goes, the unread counters of its recipients are lowered and
+ * its ids are taken out of the read markers, both set-based over that one
+ * partition.
+ *
+ * Off with {@code notifications.partitions.enabled=false}, for databases
+ * other than Postgres; the table then simply stays unpartitioned.
+ */
+@Component
+@ConditionalOnProperty(name = "notifications.partitions.enabled", matchIfMissing = true)
+public class NotificationPartitions {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationPartitions.class);
+
+    private static final String TABLE = "notifications";
+    private static final String LEGACY = "notifications_unpartitioned";
+    private static final String DEFAULT_PARTITION = "notifications_default";
+    private static final Pattern PARTITION = Pattern.compile("notifications_p(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    // One maintainer at a time across instances
+    private static final String LOCK_SQL = "select pg_try_advisory_xact_lock(hashtext('notification_partitions'))";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final int retentionMonths;
+    private final int monthsAhead;
+    private final boolean archive;
+
+    public NotificationPartitions(
+            JdbcTemplate jdbc,
+            TransactionTemplate tx,
+            @Value("${notifications.retention.months:12}") int retentionMonths,
+            @Value("${notifications.partitions.ahead:3}") int monthsAhead,
+            @Value("${notifications.retention.archive:false}") boolean archive
+    ) {
+        this.jdbc = jdbc;
+        this.tx = tx;
+        this.retentionMonths = retentionMonths;
+        this.monthsAhead = monthsAhead;
+        this.archive = archive;
+    }
+
+    // ---------------- SCHEDULE ----------------
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${notifications.retention.cron:0 30 3 * * *}")
+    public void maintain() {
+
+        YearMonth now = YearMonth.now();
+        try {
+            if (!isPartitioned()) {
+                locked(this::partitionTable);
+            }
+            for (int i = 0; i <= monthsAhead; i++) {
+                createAhead(now.plusMonths(i));
+            }
+            YearMonth oldestKept = now.minusMonths(retentionMonths);
+            for (YearMonth month : partitions()) {
+                if (month.isBefore(oldestKept)) {
+                    locked(() -> expire(month));
+                }
+            }
+        } catch (DataAccessException e) {
+            // Retried on the next run
+            log.warn("Notification partition maintenance failed: {}", e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    // ---------------- ONE-TIME CONVERSION ----------------
+    private void partitionTable() {
+
+        long start = System.nanoTime();
+
+        // Read before the rename, so they name the new table; replayed after the copy
+        List<String> indexes = jdbc.queryForList("""
+                select indexdef from pg_indexes
+                where schemaname = current_schema() and tablename = ? and indexname <> ?
+                """, String.class, TABLE, TABLE + "_pkey");
+
+        jdbc.execute("lock table " + TABLE + " in access exclusive mode");
+        jdbc.execute("alter table " + TABLE + " rename to " + LEGACY);
+        jdbc.execute("create table " + TABLE + " (like " + LEGACY
+                + " including defaults including constraints) partition by range (created_at)");
+        jdbc.execute("update " + LEGACY + " set created_at = now() where created_at is null");
+        jdbc.execute("alter table " + TABLE + " alter column created_at set not null");
+
+        LocalDate oldest = jdbc.queryForObject("select min(created_at)::date from " + LEGACY, LocalDate.class);
+        YearMonth month = oldest != null ? YearMonth.from(oldest) : YearMonth.now();
+        for (; !month.isAfter(YearMonth.now()); month = month.plusMonths(1)) {
+            createPartition(month);
+        }
+        jdbc.execute("create table " + DEFAULT_PARTITION + " partition of " + TABLE + " default");
+
+        int rows = jdbc.update("insert into " + TABLE + " select * from " + LEGACY);
+        jdbc.execute("drop table " + LEGACY);
+
+        jdbc.execute("alter table " + TABLE + " add constraint " + TABLE + "_pkey primary key (id, created_at)");
+        for (String index : indexes) {
+            jdbc.execute(index);
+        }
+
+        log.info("Notifications partitioned by month: {} rows moved in {} ms",
+                rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // ---------------- PARTITIONS ----------------
+    private boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbc.queryForObject("""
+                select c.relkind = 'p' from pg_class c
+                where c.oid = to_regclass(?)
+                """, Boolean.class, TABLE));
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbc.execute("create table if not exists " + partition(month) + " partition of " + TABLE
+                + " for values from ('" + month.atDay(1) + "') to ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    // Rows that landed in the default partition for this month block it; they stay there
+    private void createAhead(YearMonth month) {
+        try {
+            createPartition(month);
+        } catch (DataAccessException e) {
+            log.warn("Notification partition for {} not created: {}", month, e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    // Month partitions currently attached, by name
+    private List<YearMonth> partitions() {
+        return jdbc.queryForList("""
+                select c.relname from pg_inherits i
+                join pg_class c on c.oid = i.inhrelid
+                where i.inhparent = to_regclass(?)
+                order by c.relname
+                """, String.class, TABLE).stream()
+                .map(PARTITION::matcher)
+                .filter(Matcher::matches)
+                .map(m -> YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2))))
+                .toList();
+    }
+
+    // ---------------- RETENTION ----------------
+    private void expire(YearMonth month) {
+
+        String name = partition(month);
+
+        // Fail fast rather than queue the inbox behind the detach
+        jdbc.execute("set local lock_timeout = '5s'");
+
+        int counters = jdbc.update("""
+                update notification_unread_counters c
+                set unread = greatest(c.unread - x.n, 0)
+                from (select recipient_username, count(*) as n from %s
+                      where not is_read and recipient_username is not null
+                      group by recipient_username) x
+                where c.username = x.recipient_username
+                """.formatted(name));
+
+        // Arrays stay sorted; ids of the expiring month no longer count as read or hidden
+        int markers = jdbc.update("""
+                update notification_read_markers m
+                set read_ids = array(select x from unnest(m.read_ids) x
+                                     where not exists (select 1 from %1$s p where p.id = x) order by x),
+                    hidden_ids = array(select x from unnest(m.hidden_ids) x
+                                       where not exists (select 1 from %1$s p where p.id = x) order by x)
+                where exists (select 1 from unnest(m.read_ids || m.hidden_ids) x
+                              where exists (select 1 from %1$s p where p.id = x))
+                """.formatted(name));
+
+        if (archive) {
+            jdbc.execute("alter table " + TABLE + " detach partition " + name);
+            jdbc.execute("alter table " + name + " rename to notifications_archive_" + month.format(SUFFIX));
+        } else {
+            jdbc.execute("drop table " + name);
+        }
+
+        log.info("Notifications for {} {} ({} counters, {} read markers adjusted)",
+                month, archive ? "archived" : "dropped", counters, markers);
+    }
+
+    private void locked(Runnable work) {
+        tx.executeWithoutResult(status -> {
+            if (Boolean.TRUE.equals(jdbc.queryForObject(LOCK_SQL, Boolean.class))) {
+                work.run();
+            }
+        });
+    }
+
+    private static String partition(YearMonth month) {
+        return "notifications_p" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,58 @@
+package com.inventory.registries.notification;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.inventory.registries.security.Role;
+
+/**
+ * Single "mark read" clicks waiting to be written. Clicks by one user
+ * coalesce into one entry; {@link NotificationService#flushReads()} drains
+ * the lot and writes each user's ids as one set-based update.
+ */
+@Component
+public class NotificationReadBuffer {
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    public void add(String username, Set<Role> roles, long id) {
+        pending.compute(username, (u, p) -> {
+            Pending next = p != null ? p : new Pending(roles, new HashSet<>());
+            next.ids().add(id);
+            return next;
+        });
+    }
+
+    /** Takes everything buffered; clicks arriving meanwhile start a new entry. */
+    public Map<String, Pending> drain() {
+        Map<String, Pending> taken = new HashMap<>();
+        for (String username : pending.keySet()) {
+            Pending p = pending.remove(username);
+            if (p != null) {
+                taken.put(username, p);
+            }
+        }
+        return taken;
+    }
+
+    public Pending drain(String username) {
+        return pending.remove(username);
+    }
+
+    /** Puts back a batch whose write failed, merged with anything newer. */
+    public void restore(String username, Pending failed) {
+        pending.merge(username, failed, (newer, old) -> {
+            newer.ids().addAll(old.ids());
+            return newer;
+        });
+    }
+
+    // ids is changed only inside compute/merge or after remove, so a plain set will do
+    public record Pending(Set<Role> roles, Set<Long> ids) {
+    }
+}
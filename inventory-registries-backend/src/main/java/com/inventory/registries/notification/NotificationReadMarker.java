@@ -0,0 +1,131 @@
+package com.inventory.registries.notification;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * One user's read state for role notifications, created on the user's first
+ * read. Every role notification up to {@code readThrough} counts as read;
+ * above it, {@code readIds} holds the ones read out of order. Marking one read
+ * moves the watermark over any run of read ids right above it, so the set
+ * stays small however many notifications the user has read.
+ * {@code hiddenIds} are role notifications the user deleted from their inbox.
+ *
+ * Ids are taken before commit, so a lower id can still become visible after a
+ * higher one; the watermark would count it as read unseen. It is therefore
+ * only moved over ids old enough to be settled (see NotificationService),
+ * and recent reads stay in {@code readIds} until then.
+ */
+@Entity
+@Table(name = "notification_read_markers")
+public class NotificationReadMarker {
+
+    private static final Long[] NONE = new Long[0];
+
+    @Id
+    private String username;
+
+    @Column(nullable = false)
+    private long readThrough;
+
+    // Sorted ascending, all above readThrough
+    @Column(nullable = false)
+    private Long[] readIds = NONE;
+
+    // Sorted ascending
+    @Column(nullable = false)
+    private Long[] hiddenIds = NONE;
+
+    protected NotificationReadMarker() {
+    }
+
+    public NotificationReadMarker(String username) {
+        this.username = username;
+    }
+
+    public boolean isRead(long id) {
+        return id <= readThrough || Arrays.binarySearch(readIds, id) >= 0;
+    }
+
+    public boolean isHidden(long id) {
+        return Arrays.binarySearch(hiddenIds, id) >= 0;
+    }
+
+    /** @return false when the id was already read */
+    public boolean markRead(long id) {
+        if (isRead(id)) {
+            return false;
+        }
+        readIds = insert(readIds, id);
+        return true;
+    }
+
+    /** Bulk {@link #markRead}; follow with {@link #compact}. */
+    public void markReadAll(Collection<Long> ids) {
+        readIds = Stream.concat(Arrays.stream(readIds), ids.stream().filter(id -> id > readThrough))
+                .distinct()
+                .sorted()
+                .toArray(Long[]::new);
+    }
+
+    public void hide(long id) {
+        markRead(id);
+        if (!isHidden(id)) {
+            hiddenIds = insert(hiddenIds, id);
+        }
+    }
+
+    /**
+     * Moves the watermark up through the read ids.
+     *
+     * @param above the user's role notification ids above {@code readThrough},
+     *              ascending, up to the first one that may still have an
+     *              uncommitted lower neighbour; at most {@code readIds.length}
+     *              are needed
+     */
+    public void compact(List<Long> above) {
+        int r = 0;
+        for (Long id : above) {
+            // Ids below the next visible one were purged or are no longer addressed to the user
+            while (r < readIds.length && readIds[r] < id) {
+                r++;
+            }
+            if (r == readIds.length || readIds[r].longValue() != id) {
+                break;
+            }
+            readThrough = id;
+            r++;
+        }
+        if (r > 0) {
+            readIds = Arrays.copyOfRange(readIds, r, readIds.length);
+        }
+    }
+
+    private static Long[] insert(Long[] sorted, long id) {
+        int at = -Arrays.binarySearch(sorted, id) - 1;
+        Long[] grown = new Long[sorted.length + 1];
+        System.arraycopy(sorted, 0, grown, 0, at);
+        grown[at] = id;
+        System.arraycopy(sorted, at, grown, at + 1, sorted.length - at);
+        return grown;
+    }
+
+	public String getUsername() {
+		return username;
+	}
+
+	public long getReadThrough() {
+		return readThrough;
+	}
+
+	public int getOutOfOrderCount() {
+		return readIds.length;
+	}
+}
@@ -0,0 +1,28 @@
+package com.inventory.registries.notification;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+public interface NotificationReadMarkerRepository extends JpaRepository<NotificationReadMarker, String> {
+
+    // Lets two first writes for one user both lock the same row. Written to
+    // run on H2 as well: no conflict target, standard empty-array casts
+    @Modifying
+    @Query(value = """
+            insert into notification_read_markers (username, read_through, read_ids, hidden_ids)
+            values (:username, 0, cast(array[] as bigint array), cast(array[] as bigint array))
+            on conflict do nothing
+            """, nativeQuery = true)
+    void ensure(@Param("username") String username);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from NotificationReadMarker m where m.username = :username")
+    Optional<NotificationReadMarker> findLocked(@Param("username") String username);
+}
@@ -1,12 +1,121 @@
 package com.inventory.registries.notification;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import com.inventory.registries.security.Role;
+
 @Repository
 public interface NotificationRepository
 extends JpaRepository<Notification, Long> {
 
 List<Notification> findByRecipientUsernameOrderByCreatedAtDesc(String username);
+
+    // A user's own notifications plus those addressed to their roles
+    @Query("""
+            select n from Notification n
+            where n.recipientUsername = :username
+               or n.recipientRole in :roles
+            order by n.createdAt desc, n.id desc
+            """)
+    List<Notification> findInbox(@Param("username") String username,
+                                 @Param("roles") Collection<Role> roles);
+
+    // ---------------- INBOX PAGES ----------------
+    // User and role rows are paged separately, each straight off its index,
+    // and merged by the service
+
+    @Query("""
+            select n from Notification n
+            where n.recipientUsername = :username
+              and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id))
+            order by n.createdAt desc, n.id desc
+            """)
+    List<Notification> findUserPage(@Param("username") String username,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") long id,
+                                    Limit limit);
+
+    @Query("""
+            select n from Notification n
+            where n.recipientRole in :roles
+              and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id))
+            order by n.createdAt desc, n.id desc
+            """)
+    List<Notification> findRolePage(@Param("roles") Collection<Role> roles,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") long id,
+                                    Limit limit);
+
+    // ---------------- MARK READ ----------------
+    // Counts only rows that were unread, for the unread counter
+    @Modifying
+    @Query("""
+            update Notification n set n.isRead = true
+            where n.id in :ids and n.recipientUsername = :username and n.isRead = false
+            """)
+    int markReadIn(@Param("ids") Collection<Long> ids, @Param("username") String username);
+
+    @Modifying
+    @Query("""
+            update Notification n set n.isRead = true
+            where n.recipientUsername = :username and n.createdAt <= :at and n.isRead = false
+            """)
+    int markReadUpTo(@Param("username") String username, @Param("at") LocalDateTime at);
+
+    @Query("select n.id from Notification n where n.id in :ids and n.recipientRole in :roles")
+    List<Long> findRoleIdsIn(@Param("ids") Collection<Long> ids, @Param("roles") Collection<Role> roles);
+
+    // Role notifications above a read watermark created at or before a time
+    @Query("""
+            select n.id from Notification n
+            where n.recipientRole in :roles and n.id > :afterId and n.createdAt <= :at
+            order by n.id
+            """)
+    List<Long> findRoleIdsUpTo(@Param("roles") Collection<Role> roles,
+                               @Param("afterId") long afterId,
+                               @Param("at") LocalDateTime at);
+
+    // Stream resume: what the user missed after a given event id, plus what
+    // was created from :since on, which may have committed after that event.
+    // Newest first, so a cap keeps the latest
+    @Query("""
+            select n from Notification n
+            where (n.recipientUsername = :username or n.recipientRole in :roles)
+              and (n.id > :afterId or n.createdAt >= :since)
+            order by n.createdAt desc, n.id desc
+            """)
+    List<Notification> findInboxSince(@Param("username") String username,
+                                      @Param("roles") Collection<Role> roles,
+                                      @Param("afterId") long afterId,
+                                      @Param("since") LocalDateTime since,
+                                      Limit limit);
+
+    @Query("select n.createdAt from Notification n where n.id = :id")
+    Optional<LocalDateTime> findCreatedAt(@Param("id") long id);
+
+    // Read-marker compaction and the unread count: the role notifications
+    // right above a watermark
+    @Query("""
+            select n.id as id, n.createdAt as createdAt from Notification n
+            where n.recipientRole in :roles and n.id > :afterId
+            order by n.id
+            """)
+    List<RoleId> findRoleIdsAfter(@Param("roles") Collection<Role> roles,
+                                  @Param("afterId") long afterId,
+                                  Limit limit);
+
+    interface RoleId {
+        Long getId();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -1,20 +1,79 @@
 package com.inventory.registries.notification;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.inventory.registries.common.CursorPage;
+import com.inventory.registries.common.TransactionHooks;
+import com.inventory.registries.notification.dto.NotificationReadRequest;
+import com.inventory.registries.notification.dto.NotificationView;
+import com.inventory.registries.notification.dto.UnreadCount;
+import com.inventory.registries.security.Role;
+
+import jakarta.transaction.Transactional;
 
 @Service
 public class NotificationService {
 
+    private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+
+    private static final int MAX_REPLAY = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_READ_IDS = 1000;
+    private static final int MAX_UNREAD_COUNT = 999;
+
+    private static final Comparator<Notification> NEWEST_FIRST =
+            Comparator.comparing(Notification::getCreatedAt)
+                    .thenComparing(Notification::getId)
+                    .reversed();
+
     private final NotificationRepository repo;
+    private final NotificationReadMarkerRepository markerRepo;
+    private final NotificationUnreadCounterRepository counterRepo;
+    private final NotificationStream stream;
+    private final NotificationReadBuffer readBuffer;
+    private final TransactionTemplate tx;
+    private final Duration settle;
 
-    public NotificationService(NotificationRepository repo) {
+    public NotificationService(NotificationRepository repo,
+                               NotificationReadMarkerRepository markerRepo,
+                               NotificationUnreadCounterRepository counterRepo,
+                               NotificationStream stream,
+                               NotificationReadBuffer readBuffer,
+                               TransactionTemplate tx,
+                               @Value("${notifications.read.settle:1m}") Duration settle) {
         this.repo = repo;
+        this.markerRepo = markerRepo;
+        this.counterRepo = counterRepo;
+        this.stream = stream;
+        this.readBuffer = readBuffer;
+        this.tx = tx;
+        this.settle = settle;
     }
 
     // create notification for ONE user
+    @Transactional
     public void send(
             String username,
             String title,
@@ -23,39 +82,297 @@ public class NotificationService {
             String referenceType,
             Long referenceId
     ) {
+        // No recipient (a record created without a logged-in user): nobody
+        // could read it, and the counter row would fail the caller's transaction
+        if (username == null) {
+            return;
+        }
+
         Notification n = new Notification();
         n.setRecipientUsername(username);
+        fill(n, title, message, type, referenceType, referenceId);
+        push(repo.save(n));
+
+        counterRepo.ensure(username);
+        counterRepo.add(username, 1);
+    }
+
+    // create ONE notification for everyone in a role; read state is per user
+    public void broadcast(
+            Role role,
+            String title,
+            String message,
+            NotificationType type,
+            String referenceType,
+            Long referenceId
+    ) {
+        Notification n = new Notification();
+        n.setRecipientRole(role);
+        fill(n, title, message, type, referenceType, referenceId);
+        push(repo.save(n));
+    }
+
+    private static void fill(Notification n, String title, String message, NotificationType type,
+                             String referenceType, Long referenceId) {
         n.setTitle(title);
         n.setMessage(message);
         n.setType(type);
         n.setReferenceType(referenceType);
         n.setReferenceId(referenceId);
-        repo.save(n);
     }
 
-    // fetch logged-in user's notifications
-    public List<Notification> myNotifications(String username) {
-        return repo.findByRecipientUsernameOrderByCreatedAtDesc(username);
+    // Open streams only hear of a notification once it is committed
+    private void push(Notification n) {
+        NotificationView view = view(n, false);
+        TransactionHooks.afterCommit(() -> stream.publish(view));
+    }
+
+    // live stream; lastEventId (the last notification id seen) replays what was missed.
+    // Ids are not commit-ordered, so the replay also repeats what was created
+    // within the settle window before that event; clients drop ids they have
+    public SseEmitter subscribe(Authentication auth, Long lastEventId) {
+
+        String username = auth.getName();
+        Set<Role> roles = roles(auth);
+
+        return stream.subscribe(username, roles, () -> {
+            if (lastEventId == null) {
+                return List.of();
+            }
+            // Gone (deleted or purged): fall back to the ids above it
+            LocalDateTime since = repo.findCreatedAt(lastEventId)
+                    .map(at -> at.minus(settle))
+                    .orElse(NotificationCursor.START.createdAt());
+            List<Notification> missed = new ArrayList<>(repo.findInboxSince(
+                    username, roles, lastEventId, since, Limit.of(MAX_REPLAY)));
+            Collections.reverse(missed);
+            return views(username, missed);
+        });
+    }
+
+    // keyset page of the inbox, newest first
+    public CursorPage<NotificationView> page(Authentication auth, String cursor, int limit) {
+
+        String username = auth.getName();
+        Set<Role> roles = roles(auth);
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        flushReads(username);
+        NotificationCursor after = NotificationCursor.decode(cursor);
+
+        // size + 1 from each side is enough to fill the page and see if more follow
+        List<Notification> merged = new ArrayList<>(repo.findUserPage(
+                username, after.createdAt(), after.id(), Limit.of(size + 1)));
+        if (!roles.isEmpty()) {
+            merged.addAll(repo.findRolePage(
+                    roles, after.createdAt(), after.id(), Limit.of(size + 1)));
+        }
+        merged.sort(NEWEST_FIRST);
+
+        boolean more = merged.size() > size;
+        List<Notification> window = more ? merged.subList(0, size) : merged;
+
+        String next = null;
+        if (more) {
+            Notification last = window.get(window.size() - 1);
+            next = new NotificationCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(views(username, window), next, null);
     }
 
-    public void markRead(Long id) {
+    // Own notifications come from the counter. Role ones are those above the
+    // read watermark less the ones read out of order; for a user who never
+    // reads that is every retained role notification, so at most
+    // MAX_UNREAD_COUNT of them are counted and the badge shows "999+"
+    public UnreadCount unreadCount(Authentication auth) {
+
+        String username = auth.getName();
+        flushReads(username);
+        long own = counterRepo.findUnread(username).orElse(0L);
+
+        Set<Role> roles = roles(auth);
+        if (roles.isEmpty()) {
+            return new UnreadCount(own, false);
+        }
+        NotificationReadMarker marker = markerRepo.findById(username)
+                .orElseGet(() -> new NotificationReadMarker(username));
+        int readAbove = marker.getOutOfOrderCount();
+        int limit = MAX_UNREAD_COUNT + readAbove;
+        int above = repo.findRoleIdsAfter(roles, marker.getReadThrough(), Limit.of(limit)).size();
+        if (above == limit) {
+            return new UnreadCount(own + MAX_UNREAD_COUNT, true);
+        }
+        return new UnreadCount(own + Math.max(above - readAbove, 0), false);
+    }
+
+    // fetch logged-in user's notifications, role notifications included
+    public List<NotificationView> getMyNotifications(Authentication auth) {
+
+        String username = auth.getName();
+        flushReads(username);
+        return views(username, repo.findInbox(username, roles(auth)));
+    }
+
+    // Role notifications take the user's read state and drop out once hidden
+    private List<NotificationView> views(String username, List<Notification> rows) {
+
+        NotificationReadMarker marker = markerRepo.findById(username)
+                .orElseGet(() -> new NotificationReadMarker(username));
+
+        return rows.stream()
+                .filter(n -> n.getRecipientRole() == null || !marker.isHidden(n.getId()))
+                .map(n -> view(n, n.getRecipientRole() == null ? n.isRead() : marker.isRead(n.getId())))
+                .toList();
+    }
+
+    // ---------------- MARK READ ----------------
+    // Buffered; written with the user's other clicks by flushReads
+    public void markRead(Long id, Authentication auth) {
+        readBuffer.add(auth.getName(), roles(auth), id);
+    }
+
+    // Either explicit ids or everything created at or before upTo
+    @Transactional
+    public void markRead(NotificationReadRequest req, Authentication auth) {
+
+        String username = auth.getName();
+        Set<Role> roles = roles(auth);
+        List<Long> ids = req.getIds();
+        boolean byIds = ids != null && !ids.isEmpty();
+
+        if (byIds == (req.getUpTo() != null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Send either ids or upTo");
+        }
+
+        if (byIds) {
+            if (ids.size() > MAX_READ_IDS) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "At most " + MAX_READ_IDS + " ids per call");
+            }
+            applyReads(username, roles, new HashSet<>(ids));
+            return;
+        }
+
+        int read = repo.markReadUpTo(username, req.getUpTo());
+        if (read > 0) {
+            counterRepo.add(username, -read);
+        }
+        if (!roles.isEmpty()) {
+            NotificationReadMarker marker = lockMarker(username);
+            marker.markReadAll(repo.findRoleIdsUpTo(roles, marker.getReadThrough(), req.getUpTo()));
+            saveMarker(marker, roles);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.read.flush-interval:500ms}")
+    public void flushReads() {
+        readBuffer.drain().forEach(this::flush);
+    }
+
+    // A user's own reads are written before anything of theirs is read back
+    private void flushReads(String username) {
+        NotificationReadBuffer.Pending pending = readBuffer.drain(username);
+        if (pending != null) {
+            flush(username, pending);
+        }
+    }
+
+    private void flush(String username, NotificationReadBuffer.Pending pending) {
+        try {
+            tx.executeWithoutResult(status -> applyReads(username, pending.roles(), pending.ids()));
+        } catch (DataAccessException e) {
+            log.warn("Notification reads for {} not written, retrying: {}",
+                    username, e.getMostSpecificCause().getMessage());
+            readBuffer.restore(username, pending);
+        }
+    }
+
+    // One update for the user's own rows, one marker write for role rows
+    private void applyReads(String username, Set<Role> roles, Set<Long> ids) {
+
+        int read = repo.markReadIn(ids, username);
+        if (read > 0) {
+            counterRepo.add(username, -read);
+        }
+
+        if (!roles.isEmpty()) {
+            List<Long> roleIds = repo.findRoleIdsIn(ids, roles);
+            if (!roleIds.isEmpty()) {
+                NotificationReadMarker marker = lockMarker(username);
+                marker.markReadAll(roleIds);
+                saveMarker(marker, roles);
+            }
+        }
+    }
+
+    // A role notification is shared, so deleting only hides it for this user
+    @Transactional
+    public void delete(Long id, Authentication auth) {
         repo.findById(id).ifPresent(n -> {
-            n.setRead(true);
-            repo.save(n);
+            if (n.getRecipientRole() == null) {
+                if (auth.getName().equals(n.getRecipientUsername())) {
+                    repo.delete(n);
+                    if (!n.isRead()) {
+                        counterRepo.add(auth.getName(), -1);
+                    }
+                }
+            } else if (roles(auth).contains(n.getRecipientRole())) {
+                NotificationReadMarker marker = lockMarker(auth.getName());
+                marker.hide(id);
+                saveMarker(marker, roles(auth));
+            }
         });
     }
 
-    public void delete(Long id) {
-        repo.deleteById(id);
+    // ---------------- READ MARKERS ----------------
+    // Row-locked so concurrent writes for one user don't drop each other's ids
+    private NotificationReadMarker lockMarker(String username) {
+        markerRepo.ensure(username);
+        return markerRepo.findLocked(username).orElseThrow();
     }
-    public List<Notification> getMyNotifications() {
-        String username = SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getName();
 
-        return repo.findByRecipientUsernameOrderByCreatedAtDesc(username);
+    private void saveMarker(NotificationReadMarker marker, Set<Role> roles) {
+        if (marker.getOutOfOrderCount() > 0) {
+            marker.compact(settled(repo.findRoleIdsAfter(
+                    roles, marker.getReadThrough(), Limit.of(marker.getOutOfOrderCount())),
+                    LocalDateTime.now().minus(settle)));
+        }
+        markerRepo.save(marker);
     }
 
-}
+    // The ids the watermark may pass: those up to the first one created after
+    // the cutoff, whose lower neighbours may not all be committed yet
+    static List<Long> settled(List<NotificationRepository.RoleId> above, LocalDateTime cutoff) {
+        List<Long> ids = new ArrayList<>(above.size());
+        for (NotificationRepository.RoleId row : above) {
+            if (row.getCreatedAt().isAfter(cutoff)) {
+                break;
+            }
+            ids.add(row.getId());
+        }
+        return ids;
+    }
 
+    // Authorities are ROLE_<name>, taken from the token
+    static Set<Role> roles(Authentication auth) {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith("ROLE_")) {
+                try {
+                    roles.add(Role.valueOf(name.substring(5)));
+                } catch (IllegalArgumentException ignored) {
+                    // not a Role constant
+                }
+            }
+        }
+        return roles;
+    }
 
+    private static NotificationView view(Notification n, boolean read) {
+        return new NotificationView(
+                n.getId(), n.getTitle(), n.getMessage(), n.getType(),
+                n.getReferenceType(), n.getReferenceId(),
+                n.getRecipientUsername(), n.getRecipientRole(),
+                read, n.getCreatedAt());
+    }
+}
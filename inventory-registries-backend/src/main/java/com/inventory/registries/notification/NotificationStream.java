@@ -0,0 +1,215 @@
+package com.inventory.registries.notification;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.inventory.registries.notification.dto.NotificationView;
+import com.inventory.registries.security.Role;
+
+/**
+ * Live notification push over Server-Sent Events.
+ *
+ * Open streams are indexed by username and by role, so a push touches only
+ * the streams it is addressed to. Streams are servlet async requests: an idle
+ * one holds a socket and a small registry entry, not a thread. One scheduled
+ * heartbeat keeps proxies from closing idle streams and finds the ones whose
+ * client has gone.
+ *
+ * Each event's id is the notification id. A client that reconnects with
+ * {@code Last-Event-ID} is sent what it missed; the stream is registered
+ * before that replay, and the replay reaches back
+ * {@code notifications.read.settle} before the last event to catch ids that
+ * committed out of order. Events can therefore arrive twice (clients drop
+ * ids they already have); one is only lost if its transaction ran longer
+ * than that window, or if more than a replay's worth was missed.
+ */
+@Component
+public class NotificationStream {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationStream.class);
+
+    private static final String EVENT = "notification";
+    private static final long RECONNECT_MILLIS = 5_000;
+    private static final int MAX_STREAMS_PER_USER = 5;
+
+    private final Map<String, Set<Subscriber>> byUser = new ConcurrentHashMap<>();
+    private final Map<Role, Set<Subscriber>> byRole = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+
+    private final TaskExecutor executor;
+    private final long timeoutMillis;
+
+    public NotificationStream(
+            @Qualifier("applicationTaskExecutor") TaskExecutor executor,
+            @Value("${notifications.stream.timeout:30m}") Duration timeout
+    ) {
+        this.executor = executor;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    // ---------------- SUBSCRIBE ----------------
+    public SseEmitter subscribe(String username, Set<Role> roles, Supplier<List<NotificationView>> missed) {
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber sub = new Subscriber(username, roles, emitter);
+
+        emitter.onCompletion(() -> remove(sub));
+        // Completing here ends the request cleanly; the client reconnects
+        emitter.onTimeout(() -> {
+            remove(sub);
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(sub));
+
+        add(sub);
+
+        try {
+            emitter.send(SseEmitter.event().comment("connected").reconnectTime(RECONNECT_MILLIS));
+            for (NotificationView view : missed.get()) {
+                emitter.send(event(view));
+            }
+        } catch (IOException e) {
+            remove(sub);
+        }
+        return emitter;
+    }
+
+    // ---------------- PUSH ----------------
+    /** Sends off the caller's thread, so a slow client never holds up a commit. */
+    public void publish(NotificationView view) {
+
+        Collection<Subscriber> targets = view.getRecipientRole() != null
+                ? byRole.getOrDefault(view.getRecipientRole(), Set.of())
+                : byUser.getOrDefault(view.getRecipientUsername(), Set.of());
+
+        if (!targets.isEmpty()) {
+            List<Subscriber> snapshot = new ArrayList<>(targets);
+            executor.execute(() -> {
+                for (Subscriber sub : snapshot) {
+                    sub.send(event(view));
+                }
+            });
+        }
+    }
+
+    /**
+     * Ends the user's open streams, e.g. once their role changed: a stream
+     * keeps the roles it subscribed with. The client reconnects and is
+     * subscribed again under its new token.
+     */
+    public void disconnect(String username) {
+        for (Subscriber sub : List.copyOf(byUser.getOrDefault(username, Set.of()))) {
+            remove(sub);
+            sub.emitter.complete();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${notifications.stream.heartbeat:25s}")
+    public void heartbeat() {
+        for (Set<Subscriber> subs : byUser.values()) {
+            for (Subscriber sub : subs) {
+                sub.send(SseEmitter.event().comment("hb"));
+            }
+        }
+    }
+
+    public int openStreams() {
+        return open.get();
+    }
+
+    // ---------------- REGISTRY ----------------
+    // Per-key compute keeps a set from being dropped while another stream joins it
+    private void add(Subscriber sub) {
+
+        Set<Subscriber> mine = byUser.compute(sub.username, (u, subs) -> {
+            Set<Subscriber> set = subs != null ? subs : ConcurrentHashMap.newKeySet();
+            set.add(sub);
+            return set;
+        });
+        open.incrementAndGet();
+        for (Role role : sub.roles) {
+            byRole.compute(role, (r, subs) -> {
+                Set<Subscriber> set = subs != null ? subs : ConcurrentHashMap.newKeySet();
+                set.add(sub);
+                return set;
+            });
+        }
+
+        // A user leaving tabs open should not pile up streams; drop the oldest
+        if (mine.size() > MAX_STREAMS_PER_USER) {
+            mine.stream()
+                    .filter(s -> s != sub)
+                    .min((a, b) -> Long.compare(a.openedAt, b.openedAt))
+                    .ifPresent(oldest -> oldest.emitter.complete());
+        }
+    }
+
+    private void remove(Subscriber sub) {
+
+        boolean[] removed = { false };
+        byUser.computeIfPresent(sub.username, (u, subs) -> {
+            removed[0] = subs.remove(sub);
+            return subs.isEmpty() ? null : subs;
+        });
+        if (!removed[0]) {
+            return;
+        }
+        open.decrementAndGet();
+        for (Role role : sub.roles) {
+            byRole.computeIfPresent(role, (r, subs) -> {
+                subs.remove(sub);
+                return subs.isEmpty() ? null : subs;
+            });
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder event(NotificationView view) {
+        return SseEmitter.event()
+                .id(String.valueOf(view.getId()))
+                .name(EVENT)
+                .data(view, MediaType.APPLICATION_JSON);
+    }
+
+    private final class Subscriber {
+
+        final String username;
+        final Set<Role> roles;
+        final SseEmitter emitter;
+        final long openedAt = System.nanoTime();
+
+        Subscriber(String username, Set<Role> roles, SseEmitter emitter) {
+            this.username = username;
+            this.roles = roles;
+            this.emitter = emitter;
+        }
+
+        void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // Client gone or stream already completed
+                log.debug("Dropping notification stream for {}: {}", username, e.getMessage());
+                remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
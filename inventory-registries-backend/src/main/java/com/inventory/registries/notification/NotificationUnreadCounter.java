@@ -0,0 +1,33 @@
+package com.inventory.registries.notification;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Unread count of one user's own notifications, kept up to date by every
+ * send, read and delete so the inbox badge is a primary-key lookup. Role
+ * notifications are counted from the user's {@link NotificationReadMarker}.
+ */
+@Entity
+@Table(name = "notification_unread_counters")
+public class NotificationUnreadCounter {
+
+    @Id
+    private String username;
+
+    @Column(nullable = false)
+    private long unread;
+
+    protected NotificationUnreadCounter() {
+    }
+
+	public String getUsername() {
+		return username;
+	}
+
+	public long getUnread() {
+		return unread;
+	}
+}
@@ -0,0 +1,29 @@
+package com.inventory.registries.notification;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationUnreadCounterRepository
+        extends JpaRepository<NotificationUnreadCounter, String> {
+
+    // Safe against a concurrent first send; the increment then always finds the row.
+    // No conflict target: username is the only unique key, and H2 takes this form too
+    @Modifying
+    @Query(value = """
+            insert into notification_unread_counters (username, unread)
+            values (:username, 0)
+            on conflict do nothing
+            """, nativeQuery = true)
+    void ensure(@Param("username") String username);
+
+    @Modifying
+    @Query("update NotificationUnreadCounter c set c.unread = c.unread + :delta where c.username = :username")
+    int add(@Param("username") String username, @Param("delta") long delta);
+
+    @Query("select c.unread from NotificationUnreadCounter c where c.username = :username")
+    Optional<Long> findUnread(@Param("username") String username);
+}
@@ -0,0 +1,20 @@
+package com.inventory.registries.notification.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Marks notifications read: either explicit {@code ids}, or every
+ * notification in the inbox created at or before {@code upTo}.
+ */
+public class NotificationReadRequest {
+
+    private List<Long> ids;
+    private LocalDateTime upTo;
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public LocalDateTime getUpTo() { return upTo; }
+    public void setUpTo(LocalDateTime upTo) { this.upTo = upTo; }
+}
@@ -0,0 +1,52 @@
+package com.inventory.registries.notification.dto;
+
+import java.time.LocalDateTime;
+
+import com.inventory.registries.notification.NotificationType;
+import com.inventory.registries.security.Role;
+
+/**
+ * A notification as one user sees it: {@code read} is that user's read state,
+ * for role notifications too. Exactly one of {@code recipientUsername} and
+ * {@code recipientRole} is set.
+ */
+public class NotificationView {
+
+    private final Long id;
+    private final String title;
+    private final String message;
+    private final NotificationType type;
+    private final String referenceType;
+    private final Long referenceId;
+    private final String recipientUsername;
+    private final Role recipientRole;
+    private final boolean read;
+    private final LocalDateTime createdAt;
+
+    public NotificationView(Long id, String title, String message, NotificationType type,
+                            String referenceType, Long referenceId,
+                            String recipientUsername, Role recipientRole,
+                            boolean read, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.message = message;
+        this.type = type;
+        this.referenceType = referenceType;
+        this.referenceId = referenceId;
+        this.recipientUsername = recipientUsername;
+        this.recipientRole = recipientRole;
+        this.read = read;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getMessage() { return message; }
+    public NotificationType getType() { return type; }
+    public String getReferenceType() { return referenceType; }
+    public Long getReferenceId() { return referenceId; }
+    public String getRecipientUsername() { return recipientUsername; }
+    public Role getRecipientRole() { return recipientRole; }
+    public boolean isRead() { return read; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,17 @@
+package com.inventory.registries.notification.dto;
+
+public class UnreadCount {
+
+    private final long unread;
+    // More role notifications are unread than were counted; show "unread+"
+    private final boolean capped;
+
+    public UnreadCount(long unread, boolean capped) {
+        this.unread = unread;
+        this.capped = capped;
+    }
+
+    public long getUnread() { return unread; }
+
+    public boolean isCapped() { return capped; }
+}
@@ -0,0 +1,61 @@
+package com.inventory.registries.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.inventory.registries.outbox.dto.ChangeEvent;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Appends the change stream to a local file, one JSON event per line. Each
+ * batch is forced to disk before its offset is saved, so a crash can repeat
+ * the tail of the file but never lose an event.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.file.path")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectMapper mapper;
+
+    public FileOutboxSink(@Value("${outbox.file.path}") Path path, ObjectMapper mapper) {
+        this.path = path;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void publish(List<ChangeEvent> events) {
+
+        StringBuilder lines = new StringBuilder();
+        for (ChangeEvent event : events) {
+            lines.append(mapper.writeValueAsString(event)).append('\n');
+        }
+
+        try (FileChannel out = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                out.write(bytes);
+            }
+            out.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.inventory.registries.outbox;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.inventory.registries.outbox.dto.ChangeEvent;
+
+/** Logs each change; for development and for tracing what was sent. */
+@Component
+@ConditionalOnProperty(name = "outbox.log.enabled", havingValue = "true")
+public class LogOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LogOutboxSink.class);
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void publish(List<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            log.info("Change {} {} {}: {}",
+                    event.getPosition(), event.getType(), event.getAggregateId(), event.getPayload());
+        }
+    }
+}
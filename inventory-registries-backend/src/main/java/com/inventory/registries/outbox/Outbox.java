@@ -0,0 +1,61 @@
+package com.inventory.registries.outbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.inventory.registries.outbox.OutboxEvent.Type;
+
+import jakarta.transaction.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Appends change events in the caller's transaction, so an event exists if
+ * and only if its change committed. {@link OutboxRelay} takes it from there.
+ *
+ * The id is drawn by the INSERT statement, after the change itself has
+ * locked its row: a later change to the same row always gets a higher id.
+ */
+@Component
+public class Outbox {
+
+    private static final String INSERT_SQL = """
+            insert into outbox_events (id, type, aggregate_id, payload, created_at)
+            values (nextval('outbox_events_seq'), ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper mapper;
+
+    public Outbox(JdbcTemplate jdbc, ObjectMapper mapper) {
+        this.jdbc = jdbc;
+        this.mapper = mapper;
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void append(Type type, Long aggregateId, Object payload) {
+        jdbc.update(INSERT_SQL, type.name(), aggregateId, mapper.writeValueAsString(payload),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /** One JDBC batch for many changes of one type. */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public <T> void appendAll(Type type, List<T> items, Function<T, Long> aggregateId, Function<T, ?> payload) {
+
+        if (items.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbc.batchUpdate(INSERT_SQL, items, items.size(), (ps, item) -> {
+            ps.setString(1, type.name());
+            ps.setLong(2, aggregateId.apply(item));
+            ps.setString(3, mapper.writeValueAsString(payload.apply(item)));
+            ps.setTimestamp(4, now);
+        });
+    }
+}
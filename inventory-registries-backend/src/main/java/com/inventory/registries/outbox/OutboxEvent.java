@@ -0,0 +1,86 @@
+package com.inventory.registries.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * A registry change, written in the transaction that made it (see
+ * {@link Outbox}). {@code position} is null until the relay sequences the
+ * event; from then on it is the event's place in the change stream.
+ */
+@Entity
+@Table(
+        name = "outbox_events",
+        indexes = {
+                @Index(name = "uk_outbox_events_position", columnList = "position", unique = true)
+        }
+)
+public class OutboxEvent {
+
+    // Drawn one at a time by the insert itself, so ids follow insert order
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 1)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30, updatable = false)
+    private Type type;
+
+    // Product id, or price level id for PRICE_LEVEL_* events
+    @Column(nullable = false, updatable = false)
+    private Long aggregateId;
+
+    // Read model of the changed row, as JSON
+    @Column(columnDefinition = "TEXT", nullable = false, updatable = false)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private Long position;
+
+    public enum Type {
+        PRODUCT_CREATED,
+        PRODUCT_UPDATED,
+        PRODUCT_DELETED,
+        PRICE_LEVEL_CREATED,
+        PRICE_LEVEL_UPDATED,
+        PRICE_LEVEL_DELETED,
+        STOCK_CHANGED
+    }
+
+	public Long getId() {
+		return id;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public Long getAggregateId() {
+		return aggregateId;
+	}
+
+	public String getPayload() {
+		return payload;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public Long getPosition() {
+		return position;
+	}
+}
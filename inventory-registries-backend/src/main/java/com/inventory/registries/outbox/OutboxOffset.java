@@ -0,0 +1,47 @@
+package com.inventory.registries.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/** How far one sink has got through the change stream. */
+@Entity
+@Table(name = "outbox_offsets")
+public class OutboxOffset {
+
+    @Id
+    private String consumer;
+
+    // Last position delivered
+    @Column(nullable = false)
+    private long position;
+
+    private LocalDateTime updatedAt;
+
+    protected OutboxOffset() {
+    }
+
+    public OutboxOffset(String consumer) {
+        this.consumer = consumer;
+    }
+
+    public void advance(long position) {
+        this.position = position;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+	public String getConsumer() {
+		return consumer;
+	}
+
+	public long getPosition() {
+		return position;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+}
@@ -0,0 +1,6 @@
+package com.inventory.registries.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxOffsetRepository extends JpaRepository<OutboxOffset, String> {
+}
@@ -0,0 +1,147 @@
+package com.inventory.registries.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inventory.registries.outbox.dto.ChangeEvent;
+
+/**
+ * Moves outbox events to the sinks.
+ *
+ * <ol>
+ *   <li>Sequence: committed events without a position get the next ones, in
+ *       id order. Ids alone can't be the stream order, because a transaction
+ *       holding a lower id may commit after a higher one has been read;
+ *       positions are handed out only to committed rows, so they have no
+ *       gaps and an offset never skips anything.</li>
+ *   <li>Deliver: each sink reads the positions after its offset, in batches,
+ *       and the offset moves in the same transaction once the batch is
+ *       published (at least once).</li>
+ * </ol>
+ * Both steps hold a Postgres advisory lock, so with several instances one
+ * sequences and each sink is fed by one at a time.
+ *
+ * {@code outbox.relay.enabled=false} leaves events unsequenced in the table,
+ * e.g. on an embedded database without advisory locks.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String LOCK_SQL = "select pg_try_advisory_xact_lock(hashtext(?))";
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final OutboxRepository repo;
+    private final OutboxOffsetRepository offsets;
+    private final List<OutboxSink> sinks;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final Duration retention;
+
+    public OutboxRelay(
+            OutboxRepository repo,
+            OutboxOffsetRepository offsets,
+            List<OutboxSink> sinks,
+            JdbcTemplate jdbc,
+            TransactionTemplate tx,
+            @Value("${outbox.relay.batch-size:500}") int batchSize,
+            @Value("${outbox.retention:7d}") Duration retention
+    ) {
+        this.repo = repo;
+        this.offsets = offsets;
+        this.sinks = sinks;
+        this.jdbc = jdbc;
+        this.tx = tx;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    // ---------------- RELAY ----------------
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:1s}")
+    public void relay() {
+        try {
+            sequence();
+        } catch (DataAccessException e) {
+            log.warn("Outbox sequencing failed: {}", e.getMostSpecificCause().getMessage());
+            return;
+        }
+        for (OutboxSink sink : sinks) {
+            deliver(sink);
+        }
+    }
+
+    private void sequence() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            Integer sequenced = tx.execute(status -> locked("outbox:sequence") ? repo.sequence(batchSize) : 0);
+            if (sequenced == null || sequenced < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void deliver(OutboxSink sink) {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            try {
+                Boolean full = tx.execute(status -> {
+                    if (!locked("outbox:sink:" + sink.name())) {
+                        return false;
+                    }
+                    OutboxOffset offset = offsets.findById(sink.name())
+                            .orElseGet(() -> new OutboxOffset(sink.name()));
+                    List<ChangeEvent> batch = repo.findAfter(offset.getPosition(), Limit.of(batchSize));
+                    if (batch.isEmpty()) {
+                        return false;
+                    }
+                    sink.publish(batch);
+                    offset.advance(batch.get(batch.size() - 1).getPosition());
+                    offsets.save(offset);
+                    return batch.size() == batchSize;
+                });
+                if (!Boolean.TRUE.equals(full)) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                // Offset unchanged; the batch is offered again next run
+                log.warn("Outbox sink {} failed: {}", sink.name(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    // ---------------- CLEANUP ----------------
+    // Events every sink has taken, once past the retention window; the last
+    // sequenced one is kept as the high-water mark (see deleteDelivered)
+    @Scheduled(cron = "${outbox.cleanup.cron:0 0 4 * * *}")
+    public void cleanup() {
+
+        long delivered = Long.MAX_VALUE;
+        for (OutboxSink sink : sinks) {
+            delivered = Math.min(delivered,
+                    offsets.findById(sink.name()).map(OutboxOffset::getPosition).orElse(0L));
+        }
+
+        long upTo = delivered;
+        Integer removed = tx.execute(status ->
+                repo.deleteDelivered(upTo, LocalDateTime.now().minus(retention)));
+        log.info("Outbox cleanup: {} delivered events removed", removed);
+    }
+
+    private boolean locked(String name) {
+        return Boolean.TRUE.equals(jdbc.queryForObject(LOCK_SQL, Boolean.class, name));
+    }
+}
@@ -0,0 +1,52 @@
+package com.inventory.registries.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inventory.registries.outbox.dto.ChangeEvent;
+
+public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Next positions for the oldest unsequenced events, in id order. Only
+    // the relay holding the sequencer lock runs this, so max(position) is stable.
+    @Modifying
+    @Query(value = """
+            update outbox_events e
+            set position = s.base + s.rn
+            from (select id,
+                         (select coalesce(max(position), 0) from outbox_events) as base,
+                         row_number() over (order by id) as rn
+                  from outbox_events
+                  where position is null
+                  order by id
+                  limit :limit) s
+            where e.id = s.id
+            """, nativeQuery = true)
+    int sequence(@Param("limit") int limit);
+
+    @Query("""
+            select new com.inventory.registries.outbox.dto.ChangeEvent(
+                e.position, e.type, e.aggregateId, e.payload, e.createdAt)
+            from OutboxEvent e
+            where e.position > :after
+            order by e.position
+            """)
+    List<ChangeEvent> findAfter(@Param("after") long after, Limit limit);
+
+    // The highest position always stays: it is where sequence() counts on
+    // from, so an emptied table would restart below every sink's offset
+    @Modifying
+    @Query("""
+            delete from OutboxEvent e
+            where e.position <= :upTo
+              and e.position < (select max(o.position) from OutboxEvent o)
+              and e.createdAt < :before
+            """)
+    int deleteDelivered(@Param("upTo") long upTo, @Param("before") LocalDateTime before);
+}
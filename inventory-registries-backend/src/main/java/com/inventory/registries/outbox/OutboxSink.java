@@ -0,0 +1,22 @@
+package com.inventory.registries.outbox;
+
+import java.util.List;
+
+import com.inventory.registries.outbox.dto.ChangeEvent;
+
+/**
+ * A consumer of the change stream. Any Spring bean implementing this is
+ * picked up by {@link OutboxRelay}, which is also the in-process listener API.
+ *
+ * Each sink has its own offset under {@link #name()}, so a slow or failing
+ * sink never holds up the others. {@link #publish} gets batches in position
+ * order; throwing leaves the offset where it was and the batch is offered
+ * again on the next run.
+ */
+public interface OutboxSink {
+
+    /** Offset key; keep it stable across releases. */
+    String name();
+
+    void publish(List<ChangeEvent> events);
+}
@@ -0,0 +1,36 @@
+package com.inventory.registries.outbox.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.inventory.registries.outbox.OutboxEvent.Type;
+
+/**
+ * One entry of the change stream as sinks receive it. {@code position} is
+ * strictly increasing and gap-free; delivery is at least once, so consumers
+ * skip positions they have already seen.
+ */
+public class ChangeEvent {
+
+    private final long position;
+    private final Type type;
+    private final Long aggregateId;
+    private final String payload;
+    private final LocalDateTime createdAt;
+
+    // Constructor expression target for JPQL (select new ...)
+    public ChangeEvent(long position, Type type, Long aggregateId, String payload, LocalDateTime createdAt) {
+        this.position = position;
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public long getPosition() { return position; }
+    public Type getType() { return type; }
+    public Long getAggregateId() { return aggregateId; }
+    @JsonRawValue
+    public String getPayload() { return payload; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -10,7 +10,8 @@ import jakarta.persistence.*;
 public class PriceLevel extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "price_levels_seq")
+    @SequenceGenerator(name = "price_levels_seq", sequenceName = "price_levels_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
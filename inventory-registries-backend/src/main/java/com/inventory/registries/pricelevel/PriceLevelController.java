@@ -5,6 +5,9 @@ import java.util.List;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import com.inventory.registries.pricelevel.dto.PriceLevelRequest;
+import com.inventory.registries.pricelevel.dto.PriceLevelView;
+
 @RestController
 @RequestMapping("/api/price-levels")
 public class PriceLevelController {
@@ -17,21 +20,27 @@ public class PriceLevelController {
 
     @PostMapping("/product/{productId}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
-    public PriceLevel create(
+    public PriceLevelView create(
             @PathVariable Long productId,
             @RequestBody PriceLevel priceLevel) {
         return service.create(productId, priceLevel);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
+    public List<PriceLevelView> createBatch(@RequestBody List<PriceLevelRequest> reqs) {
+        return service.createBatch(reqs);
+    }
+
     @GetMapping("/product/{productId}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT')")
-    public List<PriceLevel> list(@PathVariable Long productId) {
+    public List<PriceLevelView> list(@PathVariable Long productId) {
         return service.list(productId);
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
-    public PriceLevel update(
+    public PriceLevelView update(
             @PathVariable Long id,
             @RequestBody PriceLevel priceLevel) {
         return service.update(id, priceLevel);
@@ -45,7 +54,7 @@ public class PriceLevelController {
 
     @GetMapping("/product/{productId}/effective")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT')")
-    public PriceLevel getEffectivePrice(@PathVariable Long productId) {
+    public PriceLevelView getEffectivePrice(@PathVariable Long productId) {
         return service.getEffectivePrice(productId);
     }
 }
@@ -1,9 +1,14 @@
 package com.inventory.registries.pricelevel;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inventory.registries.pricelevel.dto.PriceLevelView;
 
 public interface PriceLevelRepository extends JpaRepository<PriceLevel, Long> {
 
@@ -19,6 +24,34 @@ public interface PriceLevelRepository extends JpaRepository<PriceLevel, Long> {
             Long productId);
 
     boolean existsByProduct_IdAndActiveTrue(Long productId);
+
+    long countByActiveTrue();
+
+    // Names and priorities already in use, for batch duplicate checks
+    @Query("""
+            select pl.product.id as productId, pl.name as name, pl.priority as priority
+            from PriceLevel pl
+            where pl.product.id in :productIds
+              and pl.active = true
+            """)
+    List<TakenLevel> findActiveKeysByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // Read model: reads product_id straight off price_levels, no product join
+    @Query("""
+            select new com.inventory.registries.pricelevel.dto.PriceLevelView(
+                pl.id, pl.product.id, pl.name, pl.price, pl.priority, pl.active)
+            from PriceLevel pl
+            where pl.product.id = :productId
+              and pl.active = true
+            order by pl.priority
+            """)
+    List<PriceLevelView> findActiveViewsByProductId(@Param("productId") Long productId);
+
+    interface TakenLevel {
+        Long getProductId();
+        String getName();
+        Integer getPriority();
+    }
 }
 
 
@@ -1,30 +1,47 @@
 package com.inventory.registries.pricelevel;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Set;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.inventory.registries.common.exception.DuplicateResourceException;
 import com.inventory.registries.common.exception.ResourceNotFoundException;
+import com.inventory.registries.outbox.Outbox;
+import com.inventory.registries.outbox.OutboxEvent;
+import com.inventory.registries.pricelevel.dto.PriceLevelRequest;
+import com.inventory.registries.pricelevel.dto.PriceLevelView;
 import com.inventory.registries.product.Product;
 import com.inventory.registries.product.ProductRepository;
 
+import jakarta.transaction.Transactional;
+
 @Service
 public class PriceLevelService {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final PriceLevelRepository repo;
     private final ProductRepository productRepo;
+    private final Outbox outbox;
 
     public PriceLevelService(
             PriceLevelRepository repo,
-            ProductRepository productRepo) {
+            ProductRepository productRepo,
+            Outbox outbox) {
         this.repo = repo;
         this.productRepo = productRepo;
+        this.outbox = outbox;
     }
 
     // CREATE
-    public PriceLevel create(Long productId, PriceLevel data) {
+    @Transactional
+    public PriceLevelView create(Long productId, PriceLevel data) {
 
         if (data.getPriority() == null || data.getPriority() <= 0) {
             throw new IllegalArgumentException("Priority must be greater than 0");
@@ -46,16 +63,87 @@ public class PriceLevelService {
         data.setProduct(product);
         data.setActive(true);
 
-        return repo.save(data);
+        PriceLevelView view = PriceLevelView.of(repo.save(data));
+        outbox.append(OutboxEvent.Type.PRICE_LEVEL_CREATED, view.getId(), view);
+        return view;
+    }
+
+    // BATCH CREATE (ALL OR NOTHING)
+    // Same rules as create, checked with one query each instead of per row
+    @Transactional
+    public List<PriceLevelView> createBatch(List<PriceLevelRequest> reqs) {
+
+        if (reqs == null || reqs.isEmpty() || reqs.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Batch must hold 1 to " + MAX_BATCH_SIZE + " price levels");
+        }
+
+        Set<Long> productIds = new HashSet<>();
+        for (int i = 0; i < reqs.size(); i++) {
+            PriceLevelRequest req = reqs.get(i);
+            if (req == null || req.getProductId() == null || req.getName() == null || req.getPrice() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Row " + i + ": productId, name and price are required");
+            }
+            if (req.getPriority() == null || req.getPriority() <= 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Row " + i + ": Priority must be greater than 0");
+            }
+            productIds.add(req.getProductId());
+        }
+
+        Set<Long> activeProducts = productRepo.findActiveIdsIn(productIds);
+
+        Set<String> priorities = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (PriceLevelRepository.TakenLevel t : repo.findActiveKeysByProductIdIn(productIds)) {
+            priorities.add(t.getProductId() + ":" + t.getPriority());
+            names.add(t.getProductId() + ":" + t.getName().toLowerCase(Locale.ROOT));
+        }
+
+        List<PriceLevel> levels = new ArrayList<>(reqs.size());
+        for (int i = 0; i < reqs.size(); i++) {
+            PriceLevelRequest req = reqs.get(i);
+
+            if (!activeProducts.contains(req.getProductId())) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Row " + i + ": Product not found");
+            }
+            if (!priorities.add(req.getProductId() + ":" + req.getPriority())) {
+                throw new DuplicateResourceException(
+                        "Row " + i + ": Price level with same priority already exists");
+            }
+            if (!names.add(req.getProductId() + ":" + req.getName().toLowerCase(Locale.ROOT))) {
+                throw new DuplicateResourceException(
+                        "Row " + i + ": Price level with same name already exists");
+            }
+
+            PriceLevel pl = new PriceLevel();
+            pl.setProduct(productRepo.getReferenceById(req.getProductId()));
+            pl.setName(req.getName());
+            pl.setPrice(req.getPrice());
+            pl.setPriority(req.getPriority());
+            pl.setActive(true);
+            levels.add(pl);
+        }
+
+        List<PriceLevelView> views = repo.saveAll(levels)
+                .stream()
+                .map(PriceLevelView::of)
+                .toList();
+        outbox.appendAll(OutboxEvent.Type.PRICE_LEVEL_CREATED, views, PriceLevelView::getId, v -> v);
+        return views;
     }
 
     // LIST
-    public List<PriceLevel> list(Long productId) {
-        return repo.findByProduct_IdAndActiveTrue(productId);
+    public List<PriceLevelView> list(Long productId) {
+        return repo.findActiveViewsByProductId(productId);
     }
 
     // UPDATE
-    public PriceLevel update(Long id, PriceLevel data) {
+    // Flushed before the event so a competing update queues behind this one
+    @Transactional
+    public PriceLevelView update(Long id, PriceLevel data) {
 
         PriceLevel pl = repo.findById(id)
                 .filter(PriceLevel::getActive)
@@ -83,10 +171,14 @@ public class PriceLevelService {
         pl.setPrice(data.getPrice());
         pl.setPriority(data.getPriority());
 
-        return repo.save(pl);
+        repo.saveAndFlush(pl);
+        PriceLevelView view = PriceLevelView.of(pl);
+        outbox.append(OutboxEvent.Type.PRICE_LEVEL_UPDATED, id, view);
+        return view;
     }
 
     // DELETE (SOFT)
+    @Transactional
     public void delete(Long id) {
 
         PriceLevel pl = repo.findById(id)
@@ -94,13 +186,15 @@ public class PriceLevelService {
                 .orElseThrow(() -> new ResourceNotFoundException("Price level not found"));
 
         pl.setActive(false);
-        repo.save(pl);
+        repo.saveAndFlush(pl);
+        outbox.append(OutboxEvent.Type.PRICE_LEVEL_DELETED, id, PriceLevelView.of(pl));
     }
 
     // ⭐ EFFECTIVE PRICE (LOWEST PRIORITY)
-    public PriceLevel getEffectivePrice(Long productId) {
+    public PriceLevelView getEffectivePrice(Long productId) {
 
         return repo.findFirstByProduct_IdAndActiveTrueOrderByPriorityAsc(productId)
+                .map(PriceLevelView::of)
                 .orElseThrow(() ->
                         new ResourceNotFoundException(
                                 "No active price level found for product"));
@@ -0,0 +1,24 @@
+package com.inventory.registries.pricelevel.dto;
+
+/**
+ * One row of a batch price-level create; the product is named per row.
+ */
+public class PriceLevelRequest {
+
+    private Long productId;
+    private String name;
+    private Double price;
+    private Integer priority;
+
+    public Long getProductId() { return productId; }
+    public void setProductId(Long productId) { this.productId = productId; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public Double getPrice() { return price; }
+    public void setPrice(Double price) { this.price = price; }
+
+    public Integer getPriority() { return priority; }
+    public void setPriority(Integer priority) { this.priority = priority; }
+}
@@ -0,0 +1,47 @@
+package com.inventory.registries.pricelevel.dto;
+
+import com.inventory.registries.pricelevel.PriceLevel;
+
+/**
+ * Read model for price-level responses.
+ * Only the product id is exposed, so mapping never initializes the product proxy.
+ */
+public class PriceLevelView {
+
+    private final Long id;
+    private final Long productId;
+    private final String name;
+    private final Double price;
+    private final Integer priority;
+    private final Boolean active;
+
+    public PriceLevelView(
+            Long id, Long productId, String name,
+            Double price, Integer priority, Boolean active
+    ) {
+        this.id = id;
+        this.productId = productId;
+        this.name = name;
+        this.price = price;
+        this.priority = priority;
+        this.active = active;
+    }
+
+    public static PriceLevelView of(PriceLevel pl) {
+        return new PriceLevelView(
+                pl.getId(),
+                pl.getProduct().getId(),
+                pl.getName(),
+                pl.getPrice(),
+                pl.getPriority(),
+                pl.getActive()
+        );
+    }
+
+    public Long getId() { return id; }
+    public Long getProductId() { return productId; }
+    public String getName() { return name; }
+    public Double getPrice() { return price; }
+    public Integer getPriority() { return priority; }
+    public Boolean getActive() { return active; }
+}
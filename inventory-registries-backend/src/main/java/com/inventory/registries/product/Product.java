@@ -6,11 +6,24 @@ import com.inventory.registries.subdepartment.SubDepartment;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "products")
+@Table(
+        name = "products",
+        indexes = {
+                @Index(name = "idx_products_name_id", columnList = "name, id"),
+                @Index(name = "idx_products_brand_id", columnList = "brand_id, id"),
+                @Index(name = "idx_products_unit_id", columnList = "unit_id, id"),
+                @Index(name = "idx_products_sub_department_id", columnList = "sub_department_id, id")
+        }
+)
 public class Product {
 
+    /**
+     * Pooled sequence (50 ids per round trip) so inserts can be JDBC-batched;
+     * IDENTITY forces one statement per row.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -42,10 +55,11 @@ public class Product {
     private Double costPrice;
 
     /**
-     * Temporary stock field.
-     * Future updates must go via Stock Taking approval.
+     * On-hand quantity, materialized from the stock movement ledger.
+     * Written on insert only; every later change is an atomic delta applied
+     * by StockMovementService, so a stale entity can never overwrite it.
      */
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer stock = 0;
 
     /**
@@ -54,6 +68,13 @@ public class Product {
     @Column(nullable = false)
     private Boolean active = true;
 
+    /**
+     * Optimistic lock, also the product's ETag. Bumped by entity updates and
+     * by every stock delta (versioned bulk update).
+     */
+    @Version
+    private Long version;
+
 	public Long getId() {
 		return id;
 	}
@@ -134,5 +155,9 @@ public class Product {
 		this.active = active;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
     // getters & setters
 }
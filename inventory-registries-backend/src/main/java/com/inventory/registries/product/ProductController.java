@@ -1,46 +1,147 @@
 package com.inventory.registries.product;
 
+import com.inventory.registries.cache.ConditionalGet;
+import com.inventory.registries.cache.RegistryVersions;
+import com.inventory.registries.common.CursorPage;
+import com.inventory.registries.product.dto.ProductImportReport;
+import com.inventory.registries.product.dto.ProductQuery;
 import com.inventory.registries.product.dto.ProductRequest;
+import com.inventory.registries.product.dto.ProductSearchHit;
+import com.inventory.registries.product.dto.ProductView;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
 
     private final ProductService service;
+    private final ProductImportService importService;
+    private final ProductExportService exportService;
+    private final RegistryVersions versions;
 
-    public ProductController(ProductService service) {
+    public ProductController(ProductService service,
+                             ProductImportService importService,
+                             ProductExportService exportService,
+                             RegistryVersions versions) {
         this.service = service;
+        this.importService = importService;
+        this.exportService = exportService;
+        this.versions = versions;
     }
 
     // LIST (ACTIVE ONLY)
     @GetMapping
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
-    public ResponseEntity<List<Product>> getAll() {
-        return ResponseEntity.ok(service.getAll());
+    public ResponseEntity<List<ProductView>> getAll(WebRequest request) {
+        return ConditionalGet.of(request, versions.products(), service::getAll);
+    }
+
+    // PAGE (KEYSET) - selected whenever ?limit= is present
+    @GetMapping(params = "limit")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<CursorPage<ProductView>> page(ProductQuery query, WebRequest request) {
+        return ConditionalGet.of(request, versions.products(), () -> service.page(query));
+    }
+
+    // TYPEAHEAD SEARCH (IN-MEMORY INDEX)
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<List<ProductSearchHit>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(service.search(q, limit));
+    }
+
+    // EXPORT (STREAMED CSV / NDJSON, ACTIVE ONLY)
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "csv") String format) {
+
+        ProductExportService.Format fmt = switch (format.toLowerCase()) {
+            case "csv" -> ProductExportService.Format.CSV;
+            case "ndjson" -> ProductExportService.Format.NDJSON;
+            default -> throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Unsupported format: " + format);
+        };
+
+        MediaType type = fmt == ProductExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+
+        return ResponseEntity.ok()
+                .contentType(type)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("products." + format.toLowerCase())
+                        .build()
+                        .toString())
+                .body(out -> exportService.export(fmt, out));
+    }
+
+    // GET ONE (ETag = version; send it back as If-Match on PUT)
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
+    public ResponseEntity<ProductView> get(@PathVariable Long id) {
+        ProductView view = service.get(id);
+        return ResponseEntity.ok().eTag(String.valueOf(view.getVersion())).body(view);
     }
 
     // CREATE
     @PostMapping
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
-    public ResponseEntity<Product> create(
+    public ResponseEntity<ProductView> create(
             @Valid @RequestBody ProductRequest req) {
         return ResponseEntity.ok(service.create(req));
     }
 
+    // BATCH CREATE (ALL OR NOTHING, JDBC-BATCHED)
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
+    public ResponseEntity<List<ProductView>> createBatch(
+            @RequestBody List<ProductRequest> reqs) {
+        return ResponseEntity.ok(service.createBatch(reqs));
+    }
+
+    // BULK IMPORT (STREAMED CSV, header row required)
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
+    public ResponseEntity<ProductImportReport> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importCsv(body));
+    }
+
+    // BULK IMPORT (STREAMED NDJSON, one ProductRequest per line)
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
+    public ResponseEntity<ProductImportReport> importNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importNdjson(body));
+    }
+
     // UPDATE
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
-    public ResponseEntity<Product> update(
+    public ResponseEntity<ProductView> update(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ProductRequest req) {
-        return ResponseEntity.ok(service.update(id, req));
+
+        ProductView view = service.update(id, req, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(view.getVersion())).body(view);
     }
 
     // DELETE (SOFT)
@@ -50,4 +151,24 @@ public class ProductController {
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    // If-Match: "<version>". Absent or * skips the check; weak or foreign
+    // tags can never match a strong version tag
+    private static Long expectedVersion(String ifMatch) {
+
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // falls through to 412
+            }
+        }
+        throw new ResponseStatusException(
+                HttpStatus.PRECONDITION_FAILED, "Product was changed by another user, reload and retry");
+    }
 }
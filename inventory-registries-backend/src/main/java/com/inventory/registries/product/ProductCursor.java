@@ -0,0 +1,79 @@
+package com.inventory.registries.product;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Opaque keyset cursor for the product listing.
+ *
+ * Encodes the sort column, the direction, the last id and (for non-id
+ * sorts) the last sort value as {@code sort \n dir \n id \n value},
+ * base64url without padding. A cursor only continues the order it was made
+ * for; another sort or direction is rejected.
+ */
+final class ProductCursor {
+
+    private ProductCursor() {
+    }
+
+    static String encode(String sortField, Sort.Direction dir, ScrollPosition position) {
+
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+
+        StringBuilder raw = new StringBuilder(sortField)
+                .append('\n')
+                .append(dir.name())
+                .append('\n')
+                .append(keys.get("id"));
+
+        if (!"id".equals(sortField)) {
+            raw.append('\n').append(keys.get(sortField));
+        }
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetScrollPosition decode(String cursor, String sortField, Sort.Direction dir) {
+
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\n", 4);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+
+        boolean idSort = "id".equals(sortField);
+
+        if (parts.length != (idSort ? 3 : 4) || !parts[0].equals(sortField) || !parts[1].equals(dir.name())) {
+            throw invalid();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (!idSort) {
+            keys.put(sortField, parts[3]);
+        }
+
+        try {
+            keys.put("id", Long.valueOf(parts[2]));
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+
+    private static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+}
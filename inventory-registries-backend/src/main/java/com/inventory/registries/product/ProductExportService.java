@@ -0,0 +1,202 @@
+package com.inventory.registries.product;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Streams the active catalog as CSV or NDJSON straight from a forward-only
+ * JDBC cursor. Rows are written as they are fetched ({@link #FETCH_SIZE} at a
+ * time), so heap use does not grow with the catalog and the first bytes go
+ * out before the query has finished.
+ *
+ * The query runs in a read-only transaction because PostgreSQL only honours
+ * the fetch size (a server-side cursor) with autocommit off.
+ *
+ * Columns include the reference ids next to their names, so an export can be
+ * fed back to the bulk import unchanged.
+ */
+@Service
+public class ProductExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductExportService.class);
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int WRITE_BUFFER = 64 * 1024;
+
+    private static final String[] COLUMNS = {
+            "id", "code", "name",
+            "brand_id", "brand", "unit_id", "unit",
+            "sub_department_id", "category", "department",
+            "selling_price", "cost_price", "stock"
+    };
+
+    private static final String EXPORT_SQL = """
+            select p.id, p.code, p.name,
+                   b.id, b.name, u.id, u.name,
+                   s.id, s.name, d.name,
+                   p.selling_price, p.cost_price, p.stock
+            from products p
+            join brands b on b.id = p.brand_id
+            join units u on u.id = p.unit_id
+            join sub_departments s on s.id = p.sub_department_id
+            join departments d on d.id = s.department_id
+            where p.active = true
+            order by p.id
+            """;
+
+    public enum Format { CSV, NDJSON }
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate readOnlyTx;
+    private final ObjectMapper mapper;
+
+    public ProductExportService(DataSource dataSource,
+                                PlatformTransactionManager txManager,
+                                ObjectMapper mapper) {
+
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(FETCH_SIZE);
+
+        this.readOnlyTx = new TransactionTemplate(txManager);
+        this.readOnlyTx.setReadOnly(true);
+
+        this.mapper = mapper;
+    }
+
+    public void export(Format format, OutputStream out) throws IOException {
+
+        long start = System.nanoTime();
+        long[] rows = { 0 };
+
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER);
+
+        try {
+            if (format == Format.CSV) {
+                writer.write(String.join(",", COLUMNS));
+                writer.write('\n');
+                writer.flush();
+                readOnlyTx.executeWithoutResult(status -> jdbc.query(EXPORT_SQL, rs -> {
+                    writeCsv(rs, writer);
+                    rows[0]++;
+                }));
+            } else {
+                // No root separator (newlines are written per row); not closed,
+                // as that would close the response stream under the writer
+                JsonGenerator json = mapper.writer()
+                        .withRootValueSeparator("")
+                        .createGenerator(writer);
+                readOnlyTx.executeWithoutResult(status -> jdbc.query(EXPORT_SQL, rs -> {
+                    writeJson(rs, json, writer);
+                    rows[0]++;
+                }));
+            }
+            writer.flush();
+        } catch (UncheckedIOException | JacksonIOException e) {
+            // Client went away mid-download; the cursor is already closed
+            IOException cause = (IOException) e.getCause();
+            log.info("Product export aborted after {} rows: {}", rows[0], cause.getMessage());
+            throw cause;
+        }
+
+        log.info("Product export ({}): {} rows in {} ms",
+                format, rows[0], (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // ---------------- CSV ----------------
+    private static void writeCsv(ResultSet rs, Writer w) throws SQLException {
+        try {
+            for (int col = 1; col <= COLUMNS.length; col++) {
+                if (col > 1) {
+                    w.write(',');
+                }
+                switch (col) {
+                    case 11, 12 -> w.write(decimal(rs.getDouble(col)));
+                    default -> writeCsvField(w, rs.getString(col));
+                }
+            }
+            w.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsvField(Writer w, String value) throws IOException {
+
+        if (value == null) {
+            return;
+        }
+
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            w.write(value);
+            return;
+        }
+
+        w.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                w.write('"');
+            }
+            w.write(c);
+        }
+        w.write('"');
+    }
+
+    // ---------------- NDJSON ----------------
+    // Field names match ProductRequest, so lines can be re-imported as they are
+    private static void writeJson(ResultSet rs, JsonGenerator json, Writer w) throws SQLException {
+        json.writeStartObject();
+        json.writeNumberProperty("id", rs.getLong(1));
+        json.writeStringProperty("code", rs.getString(2));
+        json.writeStringProperty("name", rs.getString(3));
+        json.writeNumberProperty("brandId", rs.getLong(4));
+        json.writeStringProperty("brand", rs.getString(5));
+        json.writeNumberProperty("unitId", rs.getLong(6));
+        json.writeStringProperty("unit", rs.getString(7));
+        json.writeNumberProperty("subDepartmentId", rs.getLong(8));
+        json.writeStringProperty("category", rs.getString(9));
+        json.writeStringProperty("department", rs.getString(10));
+        json.writeNumberProperty("sellingPrice", rs.getDouble(11));
+        json.writeNumberProperty("costPrice", rs.getDouble(12));
+        json.writeNumberProperty("stock", rs.getInt(13));
+        json.writeEndObject();
+        json.flush();
+        try {
+            w.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Plain notation: Double.toString would write 1.0E7
+    private static String decimal(double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+}
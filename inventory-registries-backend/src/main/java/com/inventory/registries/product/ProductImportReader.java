@@ -0,0 +1,274 @@
+package com.inventory.registries.product;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.inventory.registries.product.dto.ProductRequest;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Pull-based row source for bulk import. Rows are parsed one at a time, so
+ * the importer never holds more than one chunk in memory.
+ *
+ * CSV needs a header row. Column names are matched ignoring case, spaces
+ * and underscores, so {@code brandId}, {@code brand_id} and {@code Brand Id}
+ * are the same column. NDJSON takes one {@link ProductRequest} object per line.
+ */
+abstract class ProductImportReader {
+
+    /** A parsed row, or the reason it could not be parsed. */
+    record Row(long line, ProductRequest request, String error) {
+    }
+
+    /** Next non-blank row, or {@code null} at end of input. */
+    abstract Row next() throws IOException;
+
+    static ProductImportReader csv(Reader in) throws IOException {
+        return new Csv(new BufferedReader(in));
+    }
+
+    static ProductImportReader ndjson(Reader in, ObjectMapper mapper) {
+        return new Ndjson(new BufferedReader(in), mapper.readerFor(ProductRequest.class));
+    }
+
+    // ---------------- CSV ----------------
+    private static final class Csv extends ProductImportReader {
+
+        private static final int MAX_RECORD_CHARS = 64 * 1024;
+        private static final List<String> REQUIRED = List.of(
+                "code", "name", "brandid", "unitid", "subdepartmentid", "sellingprice", "costprice");
+
+        private final BufferedReader in;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private long line = 1;
+        private long recordLine;
+        private boolean tooLong;
+
+        Csv(BufferedReader in) throws IOException {
+            this.in = in;
+
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header row is missing");
+            }
+            if (tooLong) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header row is too long");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(columnKey(header.get(i)), i);
+            }
+
+            List<String> missing = REQUIRED.stream()
+                    .filter(c -> !columns.containsKey(c))
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "Missing CSV columns: " + String.join(", ", missing));
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+
+            List<String> record;
+            do {
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+                if (tooLong) {
+                    tooLong = false;
+                    return new Row(recordLine, null,
+                            "Record longer than " + MAX_RECORD_CHARS + " characters, skipped to the next line");
+                }
+            } while (isBlank(record));
+
+            ProductRequest req = new ProductRequest();
+            try {
+                req.setCode(text(record, "code"));
+                req.setName(text(record, "name"));
+                req.setBrandId(parseLong(record, "brandid"));
+                req.setUnitId(parseLong(record, "unitid"));
+                req.setSubDepartmentId(parseLong(record, "subdepartmentid"));
+                req.setSellingPrice(parseDouble(record, "sellingprice"));
+                req.setCostPrice(parseDouble(record, "costprice"));
+                req.setStock(parseInt(record, "stock"));
+            } catch (IllegalArgumentException e) {
+                return new Row(recordLine, null, e.getMessage());
+            }
+            return new Row(recordLine, req, null);
+        }
+
+        // RFC 4180: quoted fields may hold commas, doubled quotes and line breaks.
+        // A record past MAX_RECORD_CHARS sets tooLong and is dropped up to the
+        // end of its physical line, where reading picks up again
+        private List<String> readRecord() throws IOException {
+
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int chars = 0;
+
+            int c;
+            while ((c = in.read()) != -1) {
+                any = true;
+                if (++chars > MAX_RECORD_CHARS) {
+                    skipLine(c);
+                    tooLong = true;
+                    return List.of();
+                }
+
+                if (quoted) {
+                    if (c == '"') {
+                        in.mark(1);
+                        if (in.read() == '"') {
+                            field.append('"');
+                        } else {
+                            in.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    line++;
+                    break;
+                } else if (c != '\r' && c != '\uFEFF') {
+                    field.append((char) c);
+                }
+            }
+
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        private void skipLine(int c) throws IOException {
+            while (c != '\n' && c != -1) {
+                c = in.read();
+            }
+            if (c == '\n') {
+                line++;
+            }
+        }
+
+        private String text(List<String> record, String column) {
+            Integer idx = columns.get(column);
+            if (idx == null || idx >= record.size()) {
+                return null;
+            }
+            String v = record.get(idx).trim();
+            return v.isEmpty() ? null : v;
+        }
+
+        private Long parseLong(List<String> record, String column) {
+            String v = text(record, column);
+            try {
+                return v == null ? null : Long.valueOf(v);
+            } catch (NumberFormatException e) {
+                throw invalidNumber(column, v);
+            }
+        }
+
+        private Integer parseInt(List<String> record, String column) {
+            String v = text(record, column);
+            try {
+                return v == null ? null : Integer.valueOf(v);
+            } catch (NumberFormatException e) {
+                throw invalidNumber(column, v);
+            }
+        }
+
+        private Double parseDouble(List<String> record, String column) {
+            String v = text(record, column);
+            try {
+                return v == null ? null : Double.valueOf(v);
+            } catch (NumberFormatException e) {
+                throw invalidNumber(column, v);
+            }
+        }
+
+        private static IllegalArgumentException invalidNumber(String column, String value) {
+            return new IllegalArgumentException("Invalid number in column " + column + ": '" + value + "'");
+        }
+
+        private static boolean isBlank(List<String> record) {
+            for (String f : record) {
+                if (!f.isBlank()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String columnKey(String header) {
+            StringBuilder sb = new StringBuilder(header.length());
+            for (int i = 0; i < header.length(); i++) {
+                char c = header.charAt(i);
+                if (Character.isLetterOrDigit(c)) {
+                    sb.append(Character.toLowerCase(c));
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    // ---------------- NDJSON ----------------
+    private static final class Ndjson extends ProductImportReader {
+
+        private final BufferedReader in;
+        private final ObjectReader reader;
+        private long line;
+
+        Ndjson(BufferedReader in, ObjectReader reader) {
+            this.in = in;
+            this.reader = reader;
+        }
+
+        @Override
+        Row next() throws IOException {
+
+            String text;
+            do {
+                text = in.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            try {
+                ProductRequest req = reader.readValue(text);
+                if (req == null) {
+                    return new Row(line, null, "Each line must be a JSON object");
+                }
+                return new Row(line, req, null);
+            } catch (JacksonException e) {
+                return new Row(line, null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
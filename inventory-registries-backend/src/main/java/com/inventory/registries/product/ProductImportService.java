@@ -0,0 +1,307 @@
+package com.inventory.registries.product;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inventory.registries.brand.Brand;
+import com.inventory.registries.brand.BrandRepository;
+import com.inventory.registries.cache.RegistryVersions;
+import com.inventory.registries.outbox.Outbox;
+import com.inventory.registries.outbox.OutboxEvent;
+import com.inventory.registries.product.dto.ProductImportError;
+import com.inventory.registries.product.dto.ProductImportReport;
+import com.inventory.registries.product.dto.ProductRequest;
+import com.inventory.registries.product.dto.ProductView;
+import com.inventory.registries.stockmovement.StockMovementService;
+import com.inventory.registries.subdepartment.SubDepartment;
+import com.inventory.registries.subdepartment.SubDepartmentRepository;
+import com.inventory.registries.unit.Unit;
+import com.inventory.registries.unit.UnitRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Bulk product import from a streamed CSV or NDJSON body.
+ *
+ * Rows are read and applied in chunks of {@link #CHUNK_SIZE}. Each chunk is
+ * one transaction: a single query checks its codes and its valid rows are
+ * inserted as JDBC batches (ids come from the pooled product sequence).
+ * Brand, unit and sub-department ids are checked against id sets loaded once
+ * per import. Invalid rows are skipped and listed in the report by source
+ * line. Chunks already committed stay committed when a later chunk fails.
+ */
+@Service
+public class ProductImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int CODE_LENGTH = 50;
+    private static final int NAME_LENGTH = 150;
+
+    private final ProductRepository productRepo;
+    private final BrandRepository brandRepo;
+    private final UnitRepository unitRepo;
+    private final SubDepartmentRepository subDeptRepo;
+    private final ProductSearchIndex searchIndex;
+    private final RegistryVersions versions;
+    private final EntityManager em;
+    private final StockMovementService stock;
+    private final TransactionTemplate tx;
+    private final Validator validator;
+    private final ObjectMapper mapper;
+    private final Outbox outbox;
+
+    public ProductImportService(
+            ProductRepository productRepo,
+            BrandRepository brandRepo,
+            UnitRepository unitRepo,
+            SubDepartmentRepository subDeptRepo,
+            ProductSearchIndex searchIndex,
+            RegistryVersions versions,
+            EntityManager em,
+            StockMovementService stock,
+            TransactionTemplate tx,
+            Validator validator,
+            ObjectMapper mapper,
+            Outbox outbox
+    ) {
+        this.productRepo = productRepo;
+        this.brandRepo = brandRepo;
+        this.unitRepo = unitRepo;
+        this.subDeptRepo = subDeptRepo;
+        this.searchIndex = searchIndex;
+        this.versions = versions;
+        this.em = em;
+        this.stock = stock;
+        this.tx = tx;
+        this.validator = validator;
+        this.mapper = mapper;
+        this.outbox = outbox;
+    }
+
+    // ---------------- ENTRY POINTS ----------------
+    public ProductImportReport importCsv(InputStream body) throws IOException {
+        return run(ProductImportReader.csv(new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
+    public ProductImportReport importNdjson(InputStream body) throws IOException {
+        return run(ProductImportReader.ndjson(new InputStreamReader(body, StandardCharsets.UTF_8), mapper));
+    }
+
+    // ---------------- IMPORT LOOP ----------------
+    private ProductImportReport run(ProductImportReader reader) throws IOException {
+
+        long start = System.nanoTime();
+        Report report = new Report();
+        Refs refs = new Refs(
+                new HashSet<>(brandRepo.findActiveIds()),
+                new HashSet<>(unitRepo.findActiveIds()),
+                new HashSet<>(subDeptRepo.findActiveIds()));
+
+        List<Pending> chunk = new ArrayList<>(CHUNK_SIZE);
+        ProductImportReader.Row row;
+
+        while ((row = reader.next()) != null) {
+            report.received++;
+
+            if (row.error() != null) {
+                report.reject(row.line(), null, row.error());
+                continue;
+            }
+
+            ProductRequest req = row.request();
+            String error = validate(req, refs);
+            if (error != null) {
+                report.reject(row.line(), req.getCode(), error);
+                continue;
+            }
+
+            chunk.add(new Pending(row.line(), req));
+            if (chunk.size() == CHUNK_SIZE) {
+                flush(chunk, report);
+                chunk.clear();
+            }
+        }
+        flush(chunk, report);
+
+        log.info("Product import: {} received, {} imported, {} failed in {} ms",
+                report.received, report.imported, report.failed,
+                (System.nanoTime() - start) / 1_000_000);
+
+        return report.toDto();
+    }
+
+    // One transaction per chunk: bulk code check, then batched insert
+    private void flush(List<Pending> chunk, Report report) {
+
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<Pending> accepted = new ArrayList<>(chunk.size());
+        List<Long> ids;
+
+        try {
+            ids = tx.execute(status -> {
+
+                Set<String> taken = productRepo.findExistingCodes(
+                        chunk.stream().map(p -> p.code).toList());
+
+                Set<String> inChunk = new HashSet<>();
+                for (Pending p : chunk) {
+                    if (taken.contains(p.code)) {
+                        report.reject(p.line, p.code, "Product code already exists");
+                    } else if (!inChunk.add(p.code)) {
+                        report.reject(p.line, p.code, "Duplicate code in file");
+                    } else {
+                        accepted.add(p);
+                    }
+                }
+
+                return insert(accepted);
+            });
+        } catch (DataAccessException | PersistenceException e) {
+            // e.g. a code taken concurrently between the check and the insert;
+            // the flush goes through the EntityManager, which does not translate
+            log.warn("Product import chunk rejected: {}",
+                    NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            for (Pending p : accepted) {
+                report.reject(p.line, p.code, "Chunk rejected by database, retry these rows");
+            }
+            return;
+        }
+
+        for (int i = 0; i < accepted.size(); i++) {
+            Pending p = accepted.get(i);
+            searchIndex.upsert(ids.get(i), p.code, p.name);
+        }
+        report.imported += accepted.size();
+        if (!accepted.isEmpty()) {
+            versions.products().bump();
+        }
+    }
+
+    // Persisted through JPA so ids come from the product sequence; references
+    // are proxies (ids were checked up front), flushed as JDBC batches
+    private List<Long> insert(List<Pending> rows) {
+
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Product> products = new ArrayList<>(rows.size());
+        for (Pending p : rows) {
+            Product product = new Product();
+            product.setCode(p.code);
+            product.setName(p.name);
+            product.setBrand(em.getReference(Brand.class, p.req.getBrandId()));
+            product.setUnit(em.getReference(Unit.class, p.req.getUnitId()));
+            product.setSubDepartment(em.getReference(SubDepartment.class, p.req.getSubDepartmentId()));
+            product.setSellingPrice(p.req.getSellingPrice());
+            product.setCostPrice(p.req.getCostPrice());
+            product.setStock(p.req.getStock() == null ? 0 : p.req.getStock());
+            product.setActive(true);
+            em.persist(product);
+            stock.opening(product);
+            products.add(product);
+        }
+        em.flush();
+        outbox.appendAll(OutboxEvent.Type.PRODUCT_CREATED, products, Product::getId, ProductView::of);
+        em.clear();
+
+        return products.stream()
+                .map(Product::getId)
+                .toList();
+    }
+
+    // ---------------- RULES ----------------
+    // Same rules as ProductService.create, reported instead of thrown
+    private String validate(ProductRequest req, Refs refs) {
+
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(req);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .collect(Collectors.joining("; "));
+        }
+
+        if (req.getCode().trim().length() > CODE_LENGTH) {
+            return "code must be at most " + CODE_LENGTH + " characters";
+        }
+        if (req.getName().trim().length() > NAME_LENGTH) {
+            return "name must be at most " + NAME_LENGTH + " characters";
+        }
+        if (req.getSellingPrice() < req.getCostPrice()) {
+            return "Selling price cannot be less than cost price";
+        }
+        if (!refs.brands.contains(req.getBrandId())) {
+            return "Invalid Brand";
+        }
+        if (!refs.units.contains(req.getUnitId())) {
+            return "Invalid Unit";
+        }
+        if (!refs.subDepartments.contains(req.getSubDepartmentId())) {
+            return "Invalid Category";
+        }
+        return null;
+    }
+
+    private record Refs(Set<Long> brands, Set<Long> units, Set<Long> subDepartments) {
+    }
+
+    private static final class Pending {
+
+        final long line;
+        final ProductRequest req;
+        final String code;
+        final String name;
+
+        Pending(long line, ProductRequest req) {
+            this.line = line;
+            this.req = req;
+            this.code = req.getCode().trim();
+            this.name = req.getName().trim();
+        }
+    }
+
+    private static final class Report {
+
+        long received;
+        long imported;
+        long failed;
+        final List<ProductImportError> errors = new ArrayList<>();
+
+        void reject(long line, String code, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProductImportError(line, code, message));
+            }
+        }
+
+        ProductImportReport toDto() {
+            return new ProductImportReport(received, imported, failed, errors, failed > errors.size());
+        }
+    }
+}
@@ -1,15 +1,143 @@
 package com.inventory.registries.product;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+import com.inventory.registries.product.dto.ProductView;
+
+public interface ProductRepository
+        extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
 
     boolean existsByCodeAndActiveTrue(String code);
 
     List<Product> findByActiveTrue();
 
     Optional<Product> findByIdAndActiveTrue(Long id);
+
+    // Codes are unique across inactive rows too, so this checks all products
+    @Query("select p.code from Product p where p.code in :codes")
+    Set<String> findExistingCodes(@Param("codes") Collection<String> codes);
+
+    @Query("select p.id from Product p where p.active = true and p.id in :ids")
+    Set<Long> findActiveIdsIn(@Param("ids") Collection<Long> ids);
+
+    // ---------------- STOCK DELTAS (StockMovementService only) ----------------
+
+    @Modifying
+    @Query("update versioned Product p set p.stock = p.stock + :delta where p.id = :id and p.active = true")
+    int addStock(@Param("id") Long id, @Param("delta") int delta);
+
+    // Compare-and-set: applies only while stock still equals what the caller saw
+    @Modifying
+    @Query("""
+            update versioned Product p set p.stock = p.stock + :delta
+            where p.id = :id and p.active = true and p.stock = :expected
+            """)
+    int addStockIfCurrent(@Param("id") Long id, @Param("delta") int delta, @Param("expected") int expected);
+
+    @Query("select p.stock from Product p where p.id = :id")
+    int findStockById(@Param("id") Long id);
+
+    @Query("select p.id as id, p.stock as stock from Product p where p.active = true and p.id in :ids")
+    List<StockRow> findActiveStockByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.id as id, p.code as code, p.name as name from Product p where p.code in :codes")
+    List<SearchRow> findRowsByCodeIn(@Param("codes") Collection<String> codes);
+
+    // ---------------- READ MODEL ----------------
+
+    String VIEW_SELECT = """
+            select new com.inventory.registries.product.dto.ProductView(
+                p.id, p.code, p.name,
+                b.id, b.name,
+                u.id, u.name,
+                s.id, s.name,
+                d.id, d.name,
+                p.sellingPrice, p.costPrice,
+                p.stock, p.active, p.version)
+            from Product p
+            join p.brand b
+            join p.unit u
+            join p.subDepartment s
+            join s.department d
+            """;
+
+    @Query(VIEW_SELECT + "where p.active = true order by p.id")
+    List<ProductView> findActiveViews();
+
+    @Query(VIEW_SELECT + "where p.id in :ids")
+    List<ProductView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(VIEW_SELECT + "where p.id = :id and p.active = true")
+    Optional<ProductView> findActiveViewById(@Param("id") Long id);
+
+    // ---------------- SEARCH INDEX LOAD ----------------
+
+    @Query("""
+            select p.id as id, p.code as code, p.name as name
+            from Product p
+            where p.active = true
+              and p.id > :afterId
+            order by p.id
+            """)
+    List<SearchRow> findSearchRows(@Param("afterId") long afterId, Limit limit);
+
+    // ---------------- DASHBOARD AGGREGATES ----------------
+
+    @Query("""
+            select count(p) as products,
+                   coalesce(sum(p.stock), 0) as totalStock,
+                   coalesce(sum(case when p.stock <= :threshold then 1 else 0 end), 0) as lowStock,
+                   coalesce(sum(case when p.stock <= 0 then 1 else 0 end), 0) as outOfStock
+            from Product p
+            where p.active = true
+            """)
+    StockStats stockStats(@Param("threshold") int lowStockThreshold);
+
+    @Query("""
+            select d.name as name, count(p) as total
+            from Product p
+            join p.subDepartment s
+            join s.department d
+            where p.active = true
+            group by d.name
+            order by count(p) desc
+            """)
+    List<DepartmentCount> countActiveByDepartment();
+
+    List<Product> findByActiveTrueAndStockLessThanEqualOrderByStockAscIdAsc(Integer stock, Limit limit);
+
+    List<Product> findByActiveTrueOrderByIdDesc(Limit limit);
+
+    interface StockStats {
+        long getProducts();
+        long getTotalStock();
+        long getLowStock();
+        long getOutOfStock();
+    }
+
+    interface StockRow {
+        Long getId();
+        Integer getStock();
+    }
+
+    interface SearchRow {
+        Long getId();
+        String getCode();
+        String getName();
+    }
+
+    interface DepartmentCount {
+        String getName();
+        long getTotal();
+    }
 }
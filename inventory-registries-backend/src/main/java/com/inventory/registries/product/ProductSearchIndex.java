@@ -0,0 +1,498 @@
+package com.inventory.registries.product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.inventory.registries.product.dto.ProductSearchHit;
+
+/**
+ * In-memory typeahead index over active product codes and names.
+ *
+ * Every product gets an internal doc id. Postings map a packed 3-char gram to
+ * the ascending doc ids containing it:
+ * <ul>
+ *   <li>plain trigrams of the lower-cased code and name (substring match)</li>
+ *   <li>three word-start grams per word: 1 and 2 character prefixes padded
+ *       with {@link #WORD_START}, and the 3 character prefix tagged with
+ *       {@link #WORD_PREFIX}, so word-prefix queries never scan</li>
+ *   <li>the same grams again for the start of the code and of the name,
+ *       tagged {@link #CODE_START} and {@link #NAME_START}</li>
+ * </ul>
+ * A query is answered one rank tier at a time (code prefix, name prefix, word
+ * prefix, substring), each tier intersecting the postings of its grams from
+ * the shortest list and verifying each survivor against the real string. It
+ * stops once a tier leaves {@code limit} hits, or after {@code candidateCap}
+ * matches, so latency tracks the result size rather than the catalog size and
+ * a better-ranked hit is never crowded out by lower-ranked ones. The product
+ * whose code equals the query is looked up separately beforehand.
+ *
+ * Updates replace a product by tombstoning its old doc and appending a new one;
+ * postings therefore stay sorted. The index is compacted once more than half
+ * of the docs are dead.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndex.class);
+
+    private static final char WORD_START = '\u0002';
+    private static final long WORD_PREFIX = 1L << 48;
+    private static final long CODE_START = 1L << 49;
+    private static final long NAME_START = 1L << 50;
+    private static final int LOAD_BATCH = 10_000;
+    private static final int MIN_CANDIDATES = 200;
+
+    private final ProductRepository productRepo;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ---- guarded by lock ----
+    private final Map<Long, Integer> docByProductId = new HashMap<>();
+    private final Map<String, Integer> docByNormCode = new HashMap<>();
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private final BitSet alive = new BitSet();
+    private long[] productIds = new long[1024];
+    private String[] codes = new String[1024];
+    private String[] names = new String[1024];
+    private String[] normCodes = new String[1024];
+    private String[] normNames = new String[1024];
+    private int docCount;
+    private int deadCount;
+    // Products written live while the startup build runs; the build skips them
+    private Set<Long> touchedWhileLoading;
+
+    public ProductSearchIndex(ProductRepository productRepo) {
+        this.productRepo = productRepo;
+    }
+
+    // ---------------- STARTUP BUILD ----------------
+    // Requests are already served while this runs. A row read before a live
+    // update or delete of it would bring back the old state, so products
+    // written live in the meantime keep what the live write left.
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDatabase() {
+
+        long start = System.nanoTime();
+        long afterId = 0;
+        int loaded = 0;
+
+        lock.writeLock().lock();
+        try {
+            touchedWhileLoading = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            List<ProductRepository.SearchRow> batch;
+            do {
+                batch = productRepo.findSearchRows(afterId, Limit.of(LOAD_BATCH));
+                lock.writeLock().lock();
+                try {
+                    for (ProductRepository.SearchRow row : batch) {
+                        if (!touchedWhileLoading.contains(row.getId())) {
+                            put(row.getId(), row.getCode(), row.getName());
+                        }
+                        afterId = row.getId();
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                loaded += batch.size();
+            } while (batch.size() == LOAD_BATCH);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                touchedWhileLoading = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        log.info("Product search index built: {} products in {} ms",
+                loaded, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // ---------------- WRITES ----------------
+    public void upsert(Long productId, String code, String name) {
+
+        lock.writeLock().lock();
+        try {
+            touched(productId);
+            put(productId, code, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+
+        lock.writeLock().lock();
+        try {
+            touched(productId);
+            Integer doc = docByProductId.remove(productId);
+            if (doc != null) {
+                kill(doc);
+                compactIfSparse();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByProductId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void touched(Long productId) {
+        if (touchedWhileLoading != null) {
+            touchedWhileLoading.add(productId);
+        }
+    }
+
+    private void put(Long productId, String code, String name) {
+
+        Integer previous = docByProductId.get(productId);
+        if (previous != null) {
+            kill(previous);
+        }
+
+        int doc = docCount++;
+        ensureCapacity(doc + 1);
+        productIds[doc] = productId;
+        codes[doc] = code;
+        names[doc] = name;
+        normCodes[doc] = normalize(code);
+        normNames[doc] = normalize(name);
+        alive.set(doc);
+        docByProductId.put(productId, doc);
+        docByNormCode.put(normCodes[doc], doc);
+
+        for (long gram : gramsOf(normCodes[doc], normNames[doc])) {
+            postings.computeIfAbsent(gram, g -> new IntList()).add(doc);
+        }
+
+        compactIfSparse();
+    }
+
+    // ---------------- SEARCH ----------------
+    /**
+     * Ranked top-{@code limit} hits for {@code query}:
+     * exact code, code prefix, name prefix, name word prefix,
+     * then (3+ characters) code and name substrings.
+     * Ties go to the shorter name, then the lower product id, among the
+     * candidates a capped tier collected.
+     */
+    public List<ProductSearchHit> search(String query, int limit) {
+
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int cap = Math.max(MIN_CANDIDATES, limit * 20);
+
+        lock.readLock().lock();
+        try {
+            List<Candidate> found = new ArrayList<>();
+            BitSet seen = new BitSet();
+
+            Integer exact = docByNormCode.get(q);
+            if (exact != null) {
+                seen.set(exact);
+                found.add(new Candidate(exact, 0));
+            }
+
+            // Best tier first; a tier is only walked if the better ones left room
+            String wordStart = " " + q;
+            collect(prefixGrams(q, CODE_START), q, wordStart, 1, cap, found, seen);
+            if (found.size() < limit) {
+                collect(prefixGrams(q, NAME_START), q, wordStart, 2, cap, found, seen);
+            }
+            if (found.size() < limit) {
+                collect(prefixGrams(q, 0), q, wordStart, 3, cap, found, seen);
+            }
+            if (q.length() >= 3 && found.size() < limit) {
+                collect(trigrams(q), q, wordStart, 5, cap, found, seen);
+            }
+
+            found.sort(Comparator
+                    .comparingInt((Candidate c) -> c.rank)
+                    .thenComparingInt(c -> names[c.doc].length())
+                    .thenComparingLong(c -> productIds[c.doc]));
+
+            List<ProductSearchHit> hits = new ArrayList<>(Math.min(limit, found.size()));
+            for (int i = 0; i < found.size() && i < limit; i++) {
+                int doc = found.get(i).doc;
+                hits.add(new ProductSearchHit(productIds[doc], codes[doc], names[doc]));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Intersect postings (shortest list drives), verify, keep ranks up to maxRank
+    private void collect(long[] grams, String q, String wordStart, int maxRank,
+                         int cap, List<Candidate> out, BitSet seen) {
+
+        IntList[] lists = new IntList[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return;
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(l -> l.size));
+
+        IntList driver = lists[0];
+        int[] cursors = new int[lists.length];
+
+        outer:
+        for (int i = 0; i < driver.size && out.size() < cap; i++) {
+            int doc = driver.values[i];
+            if (!alive.get(doc) || seen.get(doc)) {
+                continue;
+            }
+            for (int l = 1; l < lists.length; l++) {
+                int pos = lists[l].seek(doc, cursors[l]);
+                cursors[l] = pos;
+                if (pos >= lists[l].size || lists[l].values[pos] != doc) {
+                    continue outer;
+                }
+            }
+
+            int rank = rank(doc, q, wordStart);
+            if (rank >= 0 && rank <= maxRank) {
+                seen.set(doc);
+                out.add(new Candidate(doc, rank));
+            }
+        }
+    }
+
+    private int rank(int doc, String q, String wordStart) {
+
+        String code = normCodes[doc];
+        String name = normNames[doc];
+
+        if (code.equals(q)) return 0;
+        if (code.startsWith(q)) return 1;
+        if (name.startsWith(q)) return 2;
+        if (name.contains(wordStart)) return 3;
+        if (code.contains(q)) return 4;
+        if (name.contains(q)) return 5;
+        return -1;
+    }
+
+    // ---------------- GRAMS ----------------
+    private static long[] gramsOf(String code, String name) {
+
+        long[] out = new long[3 * (code.length() + name.length()) + 14];
+        int n = 0;
+
+        n = startGrams(code, 0, CODE_START, out, n);
+        n = startGrams(name, 0, NAME_START, out, n);
+        for (String text : new String[] { code, name }) {
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                out[n++] = pack(text.charAt(i), text.charAt(i + 1), text.charAt(i + 2));
+            }
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) != ' ' && (i == 0 || text.charAt(i - 1) == ' ')) {
+                    n = startGrams(text, i, 0, out, n);
+                }
+            }
+        }
+
+        // Distinct, so each doc appears at most once per posting list
+        long[] grams = Arrays.copyOf(out, n);
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    // Grams of the word starting at i (1, 2 and 3 characters), under tag
+    private static int startGrams(String text, int i, long tag, long[] out, int n) {
+
+        if (i >= text.length()) {
+            return n;
+        }
+        out[n++] = tag | pack(WORD_START, WORD_START, text.charAt(i));
+        if (i + 1 < text.length() && text.charAt(i + 1) != ' ') {
+            out[n++] = tag | pack(WORD_START, text.charAt(i), text.charAt(i + 1));
+            if (i + 2 < text.length() && text.charAt(i + 2) != ' ') {
+                out[n++] = tag | WORD_PREFIX | pack(text.charAt(i), text.charAt(i + 1), text.charAt(i + 2));
+            }
+        }
+        return n;
+    }
+
+    // Trigrams plus the start grams: 0 for any word, or CODE_START / NAME_START
+    private static long[] prefixGrams(String q, long tag) {
+
+        long[] tri = trigrams(q);
+        long[] out = Arrays.copyOf(tri, tri.length + 3);
+        int n = startGrams(q, 0, tag, out, tri.length);
+        return Arrays.copyOf(out, n);
+    }
+
+    private static long[] trigrams(String q) {
+        if (q.length() < 3) {
+            return new long[0];
+        }
+        long[] out = new long[q.length() - 2];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = pack(q.charAt(i), q.charAt(i + 1), q.charAt(i + 2));
+        }
+        return out;
+    }
+
+    private static long pack(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    // Lower-case, trimmed, single spaces between words
+    static String normalize(String s) {
+
+        if (s == null) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(s.length());
+        boolean space = false;
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+            } else {
+                if (space) {
+                    sb.append(' ');
+                    space = false;
+                }
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // ---------------- MAINTENANCE ----------------
+    private void kill(int doc) {
+        docByNormCode.remove(normCodes[doc], doc);
+        alive.clear(doc);
+        codes[doc] = null;
+        names[doc] = null;
+        normCodes[doc] = null;
+        normNames[doc] = null;
+        deadCount++;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed > productIds.length) {
+            int cap = Math.max(needed, productIds.length * 2);
+            productIds = Arrays.copyOf(productIds, cap);
+            codes = Arrays.copyOf(codes, cap);
+            names = Arrays.copyOf(names, cap);
+            normCodes = Arrays.copyOf(normCodes, cap);
+            normNames = Arrays.copyOf(normNames, cap);
+        }
+    }
+
+    // Rebuild postings from live docs once tombstones dominate
+    private void compactIfSparse() {
+
+        if (deadCount < 1024 || deadCount * 2 < docCount) {
+            return;
+        }
+
+        long[] oldIds = productIds;
+        String[] oldCodes = codes;
+        String[] oldNames = names;
+        String[] oldNormCodes = normCodes;
+        String[] oldNormNames = normNames;
+        int oldCount = docCount;
+
+        docByProductId.clear();
+        docByNormCode.clear();
+        postings.clear();
+        alive.clear();
+        productIds = new long[Math.max(1024, oldCount - deadCount)];
+        codes = new String[productIds.length];
+        names = new String[productIds.length];
+        normCodes = new String[productIds.length];
+        normNames = new String[productIds.length];
+        docCount = 0;
+        deadCount = 0;
+
+        for (int doc = 0; doc < oldCount; doc++) {
+            if (oldCodes[doc] == null) {
+                continue;
+            }
+            int fresh = docCount++;
+            productIds[fresh] = oldIds[doc];
+            codes[fresh] = oldCodes[doc];
+            names[fresh] = oldNames[doc];
+            normCodes[fresh] = oldNormCodes[doc];
+            normNames[fresh] = oldNormNames[doc];
+            alive.set(fresh);
+            docByProductId.put(oldIds[doc], fresh);
+            docByNormCode.put(normCodes[fresh], fresh);
+            for (long gram : gramsOf(normCodes[fresh], normNames[fresh])) {
+                postings.computeIfAbsent(gram, g -> new IntList()).add(fresh);
+            }
+        }
+    }
+
+    private record Candidate(int doc, int rank) {
+    }
+
+    /** Growable ascending int array. */
+    private static final class IntList {
+
+        int[] values = new int[4];
+        int size;
+
+        void add(int v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+
+        // First index >= from whose value is >= target (gallop, then binary search)
+        int seek(int target, int from) {
+            int step = 1;
+            int hi = from;
+            while (hi < size && values[hi] < target) {
+                from = hi + 1;
+                hi += step;
+                step <<= 1;
+            }
+            int idx = Arrays.binarySearch(values, from, Math.min(hi + 1, size), target);
+            return idx >= 0 ? idx : -idx - 1;
+        }
+    }
+}
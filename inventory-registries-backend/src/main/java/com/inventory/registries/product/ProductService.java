@@ -1,51 +1,85 @@
 package com.inventory.registries.product;
 
 import com.inventory.registries.brand.Brand;
-import com.inventory.registries.brand.BrandRepository;
+import com.inventory.registries.cache.ReferenceDataCache;
+import com.inventory.registries.cache.RegistryVersions;
+import com.inventory.registries.common.CursorPage;
+import com.inventory.registries.common.TransactionHooks;
+import com.inventory.registries.outbox.Outbox;
+import com.inventory.registries.outbox.OutboxEvent;
 import com.inventory.registries.pricelevel.PriceLevelRepository;
+import com.inventory.registries.product.dto.ProductQuery;
 import com.inventory.registries.product.dto.ProductRequest;
+import com.inventory.registries.product.dto.ProductSearchHit;
+import com.inventory.registries.product.dto.ProductView;
+import com.inventory.registries.stockmovement.StockMovementService;
 import com.inventory.registries.stocktaking.StockTakingRepository;
 import com.inventory.registries.subdepartment.SubDepartment;
-import com.inventory.registries.subdepartment.SubDepartmentRepository;
 import com.inventory.registries.unit.Unit;
-import com.inventory.registries.unit.UnitRepository;
 
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final Set<String> SORT_FIELDS = Set.of("id", "code", "name");
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final ProductRepository productRepo;
-    private final BrandRepository brandRepo;
-    private final UnitRepository unitRepo;
-    private final SubDepartmentRepository subDeptRepo;
+    private final ReferenceDataCache refs;
     private final StockTakingRepository stockTakingRepo;
     private final PriceLevelRepository priceLevelRepo;
+    private final ProductSearchIndex searchIndex;
+    private final RegistryVersions versions;
+    private final Validator validator;
+    private final StockMovementService stock;
+    private final Outbox outbox;
 
     public ProductService(
             ProductRepository productRepo,
-            BrandRepository brandRepo,
-            UnitRepository unitRepo,
-            SubDepartmentRepository subDeptRepo,
+            ReferenceDataCache refs,
             StockTakingRepository stockTakingRepo,
-            PriceLevelRepository priceLevelRepo
+            PriceLevelRepository priceLevelRepo,
+            ProductSearchIndex searchIndex,
+            RegistryVersions versions,
+            Validator validator,
+            StockMovementService stock,
+            Outbox outbox
     ) {
         this.productRepo = productRepo;
-        this.brandRepo = brandRepo;
-        this.unitRepo = unitRepo;
-        this.subDeptRepo = subDeptRepo;
+        this.refs = refs;
         this.stockTakingRepo = stockTakingRepo;
         this.priceLevelRepo = priceLevelRepo;
+        this.searchIndex = searchIndex;
+        this.versions = versions;
+        this.validator = validator;
+        this.stock = stock;
+        this.outbox = outbox;
     }
 
     // ---------------- CREATE ----------------
-    public Product create(ProductRequest req) {
+    @Transactional
+    public ProductView create(ProductRequest req) {
 
         // 🔒 Unique product code (active only)
         if (productRepo.existsByCodeAndActiveTrue(req.getCode())) {
@@ -54,42 +88,98 @@ public class ProductService {
             );
         }
 
-        Brand brand = brandRepo.findByIdAndActiveTrue(req.getBrandId())
-                .orElseThrow(() ->
-                        new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Brand"));
+        Product saved = productRepo.save(newProduct(req));
+        stock.opening(saved);
+        ProductView view = ProductView.of(saved);
+        outbox.append(OutboxEvent.Type.PRODUCT_CREATED, saved.getId(), view);
+        TransactionHooks.afterCommit(() -> searchIndex.upsert(saved.getId(), saved.getCode(), saved.getName()));
+        versions.products().bump();
 
-        Unit unit = unitRepo.findByIdAndActiveTrue(req.getUnitId())
-                .orElseThrow(() ->
-                        new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Unit"));
+        return view;
+    }
 
-        SubDepartment subDept = subDeptRepo.findByIdAndActiveTrue(req.getSubDepartmentId())
-                .orElseThrow(() ->
-                        new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Category"));
+    // ---------------- BATCH CREATE ----------------
+    /**
+     * All-or-nothing create of up to {@link #MAX_BATCH_SIZE} products in one
+     * transaction. Codes are checked with one query and rows are inserted in
+     * JDBC batches. Errors name the failing row (0-based).
+     */
+    @Transactional
+    public List<ProductView> createBatch(List<ProductRequest> reqs) {
 
-        validatePrice(req.getSellingPrice(), req.getCostPrice());
+        if (reqs == null || reqs.isEmpty() || reqs.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Batch must hold 1 to " + MAX_BATCH_SIZE + " products"
+            );
+        }
 
-        Product product = new Product();
-        product.setCode(req.getCode().trim());
-        product.setName(req.getName().trim());
-        product.setSellingPrice(req.getSellingPrice());
-        product.setCostPrice(req.getCostPrice());
-        product.setStock(req.getStock());
-        product.setBrand(brand);
-        product.setUnit(unit);
-        product.setSubDepartment(subDept);
-        product.setActive(true);
+        List<Product> products = new ArrayList<>(reqs.size());
+        Set<String> codes = new HashSet<>();
 
-        return productRepo.save(product);
+        for (int i = 0; i < reqs.size(); i++) {
+            try {
+                ProductRequest req = reqs.get(i);
+                validateRequest(req);
+                if (!codes.add(req.getCode().trim())) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, "Duplicate code in batch");
+                }
+                products.add(newProduct(req));
+            } catch (ResponseStatusException e) {
+                throw new ResponseStatusException(e.getStatusCode(), "Row " + i + ": " + e.getReason());
+            }
+        }
+
+        // 🔒 Unique product codes: one query for the whole batch
+        Set<String> taken = productRepo.findExistingCodes(codes);
+        for (int i = 0; i < products.size(); i++) {
+            if (taken.contains(products.get(i).getCode())) {
+                throw new ResponseStatusException(
+                        HttpStatus.CONFLICT, "Row " + i + ": Product code already exists"
+                );
+            }
+        }
+
+        List<Product> saved = productRepo.saveAll(products);
+        saved.forEach(stock::opening);
+        List<ProductView> views = saved.stream()
+                .map(ProductView::of)
+                .toList();
+        outbox.appendAll(OutboxEvent.Type.PRODUCT_CREATED, views, ProductView::getId, v -> v);
+        TransactionHooks.afterCommit(() -> saved.forEach(p ->
+                searchIndex.upsert(p.getId(), p.getCode(), p.getName())));
+        versions.products().bump();
+
+        return views;
+    }
+
+    // ---------------- GET ----------------
+    public ProductView get(Long id) {
+        return productRepo.findActiveViewById(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "Product not found"
+                ));
     }
 
     // ---------------- UPDATE ----------------
-    public Product update(Long id, ProductRequest req) {
+    /**
+     * {@code expectedVersion} is the If-Match version (null skips that check).
+     * The row update is version-checked at flush either way, so an edit that
+     * raced another one fails instead of silently overwriting it.
+     */
+    @Transactional
+    public ProductView update(Long id, ProductRequest req, Long expectedVersion) {
 
         Product existing = productRepo.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "Product not found"
                 ));
 
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            throw new ResponseStatusException(
+                    HttpStatus.PRECONDITION_FAILED, "Product was changed by another user, reload and retry"
+            );
+        }
+
         validatePrice(req.getSellingPrice(), req.getCostPrice());
 
         // ⚠️ Code is intentionally NOT updatable
@@ -97,10 +187,22 @@ public class ProductService {
         existing.setSellingPrice(req.getSellingPrice());
         existing.setCostPrice(req.getCostPrice());
 
-        // ⚠️ TEMPORARY: stock update allowed (as per your comment)
-        existing.setStock(req.getStock());
+        productRepo.saveAndFlush(existing);
+
+        // ⚠️ TEMPORARY: stock edit allowed, recorded as a ledger adjustment
+        // against the stock this edit was based on (409 if it moved since)
+        Integer target = req.getStock();
+        if (target != null && !target.equals(existing.getStock())) {
+            stock.adjustTo(existing.getId(), existing.getStock(), target, "Product edit");
+        }
+
+        TransactionHooks.afterCommit(() -> searchIndex.upsert(existing.getId(), existing.getCode(), existing.getName()));
+        versions.products().bump();
 
-        return productRepo.save(existing);
+        // Re-read: the stock delta bumped stock and version behind the entity
+        ProductView view = productRepo.findActiveViewById(id).orElseThrow();
+        outbox.append(OutboxEvent.Type.PRODUCT_UPDATED, id, view);
+        return view;
     }
 
     // ---------------- DELETE (SAFE SOFT DELETE) ----------------
@@ -127,15 +229,135 @@ public class ProductService {
         }
 
         product.setActive(false);
-        productRepo.save(product);
+        productRepo.saveAndFlush(product);
+        outbox.append(OutboxEvent.Type.PRODUCT_DELETED, id, ProductView.of(product));
+        TransactionHooks.afterCommit(() -> searchIndex.remove(id));
+        versions.products().bump();
     }
 
     // ---------------- LIST ----------------
-    public List<Product> getAll() {
-        return productRepo.findByActiveTrue();
+    public List<ProductView> getAll() {
+        return productRepo.findActiveViews();
+    }
+
+    // ---------------- PAGE (KEYSET) ----------------
+    public CursorPage<ProductView> page(ProductQuery query) {
+
+        String sortField = query.getSort() == null ? "id" : query.getSort();
+        if (!SORT_FIELDS.contains(sortField)) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Unsupported sort: " + sortField
+            );
+        }
+
+        Sort.Direction dir = query.getDir() == null
+                ? Sort.Direction.ASC
+                : Sort.Direction.fromOptionalString(query.getDir())
+                        .orElseThrow(() -> new ResponseStatusException(
+                                HttpStatus.BAD_REQUEST, "Unsupported dir: " + query.getDir()));
+
+        // id is always the last key so the order is total and stable
+        Sort sort = "id".equals(sortField)
+                ? Sort.by(dir, "id")
+                : Sort.by(dir, sortField).and(Sort.by(dir, "id"));
+
+        int limit = query.getLimit() == null
+                ? DEFAULT_PAGE_SIZE
+                : Math.max(1, Math.min(query.getLimit(), MAX_PAGE_SIZE));
+
+        ScrollPosition position = query.getCursor() == null || query.getCursor().isBlank()
+                ? ScrollPosition.keyset()
+                : ProductCursor.decode(query.getCursor(), sortField, dir);
+
+        Specification<Product> spec = ProductSpecifications.of(query);
+
+        Window<Product> window = productRepo.findBy(spec, q -> q
+                .sortBy(sort)
+                .limit(limit)
+                .scroll(position));
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? ProductCursor.encode(sortField, dir, window.positionAt(window.size() - 1))
+                : null;
+
+        Long total = query.isIncludeTotal() ? productRepo.count(spec) : null;
+
+        // Second bounded query: joined read model for just this page, kept in window order
+        List<Long> ids = window.getContent()
+                .stream()
+                .map(Product::getId)
+                .toList();
+
+        Map<Long, ProductView> views = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (ProductView v : productRepo.findViewsByIdIn(ids)) {
+                views.put(v.getId(), v);
+            }
+        }
+
+        List<ProductView> items = ids.stream()
+                .map(views::get)
+                .toList();
+
+        return new CursorPage<>(items, nextCursor, total);
+    }
+
+    // ---------------- SEARCH (IN-MEMORY) ----------------
+    public List<ProductSearchHit> search(String q, Integer limit) {
+        int k = limit == null ? 10 : Math.max(1, Math.min(limit, 50));
+        return searchIndex.search(q, k);
     }
 
     // ---------------- RULES ----------------
+    // Unsaved product with its references resolved (from the registry cache)
+    private Product newProduct(ProductRequest req) {
+
+        Brand brand = refs.brands().get(req.getBrandId())
+                .orElseThrow(() ->
+                        new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Brand"));
+
+        Unit unit = refs.units().get(req.getUnitId())
+                .orElseThrow(() ->
+                        new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Unit"));
+
+        SubDepartment subDept = refs.subDepartments().get(req.getSubDepartmentId())
+                .orElseThrow(() ->
+                        new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Category"));
+
+        validatePrice(req.getSellingPrice(), req.getCostPrice());
+
+        Product product = new Product();
+        product.setCode(req.getCode().trim());
+        product.setName(req.getName().trim());
+        product.setSellingPrice(req.getSellingPrice());
+        product.setCostPrice(req.getCostPrice());
+        product.setStock(req.getStock() == null ? 0 : req.getStock());
+        product.setBrand(brand);
+        product.setUnit(unit);
+        product.setSubDepartment(subDept);
+        product.setActive(true);
+        return product;
+    }
+
+    // Bean validation for rows that did not pass through @Valid
+    private void validateRequest(ProductRequest req) {
+
+        if (req == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Empty product");
+        }
+
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(req);
+        if (!violations.isEmpty()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    violations.stream()
+                            .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                            .sorted()
+                            .collect(Collectors.joining("; "))
+            );
+        }
+    }
+
     private void validatePrice(Double selling, Double cost) {
         if (selling < cost) {
             throw new ResponseStatusException(
@@ -0,0 +1,63 @@
+package com.inventory.registries.product;
+
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.inventory.registries.product.dto.ProductQuery;
+
+/**
+ * Server-side filters for the product listing.
+ * Every predicate lines up with an index on the products table.
+ */
+final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    static Specification<Product> of(ProductQuery query) {
+
+        Specification<Product> spec = active();
+
+        if (query.getBrandId() != null) {
+            spec = spec.and(eq("brand", query.getBrandId()));
+        }
+        if (query.getUnitId() != null) {
+            spec = spec.and(eq("unit", query.getUnitId()));
+        }
+        if (query.getSubDepartmentId() != null) {
+            spec = spec.and(eq("subDepartment", query.getSubDepartmentId()));
+        }
+        if (query.getQ() != null && !query.getQ().isBlank()) {
+            spec = spec.and(nameOrCodeStartsWith(query.getQ()));
+        }
+
+        return spec;
+    }
+
+    static Specification<Product> active() {
+        return (root, cq, cb) -> cb.isTrue(root.get("active"));
+    }
+
+    // Compares the FK column directly, no join to the referenced table
+    private static Specification<Product> eq(String association, Long id) {
+        return (root, cq, cb) -> cb.equal(root.get(association).get("id"), id);
+    }
+
+    private static Specification<Product> nameOrCodeStartsWith(String prefix) {
+
+        String pattern = escapeLike(prefix.trim().toLowerCase(Locale.ROOT)) + "%";
+
+        return (root, cq, cb) -> cb.or(
+                cb.like(cb.lower(root.get("name")), pattern, '\\'),
+                cb.like(cb.lower(root.get("code")), pattern, '\\')
+        );
+    }
+
+    private static String escapeLike(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,18 @@
+package com.inventory.registries.product.dto;
+
+public class ProductImportError {
+
+    private final long line;
+    private final String code;
+    private final String message;
+
+    public ProductImportError(long line, String code, String message) {
+        this.line = line;
+        this.code = code;
+        this.message = message;
+    }
+
+    public long getLine() { return line; }
+    public String getCode() { return code; }
+    public String getMessage() { return message; }
+}
@@ -0,0 +1,31 @@
+package com.inventory.registries.product.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} lists rejected rows by source line
+ * and is capped; {@code failed} always holds the full count.
+ */
+public class ProductImportReport {
+
+    private final long received;
+    private final long imported;
+    private final long failed;
+    private final List<ProductImportError> errors;
+    private final boolean errorsTruncated;
+
+    public ProductImportReport(long received, long imported, long failed,
+                               List<ProductImportError> errors, boolean errorsTruncated) {
+        this.received = received;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public long getReceived() { return received; }
+    public long getImported() { return imported; }
+    public long getFailed() { return failed; }
+    public List<ProductImportError> getErrors() { return errors; }
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+}
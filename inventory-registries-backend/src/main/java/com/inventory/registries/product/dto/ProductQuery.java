@@ -0,0 +1,99 @@
+package com.inventory.registries.product.dto;
+
+/**
+ * Query parameters for the paginated product listing.
+ * Bound straight from the request query string.
+ */
+public class ProductQuery {
+
+    private Long brandId;
+    private Long unitId;
+    private Long subDepartmentId;
+
+    /** Case-insensitive prefix matched against name OR code. */
+    private String q;
+
+    /** id | code | name (id is always the tie-breaker). */
+    private String sort = "id";
+
+    /** asc | desc */
+    private String dir = "asc";
+
+    private String cursor;
+
+    private Integer limit;
+
+    private boolean includeTotal;
+
+	public Long getBrandId() {
+		return brandId;
+	}
+
+	public void setBrandId(Long brandId) {
+		this.brandId = brandId;
+	}
+
+	public Long getUnitId() {
+		return unitId;
+	}
+
+	public void setUnitId(Long unitId) {
+		this.unitId = unitId;
+	}
+
+	public Long getSubDepartmentId() {
+		return subDepartmentId;
+	}
+
+	public void setSubDepartmentId(Long subDepartmentId) {
+		this.subDepartmentId = subDepartmentId;
+	}
+
+	public String getQ() {
+		return q;
+	}
+
+	public void setQ(String q) {
+		this.q = q;
+	}
+
+	public String getSort() {
+		return sort;
+	}
+
+	public void setSort(String sort) {
+		this.sort = sort;
+	}
+
+	public String getDir() {
+		return dir;
+	}
+
+	public void setDir(String dir) {
+		this.dir = dir;
+	}
+
+	public String getCursor() {
+		return cursor;
+	}
+
+	public void setCursor(String cursor) {
+		this.cursor = cursor;
+	}
+
+	public Integer getLimit() {
+		return limit;
+	}
+
+	public void setLimit(Integer limit) {
+		this.limit = limit;
+	}
+
+	public boolean isIncludeTotal() {
+		return includeTotal;
+	}
+
+	public void setIncludeTotal(boolean includeTotal) {
+		this.includeTotal = includeTotal;
+	}
+}
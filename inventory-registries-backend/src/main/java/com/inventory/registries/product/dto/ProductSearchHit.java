@@ -0,0 +1,18 @@
+package com.inventory.registries.product.dto;
+
+public class ProductSearchHit {
+
+    private final Long id;
+    private final String code;
+    private final String name;
+
+    public ProductSearchHit(Long id, String code, String name) {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+    }
+
+    public Long getId() { return id; }
+    public String getCode() { return code; }
+    public String getName() { return name; }
+}
@@ -0,0 +1,81 @@
+package com.inventory.registries.product.dto;
+
+import com.inventory.registries.common.NamedRef;
+import com.inventory.registries.product.Product;
+
+/**
+ * Read model for product responses.
+ *
+ * Keeps the nested {@code brand / unit / subDepartment} shape the UI
+ * already reads, plus the parent department, without ever exposing a
+ * lazy proxy to the JSON writer.
+ */
+public class ProductView {
+
+    private final Long id;
+    private final String code;
+    private final String name;
+    private final NamedRef brand;
+    private final NamedRef unit;
+    private final NamedRef subDepartment;
+    private final NamedRef department;
+    private final Double sellingPrice;
+    private final Double costPrice;
+    private final Integer stock;
+    private final Boolean active;
+    private final Long version;
+
+    // Constructor expression target for JPQL (select new ...)
+    public ProductView(
+            Long id, String code, String name,
+            Long brandId, String brandName,
+            Long unitId, String unitName,
+            Long subDepartmentId, String subDepartmentName,
+            Long departmentId, String departmentName,
+            Double sellingPrice, Double costPrice,
+            Integer stock, Boolean active, Long version
+    ) {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+        this.brand = new NamedRef(brandId, brandName);
+        this.unit = new NamedRef(unitId, unitName);
+        this.subDepartment = new NamedRef(subDepartmentId, subDepartmentName);
+        this.department = new NamedRef(departmentId, departmentName);
+        this.sellingPrice = sellingPrice;
+        this.costPrice = costPrice;
+        this.stock = stock;
+        this.active = active;
+        this.version = version;
+    }
+
+    /**
+     * Maps an entity whose brand, unit, subDepartment and department
+     * are already loaded (entity graph or fresh references).
+     */
+    public static ProductView of(Product p) {
+        return new ProductView(
+                p.getId(), p.getCode(), p.getName(),
+                p.getBrand().getId(), p.getBrand().getName(),
+                p.getUnit().getId(), p.getUnit().getName(),
+                p.getSubDepartment().getId(), p.getSubDepartment().getName(),
+                p.getSubDepartment().getDepartment().getId(),
+                p.getSubDepartment().getDepartment().getName(),
+                p.getSellingPrice(), p.getCostPrice(),
+                p.getStock(), p.getActive(), p.getVersion()
+        );
+    }
+
+    public Long getId() { return id; }
+    public String getCode() { return code; }
+    public String getName() { return name; }
+    public NamedRef getBrand() { return brand; }
+    public NamedRef getUnit() { return unit; }
+    public NamedRef getSubDepartment() { return subDepartment; }
+    public NamedRef getDepartment() { return department; }
+    public Double getSellingPrice() { return sellingPrice; }
+    public Double getCostPrice() { return costPrice; }
+    public Integer getStock() { return stock; }
+    public Boolean getActive() { return active; }
+    public Long getVersion() { return version; }
+}
@@ -2,6 +2,10 @@ package com.inventory.registries.security;
 
 import com.inventory.registries.security.dto.LoginRequest;
 import com.inventory.registries.security.dto.LoginResponse;
+import com.inventory.registries.security.dto.RefreshRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,27 +19,40 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final PasswordCheckPool passwordCheckPool;
+    private final RefreshTokenService refreshTokenService;
 
     public AuthController(
             AuthenticationManager authenticationManager,
-            JwtUtil jwtUtil
+            JwtUtil jwtUtil,
+            PasswordCheckPool passwordCheckPool,
+            RefreshTokenService refreshTokenService
     ) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.passwordCheckPool = passwordCheckPool;
+        this.refreshTokenService = refreshTokenService;
     }
 
+    // The BCrypt check runs on the password-check pool; the request thread
+    // is released while it waits, and a login that would wait too long for
+    // its turn answers 429 at once
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(
             @RequestBody LoginRequest request
     ) {
 
-        Authentication authentication =
+        return passwordCheckPool.submit(() ->
                 authenticationManager.authenticate(
                         new UsernamePasswordAuthenticationToken(
                                 request.getUsername(),
                                 request.getPassword()
                         )
-                );
+                )
+        ).thenApply(this::loggedIn);
+    }
+
+    private ResponseEntity<LoginResponse> loggedIn(Authentication authentication) {
 
         CustomUserDetails userDetails =
                 (CustomUserDetails) authentication.getPrincipal();
@@ -46,13 +63,47 @@ public class AuthController {
                 .next()
                 .getAuthority(); // ROLE_ADMIN etc.
 
-        String token = jwtUtil.generateToken(
+        return ResponseEntity.ok(tokens(
                 userDetails.getUsername(),
-                java.util.List.of(role)
-        );
+                role,
+                userDetails.getUser().getTokenGeneration(),
+                refreshTokenService.issue(userDetails.getUsername())
+        ));
+    }
+
+    // New access token and a new refresh token; the old one is used up
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(
+            @RequestBody RefreshRequest request
+    ) {
+
+        RefreshTokenService.Rotation rotation =
+                refreshTokenService.rotate(request.getRefreshToken());
+
+        User user = rotation.user();
+
+        return ResponseEntity.ok(tokens(
+                user.getUsername(),
+                "ROLE_" + user.getRole().name(),
+                user.getTokenGeneration(),
+                rotation.refreshToken()
+        ));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestBody RefreshRequest request
+    ) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
 
-        return ResponseEntity.ok(
-                new LoginResponse(token, role)
+    private LoginResponse tokens(String username, String role, int generation, String refreshToken) {
+        return new LoginResponse(
+                jwtUtil.generateToken(username, List.of(role), generation),
+                role,
+                refreshToken,
+                jwtUtil.getAccessTtl().toSeconds()
         );
     }
 }
@@ -8,11 +8,10 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -21,8 +20,17 @@ import io.jsonwebtoken.Claims;
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
-    @Autowired
-    private JwtUtil jwtUtil;
+    private static final String BEARER = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenRevocations revocations;
+
+    public JwtFilter(JwtUtil jwtUtil, VerifiedTokenCache tokenCache, TokenRevocations revocations) {
+        this.jwtUtil = jwtUtil;
+        this.tokenCache = tokenCache;
+        this.revocations = revocations;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -33,33 +41,30 @@ public class JwtFilter extends OncePerRequestFilter {
 
         String authHeader = request.getHeader("Authorization");
 
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-
-            String token = authHeader.substring(7);
+        if (authHeader != null && authHeader.startsWith(BEARER)) {
 
             try {
-                Claims claims = jwtUtil.getClaims(token);
-
-                String username = claims.getSubject();
-                List<String> roles = claims.get("roles", List.class);
-
-                var authorities = roles.stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .toList();
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                username,
-                                null,
-                                authorities
-                        );
-
-                authentication.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-
-                SecurityContextHolder.getContext()
-                        .setAuthentication(authentication);
+                // Verified before: reuse its Authentication (hashed in place, no substring)
+                VerifiedTokenCache.Key key = VerifiedTokenCache.key(authHeader, BEARER.length());
+                VerifiedTokenCache.VerifiedToken verified = tokenCache.get(key);
+
+                if (verified == null) {
+                    Claims claims = jwtUtil.getClaims(authHeader.substring(BEARER.length()));
+                    verified = new VerifiedTokenCache.VerifiedToken(
+                            authenticationOf(claims),
+                            generationOf(claims),
+                            claims.getExpiration().getTime());
+                    tokenCache.put(key, verified);
+                }
+
+                // Issued before the user's last role change → treated as no token
+                Authentication authentication = verified.authentication();
+                if (revocations.isRevoked(authentication.getName(), verified.generation())) {
+                    SecurityContextHolder.clearContext();
+                } else {
+                    SecurityContextHolder.getContext()
+                            .setAuthentication(authentication);
+                }
 
             } catch (Exception e) {
                 // Invalid or expired token → clear context
@@ -69,4 +74,26 @@ public class JwtFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // Tokens from before generations existed count as generation 0
+    private static int generationOf(Claims claims) {
+        Integer generation = claims.get(JwtUtil.GENERATION_CLAIM, Integer.class);
+        return generation != null ? generation : 0;
+    }
+
+    // Shared by later requests with the same token, so no per-request details
+    private static Authentication authenticationOf(Claims claims) {
+
+        List<?> roles = claims.get("roles", List.class);
+
+        var authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.toString()))
+                .toList();
+
+        return UsernamePasswordAuthenticationToken.authenticated(
+                claims.getSubject(),
+                null,
+                authorities
+        );
+    }
 }
@@ -1,13 +1,16 @@
 package com.inventory.registries.security;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 import java.nio.charset.StandardCharsets;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -21,24 +24,37 @@ public class JwtUtil {
     private final Key key =
             Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
 
-    private static final long EXPIRATION = 1000 * 60 * 60; // 1 hour
+    // Short-lived; clients renew through /api/auth/refresh
+    private final Duration accessTtl;
 
-    public String generateToken(String subject, List<String> roles) {
+    // Immutable and thread-safe, so built once
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+
+    public JwtUtil(@Value("${security.jwt.access-ttl:15m}") Duration accessTtl) {
+        this.accessTtl = accessTtl;
+    }
+
+    public Duration getAccessTtl() {
+        return accessTtl;
+    }
+
+    public static final String GENERATION_CLAIM = "gen";
+
+    public String generateToken(String subject, List<String> roles, int generation) {
 
         return Jwts.builder()
                 .setSubject(subject)
                 .claim("roles", roles)
+                .claim(GENERATION_CLAIM, generation)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .setExpiration(new Date(System.currentTimeMillis() + accessTtl.toMillis()))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 }
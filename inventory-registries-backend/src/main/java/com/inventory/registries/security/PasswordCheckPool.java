@@ -0,0 +1,107 @@
+package com.inventory.registries.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.inventory.registries.common.exception.TooManyRequestsException;
+
+/**
+ * The only threads that run password checks. BCrypt is deliberately slow and
+ * all CPU, so a burst of logins on request threads would starve every other
+ * endpoint; here it is capped at {@code threads} concurrent hashes.
+ *
+ * A login is only queued if it would be answered within {@code maxWait}: the
+ * checks ahead of it, spread over the threads, times the average check. The
+ * average starts from one hash timed at startup and follows the checks that
+ * actually run. Past that a login gets 429 and Retry-After at once instead of
+ * waiting behind hashes it could never catch up with. {@code queueCapacity}
+ * only bounds memory; the wait estimate turns logins away long before it.
+ *
+ * Kept private rather than registered as an Executor bean, so nothing else
+ * picks it up as a general-purpose executor.
+ */
+@Component
+public class PasswordCheckPool implements DisposableBean {
+
+    private final ThreadPoolExecutor pool;
+    private final int threads;
+    private final long maxWaitNanos;
+    private final Duration retryAfter;
+
+    // Moving average of recent checks, each new one weighted 1/8
+    private final AtomicLong checkNanos;
+
+    public PasswordCheckPool(
+            PasswordEncoder passwordEncoder,
+            @Value("${security.login.threads:0}") int threads,
+            @Value("${security.login.max-wait:2s}") Duration maxWait,
+            @Value("${security.login.queue-capacity:100}") int queueCapacity,
+            @Value("${security.login.retry-after:2s}") Duration retryAfter
+    ) {
+        // 0: half the cores, leaving the rest to everything else
+        this.threads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ThreadPoolExecutor(
+                this.threads, this.threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-check-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfter = retryAfter;
+
+        long start = System.nanoTime();
+        passwordEncoder.encode("startup-timing");
+        this.checkNanos = new AtomicLong(System.nanoTime() - start);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> check) {
+        if (estimatedWait() > maxWaitNanos) {
+            throw tooMany();
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> timed(check), pool);
+        } catch (RejectedExecutionException e) {
+            throw tooMany();
+        }
+    }
+
+    public int queued() {
+        return pool.getQueue().size();
+    }
+
+    // Until this login's own check is done: the rounds queued ahead of it
+    // on all threads, then its own
+    long estimatedWait() {
+        return (queued() / threads + 1) * checkNanos.get();
+    }
+
+    private <T> T timed(Supplier<T> check) {
+        long start = System.nanoTime();
+        try {
+            return check.get();
+        } finally {
+            long took = System.nanoTime() - start;
+            checkNanos.accumulateAndGet(took, (avg, sample) -> avg + (sample - avg) / 8);
+        }
+    }
+
+    private TooManyRequestsException tooMany() {
+        return new TooManyRequestsException("Too many logins in progress, retry shortly", retryAfter);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,64 @@
+package com.inventory.registries.security;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+/**
+ * A refresh token as issued by {@link RefreshTokenService}. Only the token's
+ * SHA-256 is stored, so the table alone cannot be used to sign in.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_username", columnList = "username"),
+        @Index(name = "idx_refresh_tokens_expires", columnList = "expiresAt")
+})
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTokenHash() {
+		return tokenHash;
+	}
+
+	public void setTokenHash(String tokenHash) {
+		this.tokenHash = tokenHash;
+	}
+
+	public String getUsername() {
+		return username;
+	}
+
+	public void setUsername(String username) {
+		this.username = username;
+	}
+
+	public LocalDateTime getExpiresAt() {
+		return expiresAt;
+	}
+
+	public void setExpiresAt(LocalDateTime expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+}
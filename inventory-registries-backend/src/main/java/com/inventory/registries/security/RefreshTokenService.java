@@ -0,0 +1,115 @@
+package com.inventory.registries.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Long-lived, single-use tokens that buy a new access token without a
+ * password check. Each refresh deletes the token it was given and hands out
+ * a new one, so a token that leaks is good for at most one use, and a token
+ * used twice at once only works for whichever request deletes it first.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository repo;
+    private final UserRepository userRepo;
+    private final Duration ttl;
+
+    public RefreshTokenService(
+            RefreshTokenRepository repo,
+            UserRepository userRepo,
+            @Value("${security.jwt.refresh-ttl:12h}") Duration ttl
+    ) {
+        this.repo = repo;
+        this.userRepo = userRepo;
+        this.ttl = ttl;
+    }
+
+    // ---------------- ISSUE ----------------
+    @Transactional
+    public String issue(String username) {
+
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken row = new RefreshToken();
+        row.setTokenHash(hash(token));
+        row.setUsername(username);
+        row.setExpiresAt(LocalDateTime.now().plus(ttl));
+        repo.save(row);
+
+        return token;
+    }
+
+    // ---------------- ROTATE ----------------
+    // The user is read again, so a changed role shows up at the next refresh
+    @Transactional
+    public Rotation rotate(String token) {
+
+        RefreshToken current = repo.findByTokenHash(hash(token))
+                .filter(t -> t.getExpiresAt().isAfter(LocalDateTime.now()))
+                .orElseThrow(RefreshTokenService::rejected);
+
+        if (repo.deleteUsed(current.getId()) == 0) {
+            throw rejected();
+        }
+
+        User user = userRepo.findByUsername(current.getUsername())
+                .orElseThrow(RefreshTokenService::rejected);
+
+        return new Rotation(user, issue(user.getUsername()));
+    }
+
+    // ---------------- REVOKE ----------------
+    @Transactional
+    public void revoke(String token) {
+        repo.deleteByHash(hash(token));
+    }
+
+    @Transactional
+    @Scheduled(cron = "${security.jwt.refresh-cleanup-cron:0 15 4 * * *}")
+    public void purgeExpired() {
+        int purged = repo.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private static ResponseStatusException rejected() {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is invalid or expired");
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+}
@@ -2,6 +2,7 @@ package com.inventory.registries.security;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -10,8 +11,11 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
@@ -44,13 +48,22 @@ public class SecurityConfig {
             	    .requestMatchers(org.springframework.http.HttpMethod.OPTIONS, "/**").permitAll()
             	    .requestMatchers("/error").permitAll()
 
-            	    .requestMatchers("/api/auth/login").permitAll()
+            	    // Re-dispatches of streamed responses (SSE, export) carry no token;
+            	    // the request that started them was already authorized
+            	    .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
+            	    .requestMatchers("/api/auth/login", "/api/auth/refresh", "/api/auth/logout").permitAll()
             	    .requestMatchers("/api/**").authenticated()
 
             	    .anyRequest().permitAll()
             	)
 
 
+            // 401 for a missing or expired token, so clients know to refresh
+            .exceptionHandling(ex -> ex
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
+
             // ❌ NO httpBasic
             // ❌ NO formLogin
 
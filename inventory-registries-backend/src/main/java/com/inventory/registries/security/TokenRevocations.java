@@ -0,0 +1,95 @@
+package com.inventory.registries.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.inventory.registries.notification.NotificationStream;
+
+/**
+ * Revokes a user's outstanding access tokens by bumping
+ * {@link User#getTokenGeneration()}. Every token carries the generation it
+ * was issued under; {@link JwtFilter} rejects one that is older than the
+ * user's current generation.
+ *
+ * The check reads an in-memory snapshot of the users whose generation is
+ * above zero, reloaded from the database every few seconds, so it costs one
+ * map lookup and never touches the database. A bump on this instance is
+ * applied to the snapshot at once; other instances see it at their next
+ * reload. Either way the user's notification streams, which keep the roles
+ * they were opened with, are closed.
+ */
+@Component
+public class TokenRevocations {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocations.class);
+
+    private final JdbcTemplate jdbc;
+    private final NotificationStream streams;
+
+    // Replaced whole, never changed in place
+    private volatile Map<String, Integer> generations = Map.of();
+
+    public TokenRevocations(JdbcTemplate jdbc, NotificationStream streams) {
+        this.jdbc = jdbc;
+        this.streams = streams;
+    }
+
+    public boolean isRevoked(String username, int generation) {
+        Integer current = generations.get(username);
+        return current != null && generation < current;
+    }
+
+    // Called once the bump is committed
+    public void revoked(String username, int generation) {
+        synchronized (this) {
+            Integer known = generations.get(username);
+            if (known != null && known >= generation) {
+                return;
+            }
+            Map<String, Integer> next = new HashMap<>(generations);
+            next.put(username, generation);
+            generations = Map.copyOf(next);
+        }
+        streams.disconnect(username);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.refresh-interval:2s}",
+            initialDelayString = "${security.jwt.revocation.refresh-interval:2s}")
+    public void reload() {
+        try {
+            Map<String, Integer> loaded = new HashMap<>();
+            jdbc.query("select username, token_generation from users where token_generation > 0",
+                    rs -> {
+                        loaded.put(rs.getString(1), rs.getInt(2));
+                    });
+            // Generations only go up; keeps a local bump this read started too early to see
+            List<String> bumped = new ArrayList<>();
+            synchronized (this) {
+                generations.forEach((user, gen) -> loaded.merge(user, gen, Math::max));
+                loaded.forEach((user, gen) -> {
+                    if (gen > generations.getOrDefault(user, 0)) {
+                        bumped.add(user);
+                    }
+                });
+                generations = Map.copyOf(loaded);
+            }
+            // Bumped on another instance
+            bumped.forEach(streams::disconnect);
+        } catch (DataAccessException e) {
+            // Keep the last snapshot until the next run
+            log.warn("Token revocations not reloaded: {}", e.getMostSpecificCause().getMessage());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.inventory.registries.security;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.*;
 
 @Entity
@@ -18,6 +20,11 @@ public class User {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    // Tokens issued under an older generation are rejected (see TokenRevocations)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int tokenGeneration;
+
 	public Long getId() {
 		return id;
 	}
@@ -49,6 +56,14 @@ public class User {
 	public void setRole(Role role) {
 		this.role = role;
 	}
+
+	public int getTokenGeneration() {
+		return tokenGeneration;
+	}
+
+	public void setTokenGeneration(int tokenGeneration) {
+		this.tokenGeneration = tokenGeneration;
+	}
     
     
 }
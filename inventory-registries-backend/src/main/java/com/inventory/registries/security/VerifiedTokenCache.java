@@ -0,0 +1,156 @@
+package com.inventory.registries.security;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tokens this instance has already verified, with the {@link Authentication}
+ * built from them. A repeat request costs a SHA-256 of the token and a map
+ * lookup instead of an HMAC check and a JSON parse.
+ *
+ * Entries are keyed by the token's digest, so the cache never holds a usable
+ * token, and expire with the token itself. Past {@code maxEntries}, expired
+ * entries are swept first and then arbitrary ones, down to 90%; an evicted
+ * token is simply verified again.
+ *
+ * The cached Authentication is shared by every request carrying the token,
+ * so it is built without per-request details and never changed afterwards.
+ * Revocation is checked by the caller on every hit, against the token
+ * generation kept alongside it.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    // Digests and scratch buffers, reused across requests. Not thread-locals:
+    // with virtual threads every request is a new thread and would build its own
+    private static final AtomicReferenceArray<Hasher> HASHERS =
+            new AtomicReferenceArray<>(2 * Runtime.getRuntime().availableProcessors());
+
+    private final Map<Key, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public VerifiedTokenCache(@Value("${security.jwt.cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /** Key of the token starting at {@code from}, e.g. after "Bearer " in a header. */
+    public static Key key(String s, int from) {
+
+        int slots = HASHERS.length();
+        int start = ThreadLocalRandom.current().nextInt(slots);
+        Hasher hasher = null;
+        for (int i = 0; i < slots && hasher == null; i++) {
+            hasher = HASHERS.getAndSet((start + i) % slots, null);
+        }
+        if (hasher == null) {
+            hasher = new Hasher();
+        }
+
+        Key key = hasher.key(s, from);
+
+        // Back into a free slot; dropped if every slot is taken
+        for (int i = 0; i < slots; i++) {
+            if (HASHERS.compareAndSet((start + i) % slots, null, hasher)) {
+                break;
+            }
+        }
+        return key;
+    }
+
+    /** @return the cached token, or null when absent or expired */
+    public VerifiedToken get(Key key) {
+        VerifiedToken entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAt()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    public void put(Key key, VerifiedToken token) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(key, token);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(e -> now >= e.expiresAt());
+
+        int target = maxEntries - maxEntries / 10;
+        Iterator<Key> it = entries.keySet().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static final class Hasher {
+
+        private final MessageDigest sha;
+        private final byte[] digest = new byte[32];
+        private byte[] chars = new byte[1024];
+
+        Hasher() {
+            try {
+                sha = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // JWTs are base64url and dots, so one byte per char
+        Key key(String s, int from) {
+            int n = s.length() - from;
+            if (chars.length < n) {
+                chars = new byte[n];
+            }
+            for (int i = 0; i < n; i++) {
+                chars[i] = (byte) s.charAt(from + i);
+            }
+            sha.update(chars, 0, n);
+            try {
+                sha.digest(digest, 0, digest.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException(e);
+            }
+            return new Key(longAt(0), longAt(8), longAt(16), longAt(24));
+        }
+
+        private long longAt(int offset) {
+            long v = 0;
+            for (int i = offset; i < offset + 8; i++) {
+                v = (v << 8) | (digest[i] & 0xff);
+            }
+            return v;
+        }
+    }
+
+    /** SHA-256 of a token as four longs. */
+    public record Key(long a, long b, long c, long d) {
+    }
+
+    public record VerifiedToken(Authentication authentication, int generation, long expiresAt) {
+    }
+}
@@ -4,10 +4,14 @@ public class LoginResponse {
 
     private String token;
     private String role;
+    private String refreshToken;
+    private long expiresIn;
 
-    public LoginResponse(String token, String role) {
+    public LoginResponse(String token, String role, String refreshToken, long expiresIn) {
         this.token = token;
         this.role = role;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
     }
 
     public String getToken() {
@@ -17,4 +21,13 @@ public class LoginResponse {
     public String getRole() {
         return role;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    // Seconds until the access token expires
+    public long getExpiresIn() {
+        return expiresIn;
+    }
 }
@@ -0,0 +1,14 @@
+package com.inventory.registries.security.dto;
+
+public class RefreshRequest {
+
+    private String refreshToken;
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
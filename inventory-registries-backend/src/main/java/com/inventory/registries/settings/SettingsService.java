@@ -4,18 +4,24 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.inventory.registries.common.TransactionHooks;
 import com.inventory.registries.common.exception.ResourceNotFoundException;
 import com.inventory.registries.security.Role;
+import com.inventory.registries.security.TokenRevocations;
 import com.inventory.registries.security.User;
 import com.inventory.registries.security.UserRepository;
 
+import jakarta.transaction.Transactional;
+
 @Service
 public class SettingsService {
 
     private final UserRepository userRepository;
+    private final TokenRevocations tokenRevocations;
 
-    public SettingsService(UserRepository userRepository) {
+    public SettingsService(UserRepository userRepository, TokenRevocations tokenRevocations) {
         this.userRepository = userRepository;
+        this.tokenRevocations = tokenRevocations;
     }
 
     // LIST USERS
@@ -31,12 +37,22 @@ public class SettingsService {
     }
 
     // UPDATE ROLE
+    // A new token generation revokes the tokens carrying the old role; the
+    // user's next refresh picks up the new one
+    @Transactional
     public UserSettingsDTO updateRole(Long userId, Role role) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        user.setRole(role);
-        userRepository.save(user);
+        if (user.getRole() != role) {
+            user.setRole(role);
+            user.setTokenGeneration(user.getTokenGeneration() + 1);
+            userRepository.save(user);
+
+            String username = user.getUsername();
+            int generation = user.getTokenGeneration();
+            TransactionHooks.afterCommit(() -> tokenRevocations.revoked(username, generation));
+        }
 
         return new UserSettingsDTO(
                 user.getId(),
@@ -0,0 +1,117 @@
+package com.inventory.registries.stockmovement;
+
+import com.inventory.registries.common.Auditable;
+import com.inventory.registries.product.Product;
+
+import jakarta.persistence.*;
+
+/**
+ * One signed change to a product's on-hand quantity. Rows are only ever
+ * inserted; {@code balanceAfter} is the product stock right after this change.
+ */
+@Entity
+@Table(
+        name = "stock_movements",
+        indexes = {
+                @Index(name = "idx_stock_movements_product_id", columnList = "product_id, id")
+        }
+)
+public class StockMovement extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_movements_seq")
+    @SequenceGenerator(name = "stock_movements_seq", sequenceName = "stock_movements_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", nullable = false, updatable = false)
+    private Product product;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, updatable = false)
+    private MovementType type;
+
+    @Column(nullable = false, updatable = false)
+    private Integer quantity;
+
+    @Column(nullable = false, updatable = false)
+    private Integer balanceAfter;
+
+    // Source document, e.g. STOCK_TAKING + its id
+    @Column(length = 30, updatable = false)
+    private String referenceType;
+
+    @Column(updatable = false)
+    private Long referenceId;
+
+    @Column(length = 255, updatable = false)
+    private String note;
+
+    public enum MovementType {
+        OPENING,
+        RECEIPT,
+        ISSUE,
+        ADJUSTMENT,
+        STOCK_TAKING
+    }
+
+	public Long getId() {
+		return id;
+	}
+
+	public Product getProduct() {
+		return product;
+	}
+
+	public void setProduct(Product product) {
+		this.product = product;
+	}
+
+	public MovementType getType() {
+		return type;
+	}
+
+	public void setType(MovementType type) {
+		this.type = type;
+	}
+
+	public Integer getQuantity() {
+		return quantity;
+	}
+
+	public void setQuantity(Integer quantity) {
+		this.quantity = quantity;
+	}
+
+	public Integer getBalanceAfter() {
+		return balanceAfter;
+	}
+
+	public void setBalanceAfter(Integer balanceAfter) {
+		this.balanceAfter = balanceAfter;
+	}
+
+	public String getReferenceType() {
+		return referenceType;
+	}
+
+	public void setReferenceType(String referenceType) {
+		this.referenceType = referenceType;
+	}
+
+	public Long getReferenceId() {
+		return referenceId;
+	}
+
+	public void setReferenceId(Long referenceId) {
+		this.referenceId = referenceId;
+	}
+
+	public String getNote() {
+		return note;
+	}
+
+	public void setNote(String note) {
+		this.note = note;
+	}
+}
@@ -0,0 +1,40 @@
+package com.inventory.registries.stockmovement;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.inventory.registries.common.CursorPage;
+import com.inventory.registries.stockmovement.dto.StockMovementRequest;
+import com.inventory.registries.stockmovement.dto.StockMovementView;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/stock-movements")
+public class StockMovementController {
+
+    private final StockMovementService service;
+
+    public StockMovementController(StockMovementService service) {
+        this.service = service;
+    }
+
+    // POST (RECEIPT / ISSUE / ADJUSTMENT)
+    @PostMapping
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR')")
+    public ResponseEntity<StockMovementView> post(
+            @Valid @RequestBody StockMovementRequest req) {
+        return ResponseEntity.ok(service.post(req));
+    }
+
+    // HISTORY (NEWEST FIRST, pass nextCursor back as `before`)
+    @GetMapping("/product/{productId}")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT')")
+    public ResponseEntity<CursorPage<StockMovementView>> history(
+            @PathVariable Long productId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(service.history(productId, before, limit));
+    }
+}
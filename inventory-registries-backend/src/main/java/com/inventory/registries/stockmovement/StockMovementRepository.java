@@ -0,0 +1,29 @@
+package com.inventory.registries.stockmovement;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inventory.registries.stockmovement.dto.StockMovementView;
+
+public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
+
+    // Newest first, keyset on id (product_id, id index)
+    @Query("""
+            select new com.inventory.registries.stockmovement.dto.StockMovementView(
+                m.id, m.product.id, m.type, m.quantity, m.balanceAfter,
+                m.referenceType, m.referenceId, m.note,
+                m.createdBy, m.createdAt)
+            from StockMovement m
+            where m.product.id = :productId
+              and m.id < :beforeId
+            order by m.id desc
+            """)
+    List<StockMovementView> findHistory(
+            @Param("productId") Long productId,
+            @Param("beforeId") long beforeId,
+            Limit limit);
+}
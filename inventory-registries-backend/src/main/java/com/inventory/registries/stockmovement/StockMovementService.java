@@ -0,0 +1,250 @@
+package com.inventory.registries.stockmovement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.inventory.registries.cache.RegistryVersions;
+import com.inventory.registries.common.CursorPage;
+import com.inventory.registries.common.exception.ResourceNotFoundException;
+import com.inventory.registries.outbox.Outbox;
+import com.inventory.registries.outbox.OutboxEvent;
+import com.inventory.registries.product.Product;
+import com.inventory.registries.product.ProductRepository;
+import com.inventory.registries.stockmovement.StockMovement.MovementType;
+import com.inventory.registries.stockmovement.dto.StockMovementRequest;
+import com.inventory.registries.stockmovement.dto.StockMovementView;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * The only writer of {@code products.stock}. Every change is appended to the
+ * ledger and applied as {@code stock = stock + delta} in a single UPDATE, so
+ * concurrent writers never read-modify-write and no update is lost. The
+ * row lock taken by that UPDATE is held to commit, which keeps the
+ * {@code balanceAfter} read right after it exact.
+ */
+@Service
+public class StockMovementService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // Same delta as ProductRepository.addStock (versioned), as a JDBC batch
+    private static final String ADD_STOCK_SQL =
+            "update products set stock = stock + ?, version = version + 1 where id = ? and active = true";
+
+    private final StockMovementRepository repo;
+    private final ProductRepository productRepo;
+    private final RegistryVersions versions;
+    private final JdbcTemplate jdbc;
+    private final Outbox outbox;
+
+    public StockMovementService(
+            StockMovementRepository repo,
+            ProductRepository productRepo,
+            RegistryVersions versions,
+            JdbcTemplate jdbc,
+            Outbox outbox) {
+
+        this.repo = repo;
+        this.productRepo = productRepo;
+        this.versions = versions;
+        this.jdbc = jdbc;
+        this.outbox = outbox;
+    }
+
+    // ---------------- MANUAL MOVEMENT ----------------
+    @Transactional
+    public StockMovementView post(StockMovementRequest req) {
+
+        int qty = req.getQuantity();
+        boolean valid = switch (req.getType()) {
+            case RECEIPT -> qty > 0;
+            case ISSUE -> qty < 0;
+            case ADJUSTMENT -> qty != 0;
+            // Written by the system only
+            case OPENING, STOCK_TAKING -> false;
+        };
+        if (!valid) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Invalid quantity " + qty + " for " + req.getType() + " movement"
+            );
+        }
+
+        return StockMovementView.of(
+                record(req.getProductId(), req.getType(), qty, null, null, req.getNote()));
+    }
+
+    // ---------------- DELTA ----------------
+    /** Applies a signed delta to an active product and appends it to the ledger. */
+    @Transactional
+    public StockMovement record(Long productId, MovementType type, int quantity,
+                                String referenceType, Long referenceId, String note) {
+
+        if (productRepo.addStock(productId, quantity) == 0) {
+            throw new ResourceNotFoundException("Product not found");
+        }
+
+        return append(productId, type, quantity, productRepo.findStockById(productId),
+                referenceType, referenceId, note);
+    }
+
+    /**
+     * Bulk form of {@link #record} with one reference for every delta.
+     *
+     * @return the product ids that were changed
+     */
+    @Transactional
+    public List<Long> recordAll(Map<Long, Integer> deltas, MovementType type,
+                                String referenceType, Long referenceId) {
+
+        List<Delta> list = new ArrayList<>(deltas.size());
+        deltas.forEach((productId, quantity) -> list.add(new Delta(productId, quantity, referenceId)));
+        return recordAll(list, type, referenceType);
+    }
+
+    /**
+     * Bulk form of {@link #record}: one JDBC batch of deltas, one read of the
+     * resulting balances and batched ledger inserts, whatever the list size.
+     * A product may appear more than once; its entries get running balances
+     * in list order. Products that are no longer active are skipped.
+     *
+     * @return the distinct product ids that were changed
+     */
+    @Transactional
+    public List<Long> recordAll(List<Delta> deltas, MovementType type, String referenceType) {
+
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+
+        int[][] counts = jdbc.batchUpdate(ADD_STOCK_SQL, deltas, deltas.size(),
+                (ps, d) -> {
+                    ps.setInt(1, d.quantity());
+                    ps.setLong(2, d.productId());
+                });
+
+        // Drivers may report SUCCESS_NO_INFO (-2), so 0 is the only sure miss;
+        // the balance read (active rows only) settles the rest
+        Set<Long> hit = new LinkedHashSet<>();
+        for (int i = 0; i < deltas.size(); i++) {
+            if (counts[0][i] != 0) {
+                hit.add(deltas.get(i).productId());
+            }
+        }
+
+        Map<Long, Integer> balances = new HashMap<>();
+        for (ProductRepository.StockRow row : productRepo.findActiveStockByIdIn(hit)) {
+            balances.put(row.getId(), row.getStock());
+        }
+
+        // Walk back from the final balances so repeated products line up
+        StockMovement[] movements = new StockMovement[deltas.size()];
+        Map<Long, Integer> running = new HashMap<>(balances);
+        for (int i = deltas.size() - 1; i >= 0; i--) {
+            Delta d = deltas.get(i);
+            Integer balance = running.get(d.productId());
+            if (balance != null) {
+                movements[i] = movement(productRepo.getReferenceById(d.productId()), type,
+                        d.quantity(), balance, referenceType, d.referenceId(), null);
+                running.put(d.productId(), balance - d.quantity());
+            }
+        }
+
+        List<StockMovement> appended = new ArrayList<>(movements.length);
+        for (StockMovement m : movements) {
+            if (m != null) {
+                appended.add(m);
+            }
+        }
+        repo.saveAll(appended);
+        outbox.appendAll(OutboxEvent.Type.STOCK_CHANGED, appended,
+                m -> m.getProduct().getId(), StockMovementView::of);
+        versions.products().bump();
+
+        return hit.stream()
+                .filter(balances::containsKey)
+                .toList();
+    }
+
+    /**
+     * Moves stock to {@code target}, provided it still equals {@code expected}
+     * (the value the caller based its decision on). 409 when it has moved.
+     */
+    @Transactional
+    public StockMovement adjustTo(Long productId, int expected, int target, String note) {
+
+        int delta = target - expected;
+        if (productRepo.addStockIfCurrent(productId, delta, expected) == 0) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT, "Stock was changed by another user, reload and retry"
+            );
+        }
+
+        return append(productId, MovementType.ADJUSTMENT, delta, target, null, null, note);
+    }
+
+    // ---------------- OPENING BALANCE ----------------
+    /**
+     * Ledger entry for the stock a new product was inserted with. Appends
+     * only: the insert already carries the quantity.
+     */
+    public void opening(Product product) {
+        if (product.getStock() != null && product.getStock() != 0) {
+            StockMovement m = movement(product, MovementType.OPENING,
+                    product.getStock(), product.getStock(), null, null, null);
+            repo.save(m);
+        }
+    }
+
+    // ---------------- HISTORY ----------------
+    public CursorPage<StockMovementView> history(Long productId, Long before, int limit) {
+
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<StockMovementView> items = repo.findHistory(
+                productId, before == null ? Long.MAX_VALUE : before, Limit.of(size));
+
+        String next = items.size() == size
+                ? String.valueOf(items.get(items.size() - 1).getId())
+                : null;
+        return new CursorPage<>(items, next, null);
+    }
+
+    private StockMovement append(Long productId, MovementType type, int quantity, int balanceAfter,
+                                 String referenceType, Long referenceId, String note) {
+
+        StockMovement saved = repo.save(movement(productRepo.getReferenceById(productId),
+                type, quantity, balanceAfter, referenceType, referenceId, note));
+        outbox.append(OutboxEvent.Type.STOCK_CHANGED, productId, StockMovementView.of(saved));
+        versions.products().bump();
+        return saved;
+    }
+
+    /** One entry for {@link #recordAll(List, MovementType, String)}. */
+    public record Delta(Long productId, int quantity, Long referenceId) {
+    }
+
+    private static StockMovement movement(Product product, MovementType type, int quantity, int balanceAfter,
+                                          String referenceType, Long referenceId, String note) {
+
+        StockMovement m = new StockMovement();
+        m.setProduct(product);
+        m.setType(type);
+        m.setQuantity(quantity);
+        m.setBalanceAfter(balanceAfter);
+        m.setReferenceType(referenceType);
+        m.setReferenceId(referenceId);
+        m.setNote(note);
+        return m;
+    }
+}
@@ -0,0 +1,37 @@
+package com.inventory.registries.stockmovement.dto;
+
+import com.inventory.registries.stockmovement.StockMovement.MovementType;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * A manual stock movement. {@code quantity} is signed: receipts are
+ * positive, issues negative, adjustments either way.
+ */
+public class StockMovementRequest {
+
+    @NotNull
+    private Long productId;
+
+    @NotNull
+    private MovementType type;
+
+    @NotNull
+    private Integer quantity;
+
+    @Size(max = 255)
+    private String note;
+
+    public Long getProductId() { return productId; }
+    public void setProductId(Long productId) { this.productId = productId; }
+
+    public MovementType getType() { return type; }
+    public void setType(MovementType type) { this.type = type; }
+
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+
+    public String getNote() { return note; }
+    public void setNote(String note) { this.note = note; }
+}
@@ -0,0 +1,62 @@
+package com.inventory.registries.stockmovement.dto;
+
+import java.time.LocalDateTime;
+
+import com.inventory.registries.stockmovement.StockMovement;
+import com.inventory.registries.stockmovement.StockMovement.MovementType;
+
+/**
+ * Read model for ledger entries; the product is referenced by id only.
+ */
+public class StockMovementView {
+
+    private final Long id;
+    private final Long productId;
+    private final MovementType type;
+    private final Integer quantity;
+    private final Integer balanceAfter;
+    private final String referenceType;
+    private final Long referenceId;
+    private final String note;
+    private final String createdBy;
+    private final LocalDateTime createdAt;
+
+    // Constructor expression target for JPQL (select new ...)
+    public StockMovementView(
+            Long id, Long productId, MovementType type,
+            Integer quantity, Integer balanceAfter,
+            String referenceType, Long referenceId, String note,
+            String createdBy, LocalDateTime createdAt
+    ) {
+        this.id = id;
+        this.productId = productId;
+        this.type = type;
+        this.quantity = quantity;
+        this.balanceAfter = balanceAfter;
+        this.referenceType = referenceType;
+        this.referenceId = referenceId;
+        this.note = note;
+        this.createdBy = createdBy;
+        this.createdAt = createdAt;
+    }
+
+    public static StockMovementView of(StockMovement m) {
+        return new StockMovementView(
+                m.getId(), m.getProduct().getId(), m.getType(),
+                m.getQuantity(), m.getBalanceAfter(),
+                m.getReferenceType(), m.getReferenceId(), m.getNote(),
+                m.getCreatedBy(), m.getCreatedAt()
+        );
+    }
+
+    public Long getId() { return id; }
+    public Long getProductId() { return productId; }
+    public MovementType getType() { return type; }
+    public Integer getQuantity() { return quantity; }
+    public Integer getBalanceAfter() { return balanceAfter; }
+    public String getReferenceType() { return referenceType; }
+    public Long getReferenceId() { return referenceId; }
+    public String getNote() { return note; }
+    public String getCreatedBy() { return createdBy; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -10,7 +10,8 @@ import jakarta.persistence.*;
 public class StockTaking extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_taking_seq")
+    @SequenceGenerator(name = "stock_taking_seq", sequenceName = "stock_taking_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
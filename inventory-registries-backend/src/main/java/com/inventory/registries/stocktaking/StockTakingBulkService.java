@@ -0,0 +1,323 @@
+package com.inventory.registries.stocktaking;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.inventory.registries.cache.RegistryVersions;
+import com.inventory.registries.notification.NotificationService;
+import com.inventory.registries.notification.NotificationType;
+import com.inventory.registries.stockmovement.StockMovement.MovementType;
+import com.inventory.registries.stockmovement.StockMovementService;
+import com.inventory.registries.stocktaking.StockTaking.StockStatus;
+import com.inventory.registries.stocktaking.dto.StockTakingBulkOutcome;
+import com.inventory.registries.stocktaking.dto.StockTakingBulkOutcome.Result;
+import com.inventory.registries.stocktaking.dto.StockTakingBulkRequest;
+import com.inventory.registries.stocktaking.dto.StockTakingBulkResult;
+
+/**
+ * Approve or apply many stock takings in one call.
+ *
+ * The selection (explicit ids or a filter) is worked through in id order, in
+ * chunks of {@link #CHUNK_SIZE}. Each chunk is one transaction: one locking
+ * query reads the state of every row, the valid transitions go out as one
+ * UPDATE and, for apply, the variances as one batch of ledger deltas. Every
+ * selected id gets an outcome; chunks already committed stay committed when a
+ * later one fails. Creators and approvers get one summary notification each
+ * instead of one per row.
+ */
+@Service
+public class StockTakingBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(StockTakingBulkService.class);
+
+    private static final int MAX_IDS = 50_000;
+    private static final int CHUNK_SIZE = 1000;
+    private static final String REFERENCE_TYPE = "STOCK_TAKING";
+
+    private final StockTakingRepository repo;
+    private final StockMovementService stock;
+    private final NotificationService notificationService;
+    private final RegistryVersions versions;
+    private final TransactionTemplate tx;
+
+    public StockTakingBulkService(
+            StockTakingRepository repo,
+            StockMovementService stock,
+            NotificationService notificationService,
+            RegistryVersions versions,
+            TransactionTemplate tx) {
+
+        this.repo = repo;
+        this.stock = stock;
+        this.notificationService = notificationService;
+        this.versions = versions;
+        this.tx = tx;
+    }
+
+    // ---------------- APPROVE ----------------
+    public StockTakingBulkResult approve(StockTakingBulkRequest req, Authentication auth) {
+
+        String user = auth.getName();
+        Run run = new Run(select(req, StockStatus.DRAFT));
+
+        for (List<Long> chunk : run.chunks()) {
+            run.add(execute(chunk, () -> approveChunk(chunk, user)));
+        }
+
+        run.notify.forEach((creator, n) -> notificationService.send(
+                creator,
+                "Stock Audits Approved",
+                n + " of your stock audits were approved by " + user + ". You may apply stock.",
+                NotificationType.INFO,
+                REFERENCE_TYPE,
+                null
+        ));
+
+        return run.finish("approve");
+    }
+
+    private Chunk approveChunk(List<Long> chunk, String user) {
+
+        List<Long> eligible = new ArrayList<>(chunk.size());
+        Map<String, Integer> creators = new HashMap<>();
+        List<StockTakingBulkOutcome> outcomes = new ArrayList<>(chunk.size());
+
+        for (Slot slot : lock(chunk)) {
+            StockTakingRepository.BulkRow row = slot.row;
+            if (row == null) {
+                outcomes.add(notFound(slot.id));
+            } else if (row.getStatus() != StockStatus.DRAFT) {
+                outcomes.add(new StockTakingBulkOutcome(row.getId(), Result.INVALID_STATE,
+                        "Only DRAFT stock can be approved (status " + row.getStatus() + ")"));
+            } else {
+                eligible.add(row.getId());
+                creators.merge(row.getCreatedBy(), 1, Integer::sum);
+                outcomes.add(new StockTakingBulkOutcome(row.getId(), Result.APPROVED, null));
+            }
+        }
+
+        if (!eligible.isEmpty()) {
+            repo.approveAll(eligible, StockStatus.DRAFT, StockStatus.APPROVED, user, LocalDateTime.now());
+        }
+        return new Chunk(outcomes, eligible.size(), creators);
+    }
+
+    // ---------------- APPLY ----------------
+    public StockTakingBulkResult apply(StockTakingBulkRequest req, Authentication auth) {
+
+        String user = auth.getName();
+        Run run = new Run(select(req, StockStatus.APPROVED));
+
+        for (List<Long> chunk : run.chunks()) {
+            run.add(execute(chunk, () -> applyChunk(chunk, user)));
+        }
+
+        run.notify.forEach((recipient, n) -> notificationService.send(
+                recipient,
+                "Stock Applied",
+                n + " stock audits you created or approved were applied by " + user + ".",
+                NotificationType.INFO,
+                REFERENCE_TYPE,
+                null
+        ));
+
+        return run.finish("apply");
+    }
+
+    private Chunk applyChunk(List<Long> chunk, String user) {
+
+        List<Slot> slots = lock(chunk);
+
+        // Variance seen at count time, as in the single apply; one delta per
+        // row so each ledger entry names its stock taking. Product order keeps
+        // the product row locks in a stable order across concurrent applies.
+        List<StockMovementService.Delta> deltas = new ArrayList<>();
+        for (Slot slot : slots) {
+            StockTakingRepository.BulkRow row = slot.row;
+            if (row != null && row.getStatus() == StockStatus.APPROVED && row.getVariance() != 0) {
+                deltas.add(new StockMovementService.Delta(row.getProductId(), row.getVariance(), row.getId()));
+            }
+        }
+        deltas.sort(Comparator.comparing(StockMovementService.Delta::productId));
+        Set<Long> changed = new HashSet<>(
+                stock.recordAll(deltas, MovementType.STOCK_TAKING, REFERENCE_TYPE));
+
+        List<Long> applied = new ArrayList<>(chunk.size());
+        Map<String, Integer> recipients = new HashMap<>();
+        List<StockTakingBulkOutcome> outcomes = new ArrayList<>(chunk.size());
+
+        for (Slot slot : slots) {
+            StockTakingRepository.BulkRow row = slot.row;
+            if (row == null) {
+                outcomes.add(notFound(slot.id));
+            } else if (row.getStatus() != StockStatus.APPROVED) {
+                outcomes.add(new StockTakingBulkOutcome(row.getId(), Result.INVALID_STATE,
+                        row.getStatus() == StockStatus.APPLIED
+                                ? "Stock already applied"
+                                : "Stock must be approved before applying (status " + row.getStatus() + ")"));
+            } else if (row.getVariance() != 0 && !changed.contains(row.getProductId())) {
+                // Left APPROVED so it can be applied once the product is back
+                outcomes.add(new StockTakingBulkOutcome(row.getId(), Result.FAILED, "Product is inactive"));
+            } else {
+                applied.add(row.getId());
+                recipients.merge(row.getCreatedBy(), 1, Integer::sum);
+                if (row.getApprovedBy() != null && !row.getApprovedBy().equals(row.getCreatedBy())) {
+                    recipients.merge(row.getApprovedBy(), 1, Integer::sum);
+                }
+                outcomes.add(new StockTakingBulkOutcome(row.getId(), Result.APPLIED, null));
+            }
+        }
+
+        if (!applied.isEmpty()) {
+            repo.moveAll(applied, StockStatus.APPROVED, StockStatus.APPLIED, user, LocalDateTime.now());
+        }
+        return new Chunk(outcomes, applied.size(), recipients);
+    }
+
+    // ---------------- SELECTION ----------------
+    private Selection select(StockTakingBulkRequest req, StockStatus from) {
+
+        List<Long> ids = req.getIds();
+        boolean filtered = req.getDepartmentId() != null || req.getMinVariance() != null;
+
+        if (ids != null && !ids.isEmpty()) {
+            if (filtered) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "Send either ids or a filter, not both");
+            }
+            TreeSet<Long> distinct = new TreeSet<>();
+            for (Long id : ids) {
+                if (id != null) {
+                    distinct.add(id);
+                }
+            }
+            if (distinct.size() > MAX_IDS) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "At most " + MAX_IDS + " ids per call");
+            }
+            return new Selection(new ArrayList<>(distinct), false);
+        }
+
+        if (req.getMinVariance() != null && req.getMinVariance() < 0) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "minVariance cannot be negative");
+        }
+
+        // One past the cap tells whether rows are left for another call
+        List<Long> found = repo.findBulkIds(
+                from, req.getDepartmentId(), req.getMinVariance(), Limit.of(MAX_IDS + 1));
+        boolean more = found.size() > MAX_IDS;
+        return new Selection(more ? found.subList(0, MAX_IDS) : found, more);
+    }
+
+    private List<Slot> lock(List<Long> chunk) {
+
+        Map<Long, StockTakingRepository.BulkRow> rows = new TreeMap<>();
+        for (StockTakingRepository.BulkRow row : repo.lockBulkRows(chunk)) {
+            rows.put(row.getId(), row);
+        }
+
+        List<Slot> slots = new ArrayList<>(chunk.size());
+        for (Long id : chunk) {
+            slots.add(new Slot(id, rows.get(id)));
+        }
+        return slots;
+    }
+
+    // Outcomes count only once the chunk has committed
+    private Chunk execute(List<Long> chunk, Supplier<Chunk> work) {
+        try {
+            return tx.execute(status -> work.get());
+        } catch (DataAccessException e) {
+            log.warn("Stock taking bulk chunk rejected: {}", e.getMostSpecificCause().getMessage());
+            List<StockTakingBulkOutcome> failed = new ArrayList<>(chunk.size());
+            for (Long id : chunk) {
+                failed.add(new StockTakingBulkOutcome(id, Result.FAILED,
+                        "Chunk rejected by database, retry this id"));
+            }
+            return new Chunk(failed, 0, Map.of());
+        }
+    }
+
+    private static StockTakingBulkOutcome notFound(Long id) {
+        return new StockTakingBulkOutcome(id, Result.NOT_FOUND, "StockTaking not found");
+    }
+
+    // {recipient -> rows} feeds the summary notifications
+    private record Chunk(List<StockTakingBulkOutcome> outcomes, int succeeded,
+                         Map<String, Integer> recipients) {
+    }
+
+    private record Selection(List<Long> ids, boolean more) {
+    }
+
+    private record Slot(Long id, StockTakingRepository.BulkRow row) {
+    }
+
+    private final class Run {
+
+        final long start = System.nanoTime();
+        final Selection selection;
+        final List<StockTakingBulkOutcome> outcomes;
+        final Map<String, Integer> notify = new TreeMap<>();
+        int succeeded;
+
+        Run(Selection selection) {
+            this.selection = selection;
+            this.outcomes = new ArrayList<>(selection.ids().size());
+        }
+
+        List<List<Long>> chunks() {
+            List<Long> ids = selection.ids();
+            List<List<Long>> chunks = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                chunks.add(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+            }
+            return chunks;
+        }
+
+        void add(Chunk chunk) {
+            outcomes.addAll(chunk.outcomes());
+            succeeded += chunk.succeeded();
+            chunk.recipients().forEach((user, n) -> {
+                if (user != null) {
+                    notify.merge(user, n, Integer::sum);
+                }
+            });
+        }
+
+        StockTakingBulkResult finish(String action) {
+
+            if (succeeded > 0) {
+                versions.stockTakings().bump();
+            }
+
+            int requested = selection.ids().size();
+            log.info("Stock taking bulk {}: {} selected, {} done, {} failed in {} ms",
+                    action, requested, succeeded, requested - succeeded,
+                    (System.nanoTime() - start) / 1_000_000);
+
+            return new StockTakingBulkResult(requested, succeeded, requested - succeeded,
+                    selection.more(), outcomes);
+        }
+    }
+}
@@ -6,21 +6,34 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import com.inventory.registries.cache.ConditionalGet;
+import com.inventory.registries.cache.RegistryVersions;
+import com.inventory.registries.stocktaking.dto.StockTakingBulkRequest;
+import com.inventory.registries.stocktaking.dto.StockTakingBulkResult;
+import com.inventory.registries.stocktaking.dto.StockTakingView;
 
 @RestController
 @RequestMapping("/api/stock-taking")
 public class StockTakingController {
 
     private final StockTakingService service;
+    private final StockTakingBulkService bulkService;
+    private final RegistryVersions versions;
 
-    public StockTakingController(StockTakingService service) {
+    public StockTakingController(StockTakingService service,
+                                 StockTakingBulkService bulkService,
+                                 RegistryVersions versions) {
         this.service = service;
+        this.bulkService = bulkService;
+        this.versions = versions;
     }
 
     // CREATE (DRAFT)
     @PostMapping("/product/{productId}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','STAFF')")
-    public ResponseEntity<StockTaking> create(
+    public ResponseEntity<StockTakingView> create(
             @PathVariable Long productId,
             @RequestParam Integer physicalStock,
             Authentication authentication) {
@@ -33,8 +46,8 @@ public class StockTakingController {
     // LIST (ACTIVE ONLY)
     @GetMapping
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT','STAFF')")
-    public ResponseEntity<List<StockTaking>> list() {
-        return ResponseEntity.ok(service.list());
+    public ResponseEntity<List<StockTakingView>> list(WebRequest request) {
+        return ConditionalGet.of(request, versions.stockTakings(), service::list);
     }
 
     // DELETE (ONLY DRAFT)
@@ -66,4 +79,24 @@ public class StockTakingController {
         service.apply(id, authentication);
         return ResponseEntity.ok().build();
     }
+
+    // BULK APPROVE (ids or filter, per-id outcomes)
+    @PostMapping("/bulk/approve")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER')")
+    public ResponseEntity<StockTakingBulkResult> bulkApprove(
+            @RequestBody StockTakingBulkRequest request,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(bulkService.approve(request, authentication));
+    }
+
+    // BULK APPLY (ids or filter, per-id outcomes)
+    @PostMapping("/bulk/apply")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN')")
+    public ResponseEntity<StockTakingBulkResult> bulkApply(
+            @RequestBody StockTakingBulkRequest request,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(bulkService.apply(request, authentication));
+    }
 }
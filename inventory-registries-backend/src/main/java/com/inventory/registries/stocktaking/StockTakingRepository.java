@@ -1,9 +1,21 @@
 package com.inventory.registries.stocktaking;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.inventory.registries.stocktaking.StockTaking.StockStatus;
+import com.inventory.registries.stocktaking.dto.StockTakingView;
+
+import jakarta.persistence.LockModeType;
 
 public interface StockTakingRepository extends JpaRepository<StockTaking, Long> {
 
@@ -16,4 +28,90 @@ public interface StockTakingRepository extends JpaRepository<StockTaking, Long>
     boolean existsByProduct_IdAndActiveTrue(Long productId);
 
 	boolean existsByProduct_IdAndStatusAndActiveTrue(Long productId, StockStatus draft);
+
+    // Read model: one query, product columns joined in
+    @Query("""
+            select new com.inventory.registries.stocktaking.dto.StockTakingView(
+                st.id,
+                p.id, p.code, p.name,
+                st.status,
+                st.systemStock, st.physicalStock, st.variance,
+                st.approvedBy, st.createdBy,
+                st.createdAt, st.updatedAt)
+            from StockTaking st
+            join st.product p
+            where st.active = true
+            order by st.id
+            """)
+    List<StockTakingView> findActiveViews();
+
+    // Single approve/apply: the status check holds until commit, so two
+    // transitions of the same row (or one racing a bulk chunk) run one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select st from StockTaking st where st.id = :id")
+    Optional<StockTaking> findLocked(@Param("id") Long id);
+
+    // ---------------- BULK ----------------
+
+    // State of a whole chunk in one query; the row locks keep single and
+    // bulk transitions on these rows apart until commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select st.id as id, st.status as status, st.product.id as productId,
+                   st.variance as variance, st.createdBy as createdBy, st.approvedBy as approvedBy
+            from StockTaking st
+            where st.id in :ids and st.active = true
+            order by st.id
+            """)
+    List<BulkRow> lockBulkRows(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select st.id
+            from StockTaking st
+            join st.product p
+            join p.subDepartment s
+            where st.active = true
+              and st.status = :status
+              and (:departmentId is null or s.department.id = :departmentId)
+              and (:minVariance is null or abs(st.variance) >= :minVariance)
+            order by st.id
+            """)
+    List<Long> findBulkIds(@Param("status") StockStatus status,
+                           @Param("departmentId") Long departmentId,
+                           @Param("minVariance") Integer minVariance,
+                           Limit limit);
+
+    // Bulk updates skip the auditing listener, so the audit columns are set here
+    @Modifying
+    @Query("""
+            update StockTaking st
+            set st.status = :to, st.approvedBy = :user, st.updatedBy = :user, st.updatedAt = :now
+            where st.id in :ids and st.status = :from
+            """)
+    int approveAll(@Param("ids") Collection<Long> ids,
+                   @Param("from") StockStatus from,
+                   @Param("to") StockStatus to,
+                   @Param("user") String user,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update StockTaking st
+            set st.status = :to, st.updatedBy = :user, st.updatedAt = :now
+            where st.id in :ids and st.status = :from
+            """)
+    int moveAll(@Param("ids") Collection<Long> ids,
+                @Param("from") StockStatus from,
+                @Param("to") StockStatus to,
+                @Param("user") String user,
+                @Param("now") LocalDateTime now);
+
+    interface BulkRow {
+        Long getId();
+        StockStatus getStatus();
+        Long getProductId();
+        Integer getVariance();
+        String getCreatedBy();
+        String getApprovedBy();
+    }
 }
@@ -2,16 +2,21 @@ package com.inventory.registries.stocktaking;
 
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.inventory.registries.cache.RegistryVersions;
 import com.inventory.registries.common.exception.ResourceNotFoundException;
 import com.inventory.registries.notification.NotificationService;
 import com.inventory.registries.notification.NotificationType;
 import com.inventory.registries.product.Product;
 import com.inventory.registries.product.ProductRepository;
-import com.inventory.registries.security.User;
-import com.inventory.registries.security.UserRepository;
+import com.inventory.registries.stockmovement.StockMovement.MovementType;
+import com.inventory.registries.stockmovement.StockMovementService;
+import com.inventory.registries.security.Role;
+import com.inventory.registries.stocktaking.dto.StockTakingView;
 
 import jakarta.transaction.Transactional;
 
@@ -20,23 +25,26 @@ public class StockTakingService {
 
     private final StockTakingRepository repo;
     private final ProductRepository productRepo;
-    private final UserRepository userRepo;
     private final NotificationService notificationService;
+    private final RegistryVersions versions;
+    private final StockMovementService stock;
 
     public StockTakingService(
             StockTakingRepository repo,
             ProductRepository productRepo,
-            UserRepository userRepo,
-            NotificationService notificationService) {
+            NotificationService notificationService,
+            RegistryVersions versions,
+            StockMovementService stock) {
 
         this.repo = repo;
         this.productRepo = productRepo;
-        this.userRepo = userRepo;
         this.notificationService = notificationService;
+        this.versions = versions;
+        this.stock = stock;
     }
 
     // ---------------- CREATE (DRAFT) ----------------
-    public StockTaking create(Long productId, Integer physicalStock, Authentication auth) {
+    public StockTakingView create(Long productId, Integer physicalStock, Authentication auth) {
 
         Product product = productRepo.findByIdAndActiveTrue(productId)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
@@ -62,14 +70,12 @@ public class StockTakingService {
         // ✅ DO NOT set createdBy manually
 
         StockTaking saved = repo.save(st);
+        versions.stockTakings().bump();
 
-        // 🔔 Notify MANAGER & SUPER_ADMIN
-        List<User> approvers =
-                userRepo.findByRoleIn(List.of("MANAGER", "SUPER_ADMIN"));
-
-        for (User user : approvers) {
-            notificationService.send(
-                user.getUsername(),
+        // 🔔 Notify MANAGER & SUPER_ADMIN: one row per role, not per user
+        for (Role role : List.of(Role.MANAGER, Role.SUPER_ADMIN)) {
+            notificationService.broadcast(
+                role,
                 "New Stock Audit Created",
                 "Stock audit #" + saved.getId() + " requires approval.",
                 NotificationType.ALERT,
@@ -78,13 +84,13 @@ public class StockTakingService {
             );
         }
 
-        return saved;
+        return StockTakingView.of(saved);
     }
 
 
     // ---------------- LIST ----------------
-    public List<StockTaking> list() {
-        return repo.findByActiveTrue();
+    public List<StockTakingView> list() {
+        return repo.findActiveViews();
     }
 
     // ---------------- DELETE (only DRAFT) ----------------
@@ -101,23 +107,26 @@ public class StockTakingService {
 
         st.setActive(false);
         repo.save(st);
+        versions.stockTakings().bump();
     }
 
     // ---------------- APPROVE ----------------
+    @Transactional
     public void approve(Long id, Authentication auth) {
 
-        StockTaking st = repo.findById(id)
+        StockTaking st = repo.findLocked(id)
                 .orElseThrow(() -> new ResourceNotFoundException("StockTaking not found"));
 
         if (st.getStatus() != StockTaking.StockStatus.DRAFT) {
-            throw new IllegalStateException(
-                "Only DRAFT stock can be approved"
+            throw new ResponseStatusException(
+                HttpStatus.CONFLICT, "Only DRAFT stock can be approved"
             );
         }
 
         st.setStatus(StockTaking.StockStatus.APPROVED);
         st.setApprovedBy(auth.getName()); // ✅ manager username
         repo.save(st);
+        versions.stockTakings().bump();
 
         // 🔔 Notify STAFF (creator)
         notificationService.send(
@@ -134,27 +143,34 @@ public class StockTakingService {
     @Transactional
     public void apply(Long id, Authentication auth) {
 
-        StockTaking st = repo.findById(id)
+        // Claimed before the variance is posted: a second apply of the same
+        // row waits here and then finds it APPLIED
+        StockTaking st = repo.findLocked(id)
                 .orElseThrow(() -> new ResourceNotFoundException("StockTaking not found"));
 
         if (st.getStatus() == StockTaking.StockStatus.APPLIED) {
-            throw new IllegalStateException("Stock already applied");
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Stock already applied");
         }
 
         if (st.getStatus() != StockTaking.StockStatus.APPROVED) {
-            throw new IllegalStateException(
-                "Stock must be approved before applying"
+            throw new ResponseStatusException(
+                HttpStatus.CONFLICT, "Stock must be approved before applying"
             );
         }
 
-        Product product = st.getProduct();
-        product.setStock(st.getPhysicalStock());
+        // Correct by the variance seen at count time rather than overwriting:
+        // movements posted since the count are kept
+        if (st.getVariance() != 0) {
+            stock.record(st.getProduct().getId(), MovementType.STOCK_TAKING, st.getVariance(),
+                    "STOCK_TAKING", st.getId(), null);
+        }
 
         st.setStatus(StockTaking.StockStatus.APPLIED);
-
-        productRepo.save(product);
         repo.save(st);
 
+        // Stock-taking ETags include the product counter
+        versions.products().bump();
+
         // 🔔 Notify STAFF
         notificationService.send(
             st.getCreatedBy(),
@@ -0,0 +1,26 @@
+package com.inventory.registries.stocktaking.dto;
+
+public class StockTakingBulkOutcome {
+
+    public enum Result {
+        APPROVED,
+        APPLIED,
+        NOT_FOUND,
+        INVALID_STATE,
+        FAILED
+    }
+
+    private final Long id;
+    private final Result result;
+    private final String message;
+
+    public StockTakingBulkOutcome(Long id, Result result, String message) {
+        this.id = id;
+        this.result = result;
+        this.message = message;
+    }
+
+    public Long getId() { return id; }
+    public Result getResult() { return result; }
+    public String getMessage() { return message; }
+}
@@ -0,0 +1,25 @@
+package com.inventory.registries.stocktaking.dto;
+
+import java.util.List;
+
+/**
+ * Selects the stock takings for a bulk approve or apply: either explicit
+ * {@code ids}, or a filter over the rows in the action's source status
+ * (DRAFT to approve, APPROVED to apply). An empty filter selects them all.
+ */
+public class StockTakingBulkRequest {
+
+    private List<Long> ids;
+    private Long departmentId;
+    private Integer minVariance;
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public Long getDepartmentId() { return departmentId; }
+    public void setDepartmentId(Long departmentId) { this.departmentId = departmentId; }
+
+    // Absolute variance, so 5 selects both -5 and +5
+    public Integer getMinVariance() { return minVariance; }
+    public void setMinVariance(Integer minVariance) { this.minVariance = minVariance; }
+}
@@ -0,0 +1,31 @@
+package com.inventory.registries.stocktaking.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk approve or apply, one entry per selected id in id order.
+ * {@code more} is set when a filter matched more rows than one call takes.
+ */
+public class StockTakingBulkResult {
+
+    private final int requested;
+    private final int succeeded;
+    private final int failed;
+    private final boolean more;
+    private final List<StockTakingBulkOutcome> outcomes;
+
+    public StockTakingBulkResult(int requested, int succeeded, int failed, boolean more,
+                                 List<StockTakingBulkOutcome> outcomes) {
+        this.requested = requested;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.more = more;
+        this.outcomes = outcomes;
+    }
+
+    public int getRequested() { return requested; }
+    public int getSucceeded() { return succeeded; }
+    public int getFailed() { return failed; }
+    public boolean isMore() { return more; }
+    public List<StockTakingBulkOutcome> getOutcomes() { return outcomes; }
+}
@@ -0,0 +1,85 @@
+package com.inventory.registries.stocktaking.dto;
+
+import java.time.LocalDateTime;
+
+import com.inventory.registries.stocktaking.StockTaking;
+import com.inventory.registries.stocktaking.StockTaking.StockStatus;
+
+/**
+ * Read model for stock-taking responses.
+ * {@code product} carries id, code and name only.
+ */
+public class StockTakingView {
+
+    private final Long id;
+    private final ProductRef product;
+    private final StockStatus status;
+    private final Integer systemStock;
+    private final Integer physicalStock;
+    private final Integer variance;
+    private final String approvedBy;
+    private final String createdBy;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    // Constructor expression target for JPQL (select new ...)
+    public StockTakingView(
+            Long id,
+            Long productId, String productCode, String productName,
+            StockStatus status,
+            Integer systemStock, Integer physicalStock, Integer variance,
+            String approvedBy, String createdBy,
+            LocalDateTime createdAt, LocalDateTime updatedAt
+    ) {
+        this.id = id;
+        this.product = new ProductRef(productId, productCode, productName);
+        this.status = status;
+        this.systemStock = systemStock;
+        this.physicalStock = physicalStock;
+        this.variance = variance;
+        this.approvedBy = approvedBy;
+        this.createdBy = createdBy;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /** Maps an entity whose product is already loaded. */
+    public static StockTakingView of(StockTaking st) {
+        return new StockTakingView(
+                st.getId(),
+                st.getProduct().getId(), st.getProduct().getCode(), st.getProduct().getName(),
+                st.getStatus(),
+                st.getSystemStock(), st.getPhysicalStock(), st.getVariance(),
+                st.getApprovedBy(), st.getCreatedBy(),
+                st.getCreatedAt(), st.getUpdatedAt()
+        );
+    }
+
+    public Long getId() { return id; }
+    public ProductRef getProduct() { return product; }
+    public StockStatus getStatus() { return status; }
+    public Integer getSystemStock() { return systemStock; }
+    public Integer getPhysicalStock() { return physicalStock; }
+    public Integer getVariance() { return variance; }
+    public String getApprovedBy() { return approvedBy; }
+    public String getCreatedBy() { return createdBy; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public static class ProductRef {
+
+        private final Long id;
+        private final String code;
+        private final String name;
+
+        public ProductRef(Long id, String code, String name) {
+            this.id = id;
+            this.code = code;
+            this.name = name;
+        }
+
+        public Long getId() { return id; }
+        public String getCode() { return code; }
+        public String getName() { return name; }
+    }
+}
@@ -1,23 +1,23 @@
 package com.inventory.registries.subdepartment;
 
-import java.util.List;
-
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import com.inventory.registries.cache.ConditionalGet;
+import com.inventory.registries.cache.RegistryVersions;
 
 @RestController
 @RequestMapping("/api/sub-departments")
 public class SubDepartmentController {
 
     private final SubDepartmentService service;
-    private final SubDepartmentRepository subDepartmentRepo;
+    private final RegistryVersions versions;
 
-    public SubDepartmentController(
-            SubDepartmentService service,
-            SubDepartmentRepository subDepartmentRepo
-    ) {
+    public SubDepartmentController(SubDepartmentService service, RegistryVersions versions) {
         this.service = service;
-        this.subDepartmentRepo = subDepartmentRepo;
+        this.versions = versions;
     }
 
     // CREATE
@@ -41,16 +41,18 @@ public class SubDepartmentController {
     // LIST BY DEPARTMENT
     @GetMapping("/department/{departmentId}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER','STAFF')")
-    public List<SubDepartment> list(
-            @PathVariable Long departmentId) {
-        return service.list(departmentId);
+    public ResponseEntity<byte[]> list(
+            @PathVariable Long departmentId,
+            WebRequest request) {
+        return ConditionalGet.json(request, versions.subDepartments(),
+                () -> service.listJson(departmentId));
     }
 
     // LIST ALL ACTIVE
     @GetMapping
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','MANAGER','STAFF')")
-    public List<SubDepartment> getAllActive() {
-        return subDepartmentRepo.findAllByActiveTrue();
+    public ResponseEntity<byte[]> getAllActive(WebRequest request) {
+        return ConditionalGet.json(request, versions.subDepartments(), service::listAllJson);
     }
 
     // DELETE
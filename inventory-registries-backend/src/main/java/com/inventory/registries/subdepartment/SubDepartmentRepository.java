@@ -3,7 +3,9 @@ package com.inventory.registries.subdepartment;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface SubDepartmentRepository extends JpaRepository<SubDepartment, Long> {
 
@@ -11,12 +13,20 @@ public interface SubDepartmentRepository extends JpaRepository<SubDepartment, Lo
         String name, Long departmentId
     );
 
+    @EntityGraph(attributePaths = "department")
     List<SubDepartment> findAllByActiveTrue();
 
+    @EntityGraph(attributePaths = "department")
     List<SubDepartment> findByDepartmentIdAndActiveTrue(Long departmentId);
 
+    @EntityGraph(attributePaths = "department")
     Optional<SubDepartment> findByIdAndActiveTrue(Long id);
 
     boolean existsByIdAndActiveTrue(Long id);
+
+    long countByActiveTrue();
+
+    @Query("select s.id from SubDepartment s where s.active = true")
+    List<Long> findActiveIds();
 }
 
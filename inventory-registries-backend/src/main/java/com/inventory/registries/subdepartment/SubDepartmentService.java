@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.inventory.registries.cache.ReferenceDataCache;
 import com.inventory.registries.common.exception.DuplicateResourceException;
 import com.inventory.registries.common.exception.ResourceNotFoundException;
 import com.inventory.registries.department.Department;
@@ -14,17 +15,20 @@ public class SubDepartmentService {
 
     private final SubDepartmentRepository repo;
     private final DepartmentRepository departmentRepo;
+    private final ReferenceDataCache cache;
 
     public SubDepartmentService(SubDepartmentRepository repo,
-                                DepartmentRepository departmentRepo) {
+                                DepartmentRepository departmentRepo,
+                                ReferenceDataCache cache) {
         this.repo = repo;
         this.departmentRepo = departmentRepo;
+        this.cache = cache;
     }
 
     // CREATE
     public SubDepartment create(Long departmentId, SubDepartment subDepartment) {
 
-        Department department = departmentRepo.findByIdAndActiveTrue(departmentId)
+        Department department = cache.departments().get(departmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found"));
 
         String name = subDepartment.getName().trim();
@@ -37,7 +41,9 @@ public class SubDepartmentService {
         subDepartment.setDepartment(department);
         subDepartment.setActive(true);
 
-        return repo.save(subDepartment);
+        SubDepartment saved = repo.save(subDepartment);
+        cache.subDepartments().invalidate();
+        return saved;
     }
 
     // UPDATE
@@ -55,7 +61,9 @@ public class SubDepartmentService {
         }
 
         sub.setName(newName);
-        return repo.save(sub);
+        SubDepartment saved = repo.save(sub);
+        cache.subDepartments().invalidate();
+        return saved;
     }
 
     // LIST BY DEPARTMENT
@@ -63,6 +71,12 @@ public class SubDepartmentService {
         return repo.findByDepartmentIdAndActiveTrue(departmentId);
     }
 
+    public byte[] listJson(Long departmentId) {
+        return cache.subDepartments().listJson(
+                "department:" + departmentId,
+                () -> repo.findByDepartmentIdAndActiveTrue(departmentId));
+    }
+
     // DELETE (SOFT)
     public void delete(Long id) {
 
@@ -71,9 +85,14 @@ public class SubDepartmentService {
 
         sub.setActive(false);
         repo.save(sub);
+        cache.subDepartments().invalidate();
     }
     public List<SubDepartment> listAll() {
         return repo.findAllByActiveTrue();
     }
 
+    public byte[] listAllJson() {
+        return cache.subDepartments().listJson("all", repo::findAllByActiveTrue);
+    }
+
 }
@@ -1,19 +1,23 @@
 package com.inventory.registries.unit;
 
-import java.util.List;
-
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import com.inventory.registries.cache.ConditionalGet;
+import com.inventory.registries.cache.RegistryVersions;
 
 @RestController
 @RequestMapping("/api/units")
 public class UnitController {
 
     private final UnitService service;
+    private final RegistryVersions versions;
 
-    public UnitController(UnitService service) {
+    public UnitController(UnitService service, RegistryVersions versions) {
         this.service = service;
+        this.versions = versions;
     }
 
     @PostMapping
@@ -33,8 +37,8 @@ public class UnitController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('SUPER_ADMIN','ADMIN','SUPERVISOR','ACCOUNTANT')")
-    public ResponseEntity<List<Unit>> list() {
-        return ResponseEntity.ok(service.list());
+    public ResponseEntity<byte[]> list(WebRequest request) {
+        return ConditionalGet.json(request, versions.units(), service::listJson);
     }
 
     @DeleteMapping("/{id}")
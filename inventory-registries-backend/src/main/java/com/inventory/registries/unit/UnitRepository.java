@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface UnitRepository extends JpaRepository<Unit, Long> {
 
@@ -14,4 +15,9 @@ public interface UnitRepository extends JpaRepository<Unit, Long> {
     Optional<Unit> findByIdAndActiveTrue(Long id);
 
     boolean existsByIdAndActiveTrue(Long id);
+
+    long countByActiveTrue();
+
+    @Query("select u.id from Unit u where u.active = true")
+    List<Long> findActiveIds();
 }
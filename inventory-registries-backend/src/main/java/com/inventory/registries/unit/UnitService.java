@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.inventory.registries.cache.ReferenceDataCache;
 import com.inventory.registries.common.exception.DuplicateResourceException;
 import com.inventory.registries.common.exception.ResourceNotFoundException;
 
@@ -11,9 +12,11 @@ import com.inventory.registries.common.exception.ResourceNotFoundException;
 public class UnitService {
 
     private final UnitRepository repo;
+    private final ReferenceDataCache cache;
 
-    public UnitService(UnitRepository repo) {
+    public UnitService(UnitRepository repo, ReferenceDataCache cache) {
         this.repo = repo;
+        this.cache = cache;
     }
 
     // CREATE
@@ -26,7 +29,9 @@ public class UnitService {
 
         unit.setName(name);
         unit.setActive(true);
-        return repo.save(unit);
+        Unit saved = repo.save(unit);
+        cache.units().invalidate();
+        return saved;
     }
 
     // UPDATE
@@ -43,7 +48,9 @@ public class UnitService {
         }
 
         unit.setName(newName);
-        return repo.save(unit);
+        Unit saved = repo.save(unit);
+        cache.units().invalidate();
+        return saved;
     }
 
     // LIST
@@ -51,6 +58,11 @@ public class UnitService {
         return repo.findAllByActiveTrue();
     }
 
+    // LIST (CACHED JSON BODY)
+    public byte[] listJson() {
+        return cache.units().listJson("all", repo::findAllByActiveTrue);
+    }
+
     // DELETE (SOFT)
     public void delete(Long id) {
 
@@ -59,5 +71,6 @@ public class UnitService {
 
         unit.setActive(false);
         repo.save(unit);
+        cache.units().invalidate();
     }
 }
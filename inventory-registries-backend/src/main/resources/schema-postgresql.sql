@@ -0,0 +1,75 @@
+-- Postgres-only indexes that JPA @Index cannot express.
+-- Runs after Hibernate's schema update (spring.jpa.defer-datasource-initialization),
+-- so every statement must be idempotent.
+
+-- Case-insensitive prefix filter on the product listing (lower(x) LIKE 'abc%')
+CREATE INDEX IF NOT EXISTS idx_products_lower_name_prefix
+    ON products (lower(name) text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_products_lower_code_prefix
+    ON products (lower(code) text_pattern_ops);
+
+-- Keyset pages of the listing with sort=code, in either direction
+CREATE INDEX IF NOT EXISTS idx_products_code_id
+    ON products (code, id);
+
+-- Pooled id sequences (allocationSize 50). Databases created while these tables
+-- used IDENTITY already hold ids, so move each sequence past them; a pooled
+-- nextval of v hands out v-49..v. No-op once the sequence is ahead.
+SELECT setval('products_seq', (SELECT MAX(id) FROM products))
+WHERE (SELECT last_value FROM products_seq) < (SELECT COALESCE(MAX(id), 0) FROM products);
+
+SELECT setval('price_levels_seq', (SELECT MAX(id) FROM price_levels))
+WHERE (SELECT last_value FROM price_levels_seq) < (SELECT COALESCE(MAX(id), 0) FROM price_levels);
+
+SELECT setval('stock_taking_seq', (SELECT MAX(id) FROM stock_taking))
+WHERE (SELECT last_value FROM stock_taking_seq) < (SELECT COALESCE(MAX(id), 0) FROM stock_taking);
+
+-- Notifications take one id per insert (see Notification), from a sequence of
+-- their own; the pooled one they used before is moved past and dropped.
+SELECT setval('notification_ids_seq', (SELECT MAX(id) FROM notifications))
+WHERE (SELECT last_value FROM notification_ids_seq) < (SELECT COALESCE(MAX(id), 0) FROM notifications);
+
+DROP SEQUENCE IF EXISTS notifications_seq;
+
+-- Stock movement ledger: products that predate it get one OPENING entry for
+-- their current stock, so the ledger sums to products.stock. Products that
+-- already have a movement are skipped, which makes this a one-time backfill.
+INSERT INTO stock_movements (id, product_id, type, quantity, balance_after, created_at, updated_at, created_by)
+SELECT nextval('stock_movements_seq'), p.id, 'OPENING', p.stock, p.stock, now(), now(), 'system'
+FROM products p
+WHERE p.stock <> 0
+  AND NOT EXISTS (SELECT 1 FROM stock_movements m WHERE m.product_id = p.id);
+
+-- Optimistic lock column added to products: rows that predate it start at 0
+UPDATE products SET version = 0 WHERE version IS NULL;
+
+-- At most one open or approved count session per department
+CREATE UNIQUE INDEX IF NOT EXISTS uk_count_sessions_department_active
+    ON count_sessions (department_id) WHERE status IN ('OPEN', 'APPROVED');
+
+-- Notification indexes. The table is partitioned by month (NotificationPartitions)
+-- and Hibernate cannot see indexes on a partitioned table, so they are kept here.
+-- Read-marker compaction and role unread counts
+CREATE INDEX IF NOT EXISTS idx_notifications_recipient_role
+    ON notifications (recipient_role, id);
+
+-- Inbox keyset pages, newest first
+CREATE INDEX IF NOT EXISTS idx_notifications_recipient_created
+    ON notifications (recipient_username, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_role_created
+    ON notifications (recipient_role, created_at, id);
+
+-- Unread counters start from the direct notifications already stored; users
+-- that have a counter row keep it, so this only fills the gaps
+INSERT INTO notification_unread_counters (username, unread)
+SELECT recipient_username, COUNT(*) FILTER (WHERE NOT is_read)
+FROM notifications
+WHERE recipient_username IS NOT NULL
+GROUP BY recipient_username
+ON CONFLICT (username) DO NOTHING;
+
+-- Outbox: the relay's scan for events still waiting for a position
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unsequenced
+    ON outbox_events (id) WHERE position IS NULL;
@@ -0,0 +1,77 @@
+package com.inventory.registries.countsession;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.inventory.registries.countsession.CountSession.Status;
+
+/**
+ * Cancel against the session row lock, with mocked repositories.
+ */
+class CountSessionStatusTests {
+
+    private static final long SESSION = 7L;
+
+    private CountSessionRepository repo;
+    private CountSessionLineRepository lineRepo;
+    private CountSessionService service;
+    private CountSession session;
+
+    @BeforeEach
+    void setUp() {
+
+        session = new CountSession();
+        session.setStatus(Status.APPROVED);
+
+        repo = mock(CountSessionRepository.class);
+        when(repo.findLocked(SESSION)).thenReturn(Optional.of(session));
+        lineRepo = mock(CountSessionLineRepository.class);
+
+        service = new CountSessionService(repo, lineRepo, null, null, null, null, null, null);
+    }
+
+    @Test
+    void cancelTakesTheSessionLock() {
+
+        service.cancel(SESSION);
+
+        assertEquals(Status.CANCELLED, session.getStatus());
+        verify(repo).findLocked(SESSION);
+        verify(repo, never()).findById(any());
+    }
+
+    @Test
+    void aPartlyAppliedSessionCannotBeCancelled() {
+
+        when(lineRepo.existsBySession_IdAndAppliedTrue(SESSION)).thenReturn(true);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> service.cancel(SESSION));
+
+        assertEquals(HttpStatus.CONFLICT, e.getStatusCode());
+        assertEquals(Status.APPROVED, session.getStatus());
+        verify(repo, never()).save(any());
+    }
+
+    @Test
+    void anAppliedSessionCannotBeCancelled() {
+
+        session.setStatus(Status.APPLIED);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> service.cancel(SESSION));
+
+        assertEquals(HttpStatus.CONFLICT, e.getStatusCode());
+        verify(repo, never()).save(any());
+    }
+}
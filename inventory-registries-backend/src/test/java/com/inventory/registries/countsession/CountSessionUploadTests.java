@@ -0,0 +1,239 @@
+package com.inventory.registries.countsession;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.inventory.registries.countsession.dto.CountUploadReport;
+import com.inventory.registries.product.ProductRepository;
+
+/**
+ * CSV count upload without a database: the product lookup and the count
+ * batch are mocked, and every batch handed to JDBC is recorded as
+ * {@code code=counted} strings, one list per chunk.
+ */
+class CountSessionUploadTests {
+
+    private static final long SESSION = 7L;
+
+    private final Map<String, Long> products = new HashMap<>();
+    private final List<List<String>> batches = new ArrayList<>();
+    private CountSessionService service;
+
+    @BeforeEach
+    void setUp() {
+
+        CountSessionRepository repo = mock(CountSessionRepository.class);
+        when(repo.findById(SESSION)).thenReturn(Optional.of(new CountSession()));
+
+        ProductRepository productRepo = mock(ProductRepository.class);
+        when(productRepo.findRowsByCodeIn(anyCollection())).thenAnswer(inv -> {
+            List<ProductRepository.SearchRow> rows = new ArrayList<>();
+            for (String code : inv.<Collection<String>>getArgument(0)) {
+                if (products.containsKey(code)) {
+                    rows.add(row(products.get(code), code));
+                }
+            }
+            return rows;
+        });
+
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        when(jdbc.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(inv -> {
+                    ParameterizedPreparedStatementSetter<Object> setter = inv.getArgument(3);
+                    List<String> batch = new ArrayList<>();
+                    for (Object count : inv.<Collection<?>>getArgument(1)) {
+                        batch.add(bind(setter, count));
+                    }
+                    batches.add(batch);
+                    int[] updated = new int[batch.size()];
+                    Arrays.fill(updated, 1);
+                    return new int[][] { updated };
+                });
+
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(tx).executeWithoutResult(any());
+
+        service = new CountSessionService(repo, mock(CountSessionLineRepository.class), productRepo,
+                null, null, null, jdbc, tx);
+    }
+
+    @Test
+    void quotedFieldsKeepCommasAndDoubledQuotes() throws Exception {
+
+        products.put("A,1", 1L);
+        products.put("say \"hi\"", 2L);
+
+        CountUploadReport report = upload("code,counted\n\"A,1\",5\n\"say \"\"hi\"\"\",3\n");
+
+        assertEquals(2, report.getCounted());
+        assertEquals(List.of(List.of("A,1=5", "say \"hi\"=3")), batches);
+    }
+
+    @Test
+    void byteOrderMarkAndColumnOrderAreIgnored() throws Exception {
+
+        products.put("P1", 1L);
+
+        CountUploadReport report = upload("\uFEFFnote, Counted ,CODE\nshelf 2,4,P1\n");
+
+        assertEquals(1, report.getCounted());
+        assertEquals(List.of(List.of("P1=4")), batches);
+    }
+
+    @Test
+    void missingColumnsRejectTheUpload() {
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> upload("code,qty\nP1,4\n"));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+
+        e = assertThrows(ResponseStatusException.class, () -> upload(""));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    @Test
+    void badRowsAreReportedByLineAndSkipped() throws Exception {
+
+        products.put("P1", 1L);
+
+        CountUploadReport report = upload("""
+                code,counted
+                P1,x
+
+                ,3
+                P1,-1
+                NOPE,2
+                P1
+                P1,6
+                """);
+
+        assertEquals(6, report.getReceived());
+        assertEquals(1, report.getCounted());
+        assertEquals(5, report.getFailed());
+        // Parse errors as they are read, unknown codes once their chunk is matched
+        assertEquals(List.of(2L, 4L, 5L, 7L, 6L),
+                report.getErrors().stream().map(err -> err.getLine()).toList());
+        assertEquals("Unknown product code", report.getErrors().get(4).getMessage());
+    }
+
+    @Test
+    void aCodeCountedInTwoChunksIsSentInBothInFileOrder() throws Exception {
+
+        StringBuilder csv = new StringBuilder("code,counted\n");
+        for (int i = 1; i <= 1000; i++) {
+            products.put("P" + i, (long) i);
+            csv.append("P").append(i).append(",1\n");
+        }
+        // First row of the second chunk counts P1 again; the later batch wins
+        csv.append("P1,9\n");
+
+        CountUploadReport report = upload(csv.toString());
+
+        assertEquals(1001, report.getCounted());
+        assertEquals(2, batches.size());
+        assertEquals(1000, batches.get(0).size());
+        assertEquals("P1=1", batches.get(0).get(0));
+        assertEquals(List.of("P1=9"), batches.get(1));
+    }
+
+    @Test
+    void reportedErrorsAreCapped() throws Exception {
+
+        StringBuilder csv = new StringBuilder("code,counted\n");
+        for (int i = 0; i < 1500; i++) {
+            csv.append("P").append(i).append(",-1\n");
+        }
+
+        CountUploadReport report = upload(csv.toString());
+
+        assertEquals(1500, report.getFailed());
+        assertEquals(1000, report.getErrors().size());
+        assertTrue(report.isErrorsTruncated());
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void errorsUnderTheCapAreNotTruncated() throws Exception {
+
+        CountUploadReport report = upload("code,counted\nP1,-1\n");
+
+        assertEquals(1, report.getErrors().size());
+        assertFalse(report.isErrorsTruncated());
+    }
+
+    private CountUploadReport upload(String csv) throws Exception {
+        return service.upload(SESSION, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Runs the service's statement setter against a recording statement:
+    // parameter 1 is the count, 4 the product id
+    private String bind(ParameterizedPreparedStatementSetter<Object> setter, Object count) throws SQLException {
+
+        Map<Integer, Object> params = new HashMap<>();
+        PreparedStatement ps = mock(PreparedStatement.class, inv -> {
+            params.put(inv.getArgument(0), inv.getArgument(1));
+            return null;
+        });
+        setter.setValues(ps, count);
+
+        String code = products.entrySet().stream()
+                .filter(e -> e.getValue().equals(params.get(4)))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElseThrow();
+        return code + "=" + params.get(1);
+    }
+
+    private static ProductRepository.SearchRow row(long id, String code) {
+        return new ProductRepository.SearchRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getCode() {
+                return code;
+            }
+
+            @Override
+            public String getName() {
+                return code;
+            }
+        };
+    }
+}
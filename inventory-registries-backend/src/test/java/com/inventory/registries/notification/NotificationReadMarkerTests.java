@@ -0,0 +1,129 @@
+package com.inventory.registries.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Read-marker bookkeeping without a database: the lists passed to
+ * {@link NotificationReadMarker#compact} stand in for the role notifications
+ * the repository would return above the watermark.
+ */
+class NotificationReadMarkerTests {
+
+    @Test
+    void readIdsAboveTheWatermarkAreKeptSortedAndDistinct() {
+
+        NotificationReadMarker marker = new NotificationReadMarker("alice");
+        marker.markReadAll(List.of(7L, 3L, 5L));
+        marker.markReadAll(List.of(5L, 9L));
+
+        assertEquals(4, marker.getOutOfOrderCount());
+        assertTrue(marker.isRead(3));
+        assertTrue(marker.isRead(9));
+        assertFalse(marker.isRead(4));
+        assertFalse(marker.markRead(7));
+        assertTrue(marker.markRead(4));
+    }
+
+    @Test
+    void compactMovesTheWatermarkOverAContiguousRun() {
+
+        NotificationReadMarker marker = new NotificationReadMarker("alice");
+        marker.markReadAll(List.of(2L, 4L, 6L));
+
+        // 2 and 4 are read, 5 is not: the watermark stops at 4
+        marker.compact(List.of(2L, 4L, 5L, 6L));
+
+        assertEquals(4, marker.getReadThrough());
+        assertEquals(1, marker.getOutOfOrderCount());
+        assertTrue(marker.isRead(6));
+        assertFalse(marker.isRead(5));
+    }
+
+    @Test
+    void compactDropsReadIdsThatAreNoLongerVisible() {
+
+        NotificationReadMarker marker = new NotificationReadMarker("alice");
+        marker.markReadAll(List.of(1L, 2L, 3L));
+
+        // 2 was purged, so the run continues from 1 to 3
+        marker.compact(List.of(1L, 3L));
+
+        assertEquals(3, marker.getReadThrough());
+        assertEquals(0, marker.getOutOfOrderCount());
+    }
+
+    @Test
+    void compactStopsWhereTheSettledIdsEnd() {
+
+        NotificationReadMarker marker = new NotificationReadMarker("alice");
+        marker.markReadAll(List.of(10L, 11L));
+
+        // 11 is read but not settled: it stays out of order for now
+        marker.compact(List.of(10L));
+
+        assertEquals(10, marker.getReadThrough());
+        assertEquals(1, marker.getOutOfOrderCount());
+        assertTrue(marker.isRead(11));
+    }
+
+    @Test
+    void readsBelowTheWatermarkAreIgnored() {
+
+        NotificationReadMarker marker = new NotificationReadMarker("alice");
+        marker.markReadAll(List.of(1L, 2L));
+        marker.compact(List.of(1L, 2L));
+
+        marker.markReadAll(List.of(1L, 2L, 3L));
+
+        assertEquals(2, marker.getReadThrough());
+        assertEquals(1, marker.getOutOfOrderCount());
+    }
+
+    @Test
+    void hideAlsoMarksRead() {
+
+        NotificationReadMarker marker = new NotificationReadMarker("alice");
+        marker.hide(8);
+        marker.hide(8);
+
+        assertTrue(marker.isHidden(8));
+        assertTrue(marker.isRead(8));
+        assertFalse(marker.isHidden(9));
+        assertEquals(1, marker.getOutOfOrderCount());
+    }
+
+    @Test
+    void settledStopsAtTheFirstRecentId() {
+
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<NotificationRepository.RoleId> above = List.of(
+                row(1, cutoff.minusMinutes(5)),
+                row(2, cutoff),
+                row(3, cutoff.plusSeconds(1)),
+                // Older than the cutoff but above a recent id, so not passed either
+                row(4, cutoff.minusMinutes(1)));
+
+        assertEquals(List.of(1L, 2L), NotificationService.settled(above, cutoff));
+    }
+
+    private static NotificationRepository.RoleId row(long id, LocalDateTime createdAt) {
+        return new NotificationRepository.RoleId() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.inventory.registries.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.inventory.registries.notification.dto.UnreadCount;
+
+/**
+ * Unread badge over mocked repositories: {@link #roleNotifications} stands in
+ * for the role notifications above the user's watermark, and the repository
+ * hands out at most as many as the query's limit asks for.
+ */
+class NotificationUnreadCountTests {
+
+    private final Authentication staff = new UsernamePasswordAuthenticationToken(
+            "alice", null, List.of(new SimpleGrantedAuthority("ROLE_STAFF")));
+
+    private long roleNotifications;
+    private NotificationReadMarker marker;
+    private NotificationService service;
+
+    @BeforeEach
+    void setUp() {
+
+        marker = new NotificationReadMarker("alice");
+
+        NotificationRepository repo = mock(NotificationRepository.class);
+        when(repo.findRoleIdsAfter(anyCollection(), anyLong(), any())).thenAnswer(inv -> {
+            Limit limit = inv.getArgument(2);
+            return LongStream.rangeClosed(1, Math.min(roleNotifications, limit.max()))
+                    .mapToObj(NotificationUnreadCountTests::roleId)
+                    .toList();
+        });
+
+        NotificationReadMarkerRepository markerRepo = mock(NotificationReadMarkerRepository.class);
+        when(markerRepo.findById("alice")).thenAnswer(inv -> Optional.of(marker));
+
+        NotificationUnreadCounterRepository counterRepo = mock(NotificationUnreadCounterRepository.class);
+        when(counterRepo.findUnread("alice")).thenReturn(Optional.of(3L));
+
+        service = new NotificationService(repo, markerRepo, counterRepo, mock(NotificationStream.class),
+                mock(NotificationReadBuffer.class), null, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void roleNotificationsReadOutOfOrderAreNotCounted() {
+
+        roleNotifications = 10;
+        marker.markReadAll(List.of(2L, 4L));
+
+        UnreadCount count = service.unreadCount(staff);
+
+        assertEquals(3 + 8, count.getUnread());
+        assertFalse(count.isCapped());
+    }
+
+    @Test
+    void aUserWhoNeverReadsGetsACappedCount() {
+
+        roleNotifications = 50_000;
+        marker.markReadAll(List.of(2L, 4L));
+
+        UnreadCount count = service.unreadCount(staff);
+
+        assertEquals(3 + 999, count.getUnread());
+        assertTrue(count.isCapped());
+    }
+
+    private static NotificationRepository.RoleId roleId(long id) {
+        return new NotificationRepository.RoleId() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return LocalDateTime.MIN;
+            }
+        };
+    }
+}
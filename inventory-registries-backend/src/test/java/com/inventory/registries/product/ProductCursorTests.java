@@ -0,0 +1,64 @@
+package com.inventory.registries.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.inventory.registries.product.dto.ProductQuery;
+
+class ProductCursorTests {
+
+    @Test
+    void aCursorContinuesTheOrderItWasMadeFor() {
+
+        String cursor = ProductCursor.encode("code", Sort.Direction.DESC, position("code", "P-9", 42L));
+
+        KeysetScrollPosition next = ProductCursor.decode(cursor, "code", Sort.Direction.DESC);
+
+        assertEquals(Map.of("code", "P-9", "id", 42L), next.getKeys());
+    }
+
+    @Test
+    void anotherDirectionOrSortIsRejected() {
+
+        String cursor = ProductCursor.encode("code", Sort.Direction.ASC, position("code", "P-9", 42L));
+
+        assertInvalid(() -> ProductCursor.decode(cursor, "code", Sort.Direction.DESC));
+        assertInvalid(() -> ProductCursor.decode(cursor, "name", Sort.Direction.ASC));
+        assertInvalid(() -> ProductCursor.decode("not a cursor", "id", Sort.Direction.ASC));
+    }
+
+    @Test
+    void anUnknownDirectionIsRejected() {
+
+        ProductService service = new ProductService(null, null, null, null, null, null, null, null, null);
+        ProductQuery query = new ProductQuery();
+        query.setDir("sideways");
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> service.page(query));
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        assertEquals("Unsupported dir: sideways", e.getReason());
+    }
+
+    private static ScrollPosition position(String sortField, Object value, long id) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortField, value);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+
+    private static void assertInvalid(Runnable decode) {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, decode::run);
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+}
@@ -0,0 +1,133 @@
+package com.inventory.registries.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.inventory.registries.product.ProductImportReader.Row;
+
+import tools.jackson.databind.json.JsonMapper;
+
+class ProductImportReaderTests {
+
+    private static final String HEADER = "code,name,brandId,unitId,subDepartmentId,sellingPrice,costPrice,stock\n";
+
+    @Test
+    void quotedFieldsKeepCommasDoubledQuotesAndLineBreaks() throws Exception {
+
+        List<Row> rows = csv(HEADER
+                + "\"P,1\",\"12\"\" pipe\",1,2,3,10,5,\n"
+                + "P2,\"two\nlines\",1,2,3,10,5,7\n"
+                + "P3,three,1,2,3,10,5,0\n");
+
+        assertEquals(3, rows.size());
+        assertEquals("P,1", rows.get(0).request().getCode());
+        assertEquals("12\" pipe", rows.get(0).request().getName());
+        assertNull(rows.get(0).request().getStock());
+        assertEquals("two\nlines", rows.get(1).request().getName());
+
+        // Source lines, counting the break inside the quoted name
+        assertEquals(List.of(2L, 3L, 5L), rows.stream().map(Row::line).toList());
+    }
+
+    @Test
+    void byteOrderMarkCrlfAndHeaderSpellingsAreAccepted() throws Exception {
+
+        List<Row> rows = csv("\uFEFFCode,Name,brand_id,Unit Id,SUB_DEPARTMENT_ID,selling price,cost_price\r\n"
+                + "P1,One,1,2,3,10,5\r\n");
+
+        assertEquals(1, rows.size());
+        assertEquals("P1", rows.get(0).request().getCode());
+        assertEquals(3L, rows.get(0).request().getSubDepartmentId());
+        assertEquals(10.0, rows.get(0).request().getSellingPrice());
+    }
+
+    @Test
+    void missingColumnsRejectTheImport() {
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> csv("code,name,brandId\nP1,One,1\n"));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        assertEquals("Missing CSV columns: unitid, subdepartmentid, sellingprice, costprice", e.getReason());
+
+        e = assertThrows(ResponseStatusException.class, () -> csv(""));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    @Test
+    void badNumbersBecomeRowErrorsAndBlankRowsAreSkipped() throws Exception {
+
+        List<Row> rows = csv(HEADER
+                + "P1,One,x,2,3,10,5,0\n"
+                + "\n"
+                + ",,,,,,,\n"
+                + "P2,Two,1,2,3,10,5\n");
+
+        assertEquals(2, rows.size());
+        assertEquals(2, rows.get(0).line());
+        assertNull(rows.get(0).request());
+        assertEquals("Invalid number in column brandid: 'x'", rows.get(0).error());
+
+        // Short row: the missing stock column is simply absent
+        assertEquals(5, rows.get(1).line());
+        assertNull(rows.get(1).request().getStock());
+    }
+
+    @Test
+    void anOverlongRecordIsARowErrorAndReadingResumesOnTheNextLine() throws Exception {
+
+        List<Row> rows = csv(HEADER
+                + "P1,\"" + "x".repeat(70_000) + ",1,2,3,10,5,0\n"
+                + "P2,Two,1,2,3,10,5,0\n");
+
+        assertEquals(2, rows.size());
+        assertEquals(2, rows.get(0).line());
+        assertNull(rows.get(0).request());
+        assertTrue(rows.get(0).error().startsWith("Record longer than"));
+        assertEquals(3, rows.get(1).line());
+        assertEquals("P2", rows.get(1).request().getCode());
+    }
+
+    @Test
+    void ndjsonReportsBadLinesByNumber() throws Exception {
+
+        ProductImportReader reader = ProductImportReader.ndjson(new StringReader("""
+                {"code":"P1","name":"One","brandId":1,"unitId":2,"subDepartmentId":3,"sellingPrice":10,"costPrice":5}
+
+                {"code":"P2",
+                null
+                [1]
+                """), JsonMapper.builder().build());
+
+        List<Row> rows = drain(reader);
+
+        assertEquals(4, rows.size());
+        assertEquals("P1", rows.get(0).request().getCode());
+        assertEquals(3, rows.get(1).line());
+        assertTrue(rows.get(1).error().startsWith("Invalid JSON"));
+        assertEquals("Each line must be a JSON object", rows.get(2).error());
+        assertTrue(rows.get(3).error().startsWith("Invalid JSON"));
+    }
+
+    private static List<Row> csv(String text) throws Exception {
+        return drain(ProductImportReader.csv(new StringReader(text)));
+    }
+
+    private static List<Row> drain(ProductImportReader reader) throws Exception {
+        List<Row> rows = new ArrayList<>();
+        Row row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,164 @@
+package com.inventory.registries.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inventory.registries.brand.BrandRepository;
+import com.inventory.registries.cache.RegistryVersions;
+import com.inventory.registries.outbox.Outbox;
+import com.inventory.registries.product.dto.ProductImportError;
+import com.inventory.registries.product.dto.ProductImportReport;
+import com.inventory.registries.stockmovement.StockMovementService;
+import com.inventory.registries.subdepartment.SubDepartmentRepository;
+import com.inventory.registries.unit.UnitRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Chunking and reporting of the product import without a database: codes
+ * persisted by one chunk are what the next chunk's existing-code check sees.
+ */
+class ProductImportServiceTests {
+
+    private static final String HEADER = "code,name,brandId,unitId,subDepartmentId,sellingPrice,costPrice\n";
+
+    private final Set<String> stored = new HashSet<>();
+    private EntityManager em;
+    private ProductImportService service;
+
+    @BeforeEach
+    void setUp() {
+
+        ProductRepository productRepo = mock(ProductRepository.class);
+        when(productRepo.findExistingCodes(anyCollection())).thenAnswer(inv -> inv.<Collection<String>>getArgument(0)
+                .stream()
+                .filter(stored::contains)
+                .collect(Collectors.toSet()));
+
+        BrandRepository brandRepo = mock(BrandRepository.class);
+        when(brandRepo.findActiveIds()).thenReturn(List.of(1L));
+        UnitRepository unitRepo = mock(UnitRepository.class);
+        when(unitRepo.findActiveIds()).thenReturn(List.of(1L));
+        SubDepartmentRepository subDeptRepo = mock(SubDepartmentRepository.class);
+        when(subDeptRepo.findActiveIds()).thenReturn(List.of(1L));
+
+        em = mock(EntityManager.class);
+        doAnswer(inv -> stored.add(inv.<Product>getArgument(0).getCode())).when(em).persist(any());
+
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        when(tx.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        service = new ProductImportService(productRepo, brandRepo, unitRepo, subDeptRepo,
+                mock(ProductSearchIndex.class), new RegistryVersions(), em, mock(StockMovementService.class),
+                tx, Validation.buildDefaultValidatorFactory().getValidator(), JsonMapper.builder().build(),
+                mock(Outbox.class));
+    }
+
+    @Test
+    void duplicateCodesAreRejectedWithinAndAcrossChunks() throws Exception {
+
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 1; i <= 1000; i++) {
+            csv.append(row("P" + i));
+        }
+        // Second chunk: P1 again (stored by the first chunk), then twice in itself
+        csv.append(row("P1")).append(row("Q1")).append(row("Q1"));
+
+        ProductImportReport report = service.importCsv(body(csv));
+
+        assertEquals(1003, report.getReceived());
+        assertEquals(1001, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(List.of("1002 P1 Product code already exists", "1004 Q1 Duplicate code in file"),
+                report.getErrors().stream().map(ProductImportServiceTests::describe).toList());
+    }
+
+    @Test
+    void aChunkTheDatabaseRejectsIsReportedRowByRow() throws Exception {
+
+        // e.g. a code inserted concurrently between the check and the flush
+        doThrow(new PersistenceException("duplicate key")).when(em).flush();
+
+        ProductImportReport report = service.importCsv(body(new StringBuilder(HEADER)
+                .append(row("P1")).append(row("P2"))));
+
+        assertEquals(0, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals("Chunk rejected by database, retry these rows", report.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void aNullNdjsonLineIsARowErrorNotAFailedImport() throws Exception {
+
+        String ndjson = """
+                {"code":"P1","name":"One","brandId":1,"unitId":1,"subDepartmentId":1,"sellingPrice":10,"costPrice":5}
+                null
+                """;
+
+        ProductImportReport report = service.importNdjson(body(new StringBuilder(ndjson)));
+
+        assertEquals(1, report.getImported());
+        assertEquals(List.of("2 null Each line must be a JSON object"),
+                report.getErrors().stream().map(ProductImportServiceTests::describe).toList());
+    }
+
+    @Test
+    void reportedErrorsAreCapped() throws Exception {
+
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 1200; i++) {
+            csv.append("P").append(i).append(",Name,9,1,1,10,5\n");
+        }
+
+        ProductImportReport report = service.importCsv(body(csv));
+
+        assertEquals(1200, report.getFailed());
+        assertEquals(1000, report.getErrors().size());
+        assertTrue(report.isErrorsTruncated());
+        assertEquals("Invalid Brand", report.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void errorsUnderTheCapAreNotTruncated() throws Exception {
+
+        ProductImportReport report = service.importCsv(body(new StringBuilder(HEADER).append("P1,,1,1,1,10,5\n")));
+
+        assertEquals(1, report.getErrors().size());
+        assertFalse(report.isErrorsTruncated());
+    }
+
+    private static String row(String code) {
+        return code + ",Name " + code + ",1,1,1,10,5\n";
+    }
+
+    private static ByteArrayInputStream body(StringBuilder csv) {
+        return new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String describe(ProductImportError e) {
+        return e.getLine() + " " + e.getCode() + " " + e.getMessage();
+    }
+}
@@ -0,0 +1,113 @@
+package com.inventory.registries.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.inventory.registries.product.dto.ProductSearchHit;
+
+/**
+ * Ranking of the typeahead index, filled directly or from a mocked
+ * repository (no database).
+ */
+class ProductSearchIndexTests {
+
+    @Test
+    void exactCodeIsFoundPastTheCandidateCap() {
+
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        // Enough earlier name-prefix matches to fill the candidate cap
+        for (long id = 1; id <= 1000; id++) {
+            index.upsert(id, "P-" + id, "Ab item " + id);
+        }
+        index.upsert(5000L, "AB", "Adapter bracket");
+
+        List<ProductSearchHit> hits = index.search("ab", 10);
+
+        assertEquals(10, hits.size());
+        assertEquals(5000L, hits.get(0).getId());
+    }
+
+    @Test
+    void replacedCodeIsNoLongerAnExactMatch() {
+
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        index.upsert(1L, "OLD-1", "Valve");
+        index.upsert(1L, "NEW-1", "Valve");
+
+        assertTrue(index.search("old-1", 10).isEmpty());
+        assertEquals(1L, index.search("new-1", 10).get(0).getId());
+    }
+
+    @Test
+    void betterRankedHitsArePastTheCandidateCap() {
+
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        // More word-prefix matches than the cap, all on lower doc ids
+        for (long id = 1; id <= 1000; id++) {
+            index.upsert(id, "P-" + id, "Big valve " + id);
+        }
+        index.upsert(5000L, "VAL-9", "Gasket");
+        index.upsert(5001L, "X-9", "Valve cover");
+
+        List<ProductSearchHit> hits = index.search("val", 10);
+
+        assertEquals(10, hits.size());
+        assertEquals(5000L, hits.get(0).getId());
+        assertEquals(5001L, hits.get(1).getId());
+        assertEquals(1L, hits.get(2).getId());
+    }
+
+    @Test
+    void startupBuildKeepsWhatLiveWritesLeft() {
+
+        ProductRepository repo = mock(ProductRepository.class);
+        ProductSearchIndex index = new ProductSearchIndex(repo);
+
+        // The batch is read, then product 2 is deleted and 3 renamed before
+        // the build applies it
+        when(repo.findSearchRows(anyLong(), any())).thenAnswer(inv -> {
+            List<ProductRepository.SearchRow> stale = List.of(
+                    row(1L, "A-1", "Pump"), row(2L, "A-2", "Pump"), row(3L, "A-3", "Pump"));
+            index.remove(2L);
+            index.upsert(3L, "A-3", "Valve");
+            return stale;
+        });
+
+        index.loadFromDatabase();
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(1L), index.search("pump", 10).stream().map(ProductSearchHit::getId).toList());
+        assertEquals(3L, index.search("valve", 10).get(0).getId());
+
+        // Once built, writes apply as usual
+        index.upsert(2L, "A-2", "Pump");
+        assertEquals(3, index.size());
+    }
+
+    private static ProductRepository.SearchRow row(long id, String code, String name) {
+        return new ProductRepository.SearchRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getCode() {
+                return code;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.inventory.registries.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.inventory.registries.common.exception.TooManyRequestsException;
+
+/**
+ * Shedding on estimated wait, with an encoder that takes 100 ms per hash and
+ * checks held on a latch so none of them finishes during the test.
+ */
+class PasswordCheckPoolTests {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordCheckPool pool;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.destroy();
+    }
+
+    @Test
+    void loginsPastTheMaxWaitAreTurnedAwayBeforeTheQueueIsFull() {
+
+        // One thread, 100 ms checks, 250 ms max wait: the running check and
+        // two queued behind it fit, the third in the queue would wait 300 ms
+        pool = new PasswordCheckPool(slowEncoder(), 1, Duration.ofMillis(250), 100, Duration.ofSeconds(2));
+
+        for (int i = 0; i < 3; i++) {
+            pool.submit(this::held);
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> pool.submit(this::held));
+        assertEquals(2, pool.queued());
+    }
+
+    @Test
+    void theQueueCapacityStillBoundsTheQueue() {
+
+        pool = new PasswordCheckPool(slowEncoder(), 1, Duration.ofMinutes(1), 1, Duration.ofSeconds(2));
+
+        pool.submit(this::held);
+        pool.submit(this::held);
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class, () -> pool.submit(this::held));
+        assertEquals(Duration.ofSeconds(2), e.getRetryAfter());
+    }
+
+    private Object held() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private static PasswordEncoder slowEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package com.inventory.registries.stockmovement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.inventory.registries.brand.Brand;
+import com.inventory.registries.brand.BrandRepository;
+import com.inventory.registries.department.Department;
+import com.inventory.registries.department.DepartmentRepository;
+import com.inventory.registries.product.ProductService;
+import com.inventory.registries.product.dto.ProductRequest;
+import com.inventory.registries.product.dto.ProductView;
+import com.inventory.registries.stockmovement.StockMovement.MovementType;
+import com.inventory.registries.subdepartment.SubDepartment;
+import com.inventory.registries.subdepartment.SubDepartmentRepository;
+import com.inventory.registries.unit.Unit;
+import com.inventory.registries.unit.UnitRepository;
+
+/**
+ * Hammers one product from {@link #WRITERS} threads at once and checks that
+ * no stock change or edit is lost. Runs against the configured database, with
+ * the outbox relay off so the test's change events never reach the sinks;
+ * they are deleted with the product.
+ */
+@SpringBootTest(properties = "outbox.relay.enabled=false")
+class StockConcurrencyTests {
+
+    private static final int WRITERS = 500;
+    private static final int OPENING_STOCK = 1000;
+
+    @Autowired private StockMovementService stock;
+    @Autowired private ProductService products;
+    @Autowired private BrandRepository brandRepo;
+    @Autowired private UnitRepository unitRepo;
+    @Autowired private DepartmentRepository departmentRepo;
+    @Autowired private SubDepartmentRepository subDeptRepo;
+    @Autowired private JdbcTemplate jdbc;
+
+    private Brand brand;
+    private Unit unit;
+    private Department department;
+    private SubDepartment subDept;
+    private ProductView product;
+
+    @BeforeEach
+    void createProduct() {
+
+        brand = new Brand();
+        brand.setName("Stress brand");
+        brand = brandRepo.save(brand);
+
+        unit = new Unit();
+        unit.setName("Stress unit");
+        unit = unitRepo.save(unit);
+
+        department = new Department();
+        department.setName("Stress department");
+        department = departmentRepo.save(department);
+
+        subDept = new SubDepartment();
+        subDept.setName("Stress category");
+        subDept.setDepartment(department);
+        subDept = subDeptRepo.save(subDept);
+
+        product = products.create(request("Stress product", OPENING_STOCK));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("delete from stock_movements where product_id = ?", product.getId());
+        jdbc.update("delete from outbox_events where aggregate_id = ? and type in (?, ?, ?, ?)",
+                product.getId(), "PRODUCT_CREATED", "PRODUCT_UPDATED", "PRODUCT_DELETED", "STOCK_CHANGED");
+        jdbc.update("delete from products where id = ?", product.getId());
+        subDeptRepo.delete(subDept);
+        departmentRepo.delete(department);
+        unitRepo.delete(unit);
+        brandRepo.delete(brand);
+    }
+
+    @Test
+    void concurrentDeltasAreNeverLost() throws Exception {
+
+        // Receipts of 1..3 units: balances only grow, so each must be distinct
+        runWriters(i -> stock.record(product.getId(), MovementType.RECEIPT, 1 + i % 3, null, null, "stress " + i));
+
+        int expected = OPENING_STOCK;
+        for (int i = 0; i < WRITERS; i++) {
+            expected += 1 + i % 3;
+        }
+
+        ProductView after = products.get(product.getId());
+        assertEquals(expected, after.getStock());
+        assertEquals(product.getVersion() + WRITERS, after.getVersion());
+
+        Integer ledgerSum = jdbc.queryForObject(
+                "select sum(quantity) from stock_movements where product_id = ?", Integer.class, product.getId());
+        assertEquals(expected, ledgerSum);
+
+        // Each delta saw its own balance: no two writers read the same stock
+        Integer balances = jdbc.queryForObject(
+                "select count(distinct balance_after) from stock_movements where product_id = ?",
+                Integer.class, product.getId());
+        assertEquals(WRITERS + 1, balances);
+    }
+
+    @Test
+    void concurrentEditsOfOneVersionHaveOneWinner() throws Exception {
+
+        AtomicInteger saved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runWriters(i -> {
+            try {
+                products.update(product.getId(), request("Edit " + i, OPENING_STOCK), product.getVersion());
+                saved.incrementAndGet();
+            } catch (OptimisticLockingFailureException e) {
+                rejected.incrementAndGet();
+            } catch (ResponseStatusException e) {
+                assertEquals(HttpStatus.PRECONDITION_FAILED, e.getStatusCode());
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, saved.get());
+        assertEquals(WRITERS - 1, rejected.get());
+        assertEquals(product.getVersion() + 1, products.get(product.getId()).getVersion());
+    }
+
+    // All writers start together; any unexpected exception fails the test
+    private static void runWriters(IntConsumer writer) throws Exception {
+
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>(WRITERS);
+
+        try {
+            for (int i = 0; i < WRITERS; i++) {
+                int n = i;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    writer.accept(n);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : results) {
+                f.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private ProductRequest request(String name, int stockLevel) {
+        ProductRequest req = new ProductRequest();
+        req.setCode(product == null ? "STRESS-" + UUID.randomUUID() : product.getCode());
+        req.setName(name);
+        req.setBrandId(brand.getId());
+        req.setUnitId(unit.getId());
+        req.setSubDepartmentId(subDept.getId());
+        req.setSellingPrice(10.0);
+        req.setCostPrice(5.0);
+        req.setStock(stockLevel);
+        return req;
+    }
+}
@@ -0,0 +1,159 @@
+package com.inventory.registries.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.inventory.registries.product.ProductService;
+import com.inventory.registries.product.dto.ProductRequest;
+import com.inventory.registries.product.dto.ProductView;
+import com.inventory.registries.security.Role;
+import com.inventory.registries.security.User;
+import com.inventory.registries.security.UserRepository;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Rows per second written over HTTP: {@code batch=1} is one POST per row
+ * ({@code /api/products}, {@code /api/price-levels/product/{id}}), larger
+ * values send {@link #ROWS} rows as {@code /batch} requests of that size.
+ * Scores are rows/s, so the per-row and batched runs compare directly.
+ *
+ * Runs on the embedded H2 like the other service benchmarks; Postgres
+ * batching gains more from the driver's rewritten multi-row inserts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BatchInsertBenchmark.ROWS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    static final int ROWS = 1000;
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+    private static final String PASSWORD = "bench";
+
+    @Param({ "1", "100", "1000" })
+    int batch;
+
+    private ConfigurableApplicationContext ctx;
+    private final HttpClient http = HttpClient.newHttpClient();
+    private String url;
+    private String token;
+    private Fixtures fixtures;
+
+    @Setup
+    public void setUp() {
+        ctx = EmbeddedApplication.start("batch-insert-" + batch);
+        url = "http://localhost:" + ctx.getEnvironment().getProperty("local.server.port");
+        fixtures = Fixtures.create(ctx);
+
+        User admin = new User();
+        admin.setUsername("bench-admin");
+        admin.setPassword(ctx.getBean(PasswordEncoder.class).encode(PASSWORD));
+        admin.setRole(Role.SUPER_ADMIN);
+        ctx.getBean(UserRepository.class).save(admin);
+    }
+
+    // Access tokens expire; a login per iteration keeps one valid
+    @Setup(Level.Iteration)
+    public void login() throws Exception {
+        token = JSON.readTree(post("/api/auth/login",
+                Map.of("username", "bench-admin", "password", PASSWORD))).get("token").asString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public void products() throws Exception {
+        for (int from = 0; from < ROWS; from += batch) {
+            if (batch == 1) {
+                post("/api/products", fixtures.product());
+                continue;
+            }
+            List<ProductRequest> rows = new ArrayList<>(batch);
+            for (int i = 0; i < batch; i++) {
+                rows.add(fixtures.product());
+            }
+            post("/api/products/batch", rows);
+        }
+    }
+
+    @Benchmark
+    public void priceLevels(Targets targets) throws Exception {
+        for (int from = 0; from < ROWS; from += batch) {
+            if (batch == 1) {
+                post("/api/price-levels/product/" + targets.productIds[from],
+                        Map.of("name", "Level 1", "price", 9.0, "priority", 1));
+                continue;
+            }
+            List<Map<String, Object>> rows = new ArrayList<>(batch);
+            for (int i = from; i < from + batch; i++) {
+                rows.add(Map.of("productId", targets.productIds[i], "name", "Level 1", "price", 9.0, "priority", 1));
+            }
+            post("/api/price-levels/batch", rows);
+        }
+    }
+
+    /** A fresh product for every price level, created outside the measurement. */
+    @State(Scope.Thread)
+    public static class Targets {
+
+        long[] productIds = new long[ROWS];
+
+        @Setup(Level.Invocation)
+        public void create(BatchInsertBenchmark bench) {
+            ProductService products = bench.ctx.getBean(ProductService.class);
+            List<ProductRequest> reqs = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                reqs.add(bench.fixtures.product());
+            }
+            List<ProductView> created = products.createBatch(reqs);
+            for (int i = 0; i < ROWS; i++) {
+                productIds[i] = created.get(i).getId();
+            }
+        }
+    }
+
+    private String post(String path, Object body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("POST " + path + ": " + response.statusCode() + " " + response.body());
+        }
+        return response.body();
+    }
+}
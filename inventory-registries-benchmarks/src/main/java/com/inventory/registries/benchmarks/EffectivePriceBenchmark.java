@@ -0,0 +1,86 @@
+package com.inventory.registries.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.inventory.registries.pricelevel.PriceLevelService;
+import com.inventory.registries.pricelevel.dto.PriceLevelRequest;
+import com.inventory.registries.pricelevel.dto.PriceLevelView;
+import com.inventory.registries.product.ProductService;
+
+/**
+ * {@link PriceLevelService#getEffectivePrice} for random products of a
+ * catalog where every product has {@code levels} active price levels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EffectivePriceBenchmark {
+
+    private static final int PRODUCTS = 1000;
+
+    @Param({ "1", "10" })
+    int levels;
+
+    private ConfigurableApplicationContext ctx;
+    private PriceLevelService priceLevels;
+    private long[] productIds;
+
+    @Setup
+    public void setUp() {
+        ctx = EmbeddedApplication.start("effective-price-" + levels);
+        priceLevels = ctx.getBean(PriceLevelService.class);
+        ProductService products = ctx.getBean(ProductService.class);
+        Fixtures fixtures = Fixtures.create(ctx);
+
+        productIds = new long[PRODUCTS];
+        List<PriceLevelRequest> batch = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds[i] = products.create(fixtures.product()).getId();
+            for (int p = 1; p <= levels; p++) {
+                PriceLevelRequest req = new PriceLevelRequest();
+                req.setProductId(productIds[i]);
+                req.setName("Level " + p);
+                req.setPrice(10.0 + p);
+                req.setPriority(p);
+                batch.add(req);
+            }
+            if (batch.size() >= 900) {
+                priceLevels.createBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            priceLevels.createBatch(batch);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public PriceLevelView getEffectivePrice() {
+        return priceLevels.getEffectivePrice(productIds[ThreadLocalRandom.current().nextInt(PRODUCTS)]);
+    }
+}
@@ -0,0 +1,31 @@
+package com.inventory.registries.benchmarks;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.inventory.registries.InventoryRegistriesApplication;
+
+/**
+ * The whole backend, booted in the benchmark JVM under the {@code h2} profile
+ * (in-memory H2 in PostgreSQL mode, schema created from the entities), so
+ * service benchmarks need no running database. Each name is its own
+ * database.
+ *
+ * The profile switches off the Postgres-only parts (notification partitions,
+ * the outbox relay, schema-postgresql.sql); these benchmarks don't exercise
+ * them.
+ */
+public final class EmbeddedApplication {
+
+    private EmbeddedApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String name) {
+        return new SpringApplicationBuilder(InventoryRegistriesApplication.class)
+                .profiles("h2")
+                .run(
+                        "--h2.database=" + name,
+                        "--server.port=0",
+                        "--logging.level.root=WARN");
+    }
+}
@@ -0,0 +1,65 @@
+package com.inventory.registries.benchmarks;
+
+import java.util.UUID;
+
+import org.springframework.context.ApplicationContext;
+
+import com.inventory.registries.brand.Brand;
+import com.inventory.registries.brand.BrandRepository;
+import com.inventory.registries.department.Department;
+import com.inventory.registries.department.DepartmentRepository;
+import com.inventory.registries.product.dto.ProductRequest;
+import com.inventory.registries.subdepartment.SubDepartment;
+import com.inventory.registries.subdepartment.SubDepartmentRepository;
+import com.inventory.registries.unit.Unit;
+import com.inventory.registries.unit.UnitRepository;
+
+/** Reference rows a product needs, created once per embedded database. */
+public final class Fixtures {
+
+    public final Long brandId;
+    public final Long unitId;
+    public final Long subDepartmentId;
+
+    private Fixtures(Long brandId, Long unitId, Long subDepartmentId) {
+        this.brandId = brandId;
+        this.unitId = unitId;
+        this.subDepartmentId = subDepartmentId;
+    }
+
+    public static Fixtures create(ApplicationContext ctx) {
+
+        Brand brand = new Brand();
+        brand.setName("Bench brand");
+        brand = ctx.getBean(BrandRepository.class).save(brand);
+
+        Unit unit = new Unit();
+        unit.setName("Bench unit");
+        unit = ctx.getBean(UnitRepository.class).save(unit);
+
+        Department department = new Department();
+        department.setName("Bench department");
+        department = ctx.getBean(DepartmentRepository.class).save(department);
+
+        SubDepartment subDept = new SubDepartment();
+        subDept.setName("Bench category");
+        subDept.setDepartment(department);
+        subDept = ctx.getBean(SubDepartmentRepository.class).save(subDept);
+
+        return new Fixtures(brand.getId(), unit.getId(), subDept.getId());
+    }
+
+    /** A request that passes every check, with a fresh code. */
+    public ProductRequest product() {
+        ProductRequest req = new ProductRequest();
+        req.setCode("BENCH-" + UUID.randomUUID());
+        req.setName("Bench product");
+        req.setBrandId(brandId);
+        req.setUnitId(unitId);
+        req.setSubDepartmentId(subDepartmentId);
+        req.setSellingPrice(10.0);
+        req.setCostPrice(5.0);
+        req.setStock(100);
+        return req;
+    }
+}
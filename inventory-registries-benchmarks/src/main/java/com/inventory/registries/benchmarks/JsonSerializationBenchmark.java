@@ -0,0 +1,88 @@
+package com.inventory.registries.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.inventory.registries.notification.NotificationType;
+import com.inventory.registries.notification.dto.NotificationView;
+import com.inventory.registries.product.dto.ProductView;
+import com.inventory.registries.security.Role;
+import com.inventory.registries.stocktaking.StockTaking.StockStatus;
+import com.inventory.registries.stocktaking.dto.StockTakingView;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writing list responses as JSON. The lists hold the views the controllers
+ * return (entities are never serialized directly).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    int size;
+
+    private final ObjectMapper mapper = JsonMapper.builder().build();
+
+    private List<ProductView> products;
+    private List<StockTakingView> stockTakings;
+    private List<NotificationView> notifications;
+
+    @Setup
+    public void setUp() {
+
+        LocalDateTime now = LocalDateTime.now();
+        products = new ArrayList<>(size);
+        stockTakings = new ArrayList<>(size);
+        notifications = new ArrayList<>(size);
+
+        for (long i = 0; i < size; i++) {
+            products.add(new ProductView(
+                    i, "P-" + i, "Product " + i,
+                    1L, "Brand", 2L, "Piece", 3L, "Category", 4L, "Department",
+                    19.99, 12.5, (int) (i % 500), true, 0L));
+            stockTakings.add(new StockTakingView(
+                    i, i, "P-" + i, "Product " + i, StockStatus.DRAFT,
+                    100, 97, -3, null, "staff", now, now));
+            notifications.add(new NotificationView(
+                    i, "Stock taking submitted", "Product P-" + i + " was counted and awaits approval",
+                    NotificationType.INFO, "STOCK_TAKING", i,
+                    null, Role.MANAGER, false, now));
+        }
+    }
+
+    @Benchmark
+    public byte[] products() {
+        return mapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] stockTakings() {
+        return mapper.writeValueAsBytes(stockTakings);
+    }
+
+    @Benchmark
+    public byte[] notifications() {
+        return mapper.writeValueAsBytes(notifications);
+    }
+}
@@ -0,0 +1,82 @@
+package com.inventory.registries.benchmarks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.inventory.registries.notification.NotificationStream;
+import com.inventory.registries.security.JwtFilter;
+import com.inventory.registries.security.JwtUtil;
+import com.inventory.registries.security.TokenRevocations;
+import com.inventory.registries.security.VerifiedTokenCache;
+
+import jakarta.servlet.FilterChain;
+
+/**
+ * Per-request cost of authenticating a bearer token in {@link JwtFilter}.
+ *
+ * {@code cacheEntries=0} disables the verified-token cache, so every request
+ * verifies the signature and parses the claims; the default size measures a
+ * token seen before. Every request also goes through the revocation check.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    @Param({ "0", "10000" })
+    int cacheEntries;
+
+    private JwtFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(Duration.ofMinutes(15));
+
+        // Some users with changed roles, so the revocation check has a map to search
+        TokenRevocations revocations = new TokenRevocations(new JdbcTemplate(),
+                new NotificationStream(new SyncTaskExecutor(), Duration.ofMinutes(30)));
+        for (int i = 0; i < 1000; i++) {
+            revocations.revoked("user" + i, 1);
+        }
+        filter = new JwtFilter(jwtUtil, new VerifiedTokenCache(cacheEntries), revocations);
+
+        request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("Authorization",
+                "Bearer " + jwtUtil.generateToken("bench", List.of("ROLE_ADMIN"), 0));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void authenticate(Blackhole bh) throws Exception {
+        FilterChain chain = (req, res) -> bh.consume(SecurityContextHolder.getContext().getAuthentication());
+        // OncePerRequestFilter marks the request as filtered; clear it for the next call
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        filter.doFilter(request, response, chain);
+        SecurityContextHolder.clearContext();
+    }
+}
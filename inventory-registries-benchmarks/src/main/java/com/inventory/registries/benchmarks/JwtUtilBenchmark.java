@@ -0,0 +1,49 @@
+package com.inventory.registries.benchmarks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.inventory.registries.security.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+
+/** Signing a token at login and verifying one on a cache miss. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(Duration.ofMinutes(15));
+        token = jwtUtil.generateToken("bench", List.of("ROLE_ADMIN"), 0);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("bench", List.of("ROLE_ADMIN"), 0);
+    }
+
+    @Benchmark
+    public Claims getClaims() {
+        return jwtUtil.getClaims(token);
+    }
+}
@@ -0,0 +1,92 @@
+package com.inventory.registries.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.inventory.registries.product.ProductService;
+import com.inventory.registries.product.dto.ProductRequest;
+import com.inventory.registries.product.dto.ProductView;
+
+/**
+ * {@link ProductService#create} on an embedded database: one accepted request
+ * (code check, reference lookups, insert, opening stock, outbox) against the
+ * ways a request is turned away.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductCreateBenchmark {
+
+    private ConfigurableApplicationContext ctx;
+    private ProductService products;
+    private Fixtures fixtures;
+
+    private ProductRequest duplicateCode;
+    private ProductRequest unknownBrand;
+    private ProductRequest belowCost;
+
+    @Setup
+    public void setUp() {
+        ctx = EmbeddedApplication.start("product-create");
+        products = ctx.getBean(ProductService.class);
+        fixtures = Fixtures.create(ctx);
+
+        duplicateCode = fixtures.product();
+        products.create(duplicateCode);
+
+        unknownBrand = fixtures.product();
+        unknownBrand.setBrandId(-1L);
+
+        belowCost = fixtures.product();
+        belowCost.setCostPrice(50.0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public ProductView accepted() {
+        return products.create(fixtures.product());
+    }
+
+    @Benchmark
+    public Object rejectedDuplicateCode() {
+        return rejected(duplicateCode);
+    }
+
+    @Benchmark
+    public Object rejectedUnknownBrand() {
+        return rejected(unknownBrand);
+    }
+
+    @Benchmark
+    public Object rejectedPriceBelowCost() {
+        return rejected(belowCost);
+    }
+
+    private Object rejected(ProductRequest req) {
+        try {
+            return products.create(req);
+        } catch (ResponseStatusException e) {
+            return e;
+        }
+    }
+}
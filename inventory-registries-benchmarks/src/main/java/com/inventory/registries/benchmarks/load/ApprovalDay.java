@@ -0,0 +1,136 @@
+package com.inventory.registries.benchmarks.load;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * A day of single-product stock takes and their sign-off, the three roles
+ * running side by side:
+ *
+ * <ul>
+ *   <li>staff (70%) raise a draft for the next product of their own share of
+ *       the catalog and check their notification badge;</li>
+ *   <li>managers (20%) read their inbox, bulk-approve one department's drafts
+ *       and mark the inbox read;</li>
+ *   <li>admins (10%) reload the stock-taking list (with its ETag, as the
+ *       browser would), bulk-apply one department and open the
+ *       dashboard.</li>
+ * </ul>
+ *
+ * Every draft notifies the manager and super-admin roles and every approval
+ * notifies its creator, so the notification tables take writes all along.
+ */
+class ApprovalDay extends Scenario {
+
+    private final List<Long> products = new ArrayList<>();
+    private final List<Long> departments = new ArrayList<>();
+
+    private int staffUsers;
+    private int managerUsers;
+    private String[] tokens;
+    private int[] cursors;
+    private String[] etags;
+
+    ApprovalDay(LoadClient client) {
+        super(client);
+    }
+
+    @Override
+    String name() {
+        return "approval-day";
+    }
+
+    @Override
+    int setUp(int users) throws Exception {
+
+        users = Math.max(users, 3);
+        staffUsers = users * 7 / 10;
+        managerUsers = Math.max(1, users * 2 / 10);
+
+        String admin = client.login("admin", 1);
+        for (JsonNode department : client.fetch("/api/departments", admin)) {
+            departments.add(department.get("id").asLong());
+        }
+        String cursor = null;
+        do {
+            JsonNode page = client.fetch("/api/products?limit=500"
+                    + (cursor != null ? "&cursor=" + LoadClient.encode(cursor) : ""), admin);
+            for (JsonNode product : page.get("items")) {
+                products.add(product.get("id").asLong());
+            }
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asString();
+        } while (cursor != null);
+
+        tokens = new String[users];
+        cursors = new int[users];
+        etags = new String[users];
+        for (int u = 0; u < users; u++) {
+            int n = u % client.usersPerRole() + 1;
+            tokens[u] = u < staffUsers ? client.login("staff", n)
+                    : u < staffUsers + managerUsers ? client.login("manager", n)
+                    : client.login("admin", n);
+        }
+        return users;
+    }
+
+    @Override
+    void iteration(int user) {
+        if (user < staffUsers) {
+            staff(user);
+        } else if (user < staffUsers + managerUsers) {
+            manager(user);
+        } else {
+            admin(user);
+        }
+    }
+
+    // Staff user u takes products u, u + staff, u + 2 * staff, ... so no two
+    // ask for a draft of the same product
+    private void staff(int user) {
+
+        int index = user + cursors[user]++ * staffUsers;
+        long productId = products.get(index % products.size());
+
+        client.post("POST /api/stock-taking/product/{id}",
+                "/api/stock-taking/product/" + productId
+                        + "?physicalStock=" + ThreadLocalRandom.current().nextInt(200),
+                tokens[user]);
+        client.get("GET /api/notifications/unread-count", "/api/notifications/unread-count", tokens[user]);
+    }
+
+    private void manager(int user) {
+
+        String token = tokens[user];
+        client.get("GET /api/notifications?limit=20", "/api/notifications?limit=20", token);
+        client.postJson("POST /api/stock-taking/bulk/approve", "/api/stock-taking/bulk/approve", token,
+                Map.of("departmentId", nextDepartment(user)));
+        client.putJson("PUT /api/notifications/read", "/api/notifications/read", token,
+                Map.of("upTo", LocalDateTime.now().toString()));
+        client.get("GET /api/notifications/unread-count", "/api/notifications/unread-count", token);
+    }
+
+    private void admin(int user) {
+
+        String token = tokens[user];
+        HttpResponse<String> list = client.send("GET /api/stock-taking",
+                etags[user] != null
+                        ? client.request("/api/stock-taking", token).header("If-None-Match", etags[user]).GET().build()
+                        : client.request("/api/stock-taking", token).GET().build());
+        if (list != null && list.statusCode() == 200) {
+            etags[user] = list.headers().firstValue("ETag").orElse(null);
+        }
+        client.postJson("POST /api/stock-taking/bulk/apply", "/api/stock-taking/bulk/apply", token,
+                Map.of("departmentId", nextDepartment(user)));
+        client.get("GET /api/dashboard/summary", "/api/dashboard/summary", token);
+    }
+
+    private long nextDepartment(int user) {
+        return departments.get((user + cursors[user]++) % departments.size());
+    }
+}
@@ -0,0 +1,57 @@
+package com.inventory.registries.benchmarks.load;
+
+import java.util.Arrays;
+
+/**
+ * Response times of one endpoint. Every sample is kept, so percentiles are
+ * exact; a run of a few minutes is a few million longs at most.
+ *
+ * 429s are counted apart from errors: they are the server shedding load as
+ * designed (login pool full), not a failure.
+ */
+public class LatencyRecorder {
+
+    private final String name;
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+    private long rejected;
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    /** {@code status} is the HTTP status, or 0 when no response came back. */
+    public synchronized void record(long nanos, int status) {
+        if (status == 429) {
+            rejected++;
+        } else if (status == 0 || status >= 400) {
+            errors++;
+        }
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    public synchronized Summary summary(double seconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Summary(name, count, errors, rejected, count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95),
+                percentile(sorted, 0.99), count > 0 ? sorted[count - 1] / 1e6 : 0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    /** Latencies in milliseconds. */
+    public record Summary(String endpoint, long requests, long errors, long rejected, double throughput,
+                          double p50, double p95, double p99, double max) {
+    }
+}
@@ -0,0 +1,190 @@
+package com.inventory.registries.benchmarks.load;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * HTTP side of the scenarios: one shared client, a recorder per endpoint and
+ * the logins. Endpoints are recorded under a label with path variables left
+ * as {@code {id}}, so every product lands in the same row.
+ *
+ * Calls made while setting a scenario up go through {@link #fetch} and are
+ * not recorded.
+ */
+public class LoadClient {
+
+    static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final String url;
+    private final String password;
+    private final int usersPerRole;
+
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    // First-use order, so tables follow the script
+    private final List<String> endpoints = new CopyOnWriteArrayList<>();
+
+    public LoadClient(String url, String password, int usersPerRole) {
+        this.url = url;
+        this.password = password;
+        this.usersPerRole = usersPerRole;
+    }
+
+    // ---------------- RECORDED CALLS ----------------
+    public HttpResponse<String> get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET().build());
+    }
+
+    public HttpResponse<String> post(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).POST(HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    public HttpResponse<String> postJson(String endpoint, String path, String token, Object body) {
+        return send(endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)))
+                .build());
+    }
+
+    public HttpResponse<String> putJson(String endpoint, String path, String token, Object body) {
+        return send(endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)))
+                .build());
+    }
+
+    public HttpResponse<String> postCsv(String endpoint, String path, String token, String csv) {
+        return send(endpoint, request(path, token)
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofString(csv))
+                .build());
+    }
+
+    /** Null when no response came back; the failure is recorded either way. */
+    public HttpResponse<String> send(String endpoint, HttpRequest request) {
+        LatencyRecorder recorder = recorders.computeIfAbsent(endpoint, name -> {
+            endpoints.add(name);
+            return new LatencyRecorder(name);
+        });
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(System.nanoTime() - start, response.statusCode());
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recorder.record(System.nanoTime() - start, 0);
+            return null;
+        } catch (Exception e) {
+            recorder.record(System.nanoTime() - start, 0);
+            return null;
+        }
+    }
+
+    public HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url + path))
+                .timeout(Duration.ofSeconds(60));
+        return token != null ? builder.header("Authorization", "Bearer " + token) : builder;
+    }
+
+    /** Summaries in first-use order; {@code seconds} is the measured run. */
+    public List<LatencyRecorder.Summary> summaries(double seconds) {
+        return endpoints.stream()
+                .map(name -> recorders.get(name).summary(seconds))
+                .toList();
+    }
+
+    /** Drops every sample, e.g. after the warmup. */
+    public void reset() {
+        recorders.clear();
+        endpoints.clear();
+    }
+
+    // ---------------- SET-UP CALLS (NOT RECORDED) ----------------
+    public JsonNode fetch(String path, String token) throws Exception {
+        HttpResponse<String> response = http.send(request(path, token).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + ": " + response.statusCode() + " " + response.body());
+        }
+        return JSON.readTree(response.body());
+    }
+
+    public void delete(String path, String token) throws Exception {
+        http.send(request(path, token).DELETE().build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    /** Access token of a seeded user, e.g. {@code login("staff", 3)}. */
+    public String login(String role, int n) throws Exception {
+        String username = username(role, n);
+        HttpResponse<String> response = http.send(request("/api/auth/login", null)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(
+                                Map.of("username", username, "password", password))))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(
+                    "Login as " + username + " failed: " + response.statusCode() + " " + response.body());
+        }
+        return JSON.readTree(response.body()).get("token").asString();
+    }
+
+    /** Waits for the server to answer a login, i.e. to be up and seeded. */
+    public void awaitReady(Duration timeout) throws Exception {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            try {
+                login("super-admin", 1);
+                return;
+            } catch (Exception e) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Server at " + url + " not ready: " + e.getMessage(), e);
+                }
+                Thread.sleep(1000);
+            }
+        }
+    }
+
+    // ---------------- SEEDED USERS ----------------
+    // Named as LoadTestSeeder names them: load-<role>-<n>, n from 1
+    public String username(String role, int n) {
+        return "load-" + role + "-" + n;
+    }
+
+    public String password() {
+        return password;
+    }
+
+    public int usersPerRole() {
+        return usersPerRole;
+    }
+
+    // ---------------- HELPERS ----------------
+    /** Body of a 2xx response as JSON, else null. */
+    public static JsonNode json(HttpResponse<String> response) {
+        if (response == null || response.statusCode() / 100 != 2 || response.body().isEmpty()) {
+            return null;
+        }
+        return JSON.readTree(response.body());
+    }
+
+    public static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,171 @@
+package com.inventory.registries.benchmarks.load;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scripted load against {@link LoadTestServer}, whose {@code loadtest}
+ * profile seeds the users and catalog the scenarios work on. Add the
+ * {@code h2} profile to run it on an in-memory database instead of Postgres,
+ * so the whole test needs nothing but this box:
+ *
+ * <pre>
+ * mvn -f inventory-registries-benchmarks compile exec:java \
+ *     -Dexec.mainClass=com.inventory.registries.benchmarks.load.LoadTestServer \
+ *     -Dspring.profiles.active=h2 -Dloadtest.seed.password=secret
+ *
+ * mvn -f inventory-registries-benchmarks compile exec:java \
+ *     -Dexec.mainClass=com.inventory.registries.benchmarks.load.LoadTest \
+ *     -Dload.password=secret -Dload.users=100 -Dload.duration=60s
+ * </pre>
+ *
+ * Scenarios ({@code load.scenarios}, comma-separated, run one after the
+ * other): {@code login-burst}, {@code product-browse}, {@code stock-count},
+ * {@code approval-day}. Each gets a warmup whose numbers are thrown away,
+ * then a measured run; throughput and p50/p95/p99 per endpoint are printed
+ * and written to {@code load.report} as JSON.
+ *
+ * {@code load.users} applies to every scenario but login-burst, which by
+ * default logs in every seeded user at once; {@code load.<scenario>.users}
+ * overrides either. Users run on virtual threads, so the generator itself
+ * never runs out of threads before the server does.
+ *
+ * {@code load.password} (as seeded) is required. Other options:
+ * {@code load.url}, {@code load.warmup}, {@code load.users-per-role} (as
+ * seeded), {@code load.ready-timeout} (how long to wait for the server to
+ * come up and finish seeding).
+ */
+public class LoadTest {
+
+    private static final String ALL = "login-burst,product-browse,stock-count,approval-day";
+
+    private final LoadClient client;
+
+    LoadTest(LoadClient client) {
+        this.client = client;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        String url = System.getProperty("load.url", "http://localhost:8080");
+        int users = Integer.getInteger("load.users", 50);
+        Duration warmup = duration("load.warmup", "10s");
+        Duration duration = duration("load.duration", "30s");
+        Path report = Path.of(System.getProperty("load.report", "target/load-report.json"));
+
+        LoadClient client = new LoadClient(url,
+                required("load.password"),
+                Integer.getInteger("load.users-per-role", 50));
+        client.awaitReady(duration("load.ready-timeout", "3m"));
+
+        LoadTest test = new LoadTest(client);
+        List<ScenarioResult> results = new ArrayList<>();
+        for (String name : System.getProperty("load.scenarios", ALL).split(",")) {
+            Scenario scenario = scenario(name.trim(), client);
+            results.add(test.run(scenario,
+                    Integer.getInteger("load." + scenario.name() + ".users", scenario.defaultUsers(users)),
+                    warmup, duration));
+        }
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        Files.writeString(report, LoadClient.JSON.writerWithDefaultPrettyPrinter().writeValueAsString(
+                new Report(url, Instant.now().toString(), warmup.toString(), results)));
+        System.out.println("Report written to " + report);
+    }
+
+    ScenarioResult run(Scenario scenario, int users, Duration warmup, Duration duration) throws Exception {
+
+        int n = scenario.setUp(users);
+        System.out.printf("%n%s: %d users, %s warmup, %s measured%n", scenario.name(), n, warmup, duration);
+
+        drive(scenario, n, warmup);
+        client.reset();
+        AtomicLong aborted = new AtomicLong();
+        double seconds = drive(scenario, n, duration, aborted);
+        List<LatencyRecorder.Summary> endpoints = client.summaries(seconds);
+        client.reset();
+
+        print(endpoints, aborted.get());
+        return new ScenarioResult(scenario.name(), n, seconds, aborted.get(), endpoints);
+    }
+
+    private double drive(Scenario scenario, int users, Duration duration) throws InterruptedException {
+        return drive(scenario, users, duration, new AtomicLong());
+    }
+
+    // A pass in flight when time is up is finished, so no session is left half done
+    private double drive(Scenario scenario, int users, Duration duration, AtomicLong aborted)
+            throws InterruptedException {
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> clients = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < users; i++) {
+            int user = i;
+            clients.add(Thread.ofVirtual().start(() -> {
+                while (running.get()) {
+                    try {
+                        scenario.iteration(user);
+                    } catch (Exception e) {
+                        // An unexpected response shape; the requests are already recorded
+                        aborted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        Thread.sleep(duration.toMillis());
+        running.set(false);
+        for (Thread client : clients) {
+            client.join();
+        }
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+    private static void print(List<LatencyRecorder.Summary> endpoints, long aborted) {
+        System.out.printf("%-52s %9s %7s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "429", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (LatencyRecorder.Summary s : endpoints) {
+            System.out.printf("%-52s %9d %7d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    s.endpoint(), s.requests(), s.errors(), s.rejected(), s.throughput(),
+                    s.p50(), s.p95(), s.p99(), s.max());
+        }
+        if (aborted > 0) {
+            System.out.printf("%d passes aborted on an unexpected response%n", aborted);
+        }
+    }
+
+    private static Scenario scenario(String name, LoadClient client) {
+        return switch (name) {
+            case "login-burst" -> new LoginBurst(client);
+            case "product-browse" -> new ProductBrowse(client);
+            case "stock-count" -> new StockCount(client);
+            case "approval-day" -> new ApprovalDay(client);
+            default -> throw new IllegalArgumentException("Unknown scenario " + name + ", expected one of " + ALL);
+        };
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return Duration.parse("PT" + System.getProperty(property, defaultValue));
+    }
+
+    private static String required(String property) {
+        String value = System.getProperty(property, "");
+        if (value.isBlank()) {
+            throw new IllegalArgumentException("Set -D" + property);
+        }
+        return value;
+    }
+
+    record ScenarioResult(String scenario, int users, double seconds, long abortedPasses,
+                          List<LatencyRecorder.Summary> endpoints) {
+    }
+
+    record Report(String url, String finishedAt, String warmup, List<ScenarioResult> scenarios) {
+    }
+}
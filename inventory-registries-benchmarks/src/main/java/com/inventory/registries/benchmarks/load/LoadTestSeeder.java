@@ -0,0 +1,266 @@
+package com.inventory.registries.benchmarks.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.inventory.registries.brand.Brand;
+import com.inventory.registries.brand.BrandService;
+import com.inventory.registries.department.Department;
+import com.inventory.registries.department.DepartmentService;
+import com.inventory.registries.pricelevel.PriceLevelService;
+import com.inventory.registries.pricelevel.dto.PriceLevelRequest;
+import com.inventory.registries.product.ProductService;
+import com.inventory.registries.product.dto.ProductRequest;
+import com.inventory.registries.product.dto.ProductView;
+import com.inventory.registries.security.Role;
+import com.inventory.registries.security.User;
+import com.inventory.registries.security.UserRepository;
+import com.inventory.registries.subdepartment.SubDepartment;
+import com.inventory.registries.subdepartment.SubDepartmentService;
+import com.inventory.registries.unit.Unit;
+import com.inventory.registries.unit.UnitService;
+
+/**
+ * Data for the {@link LoadTest} scenarios, written on startup of
+ * {@link LoadTestServer} under the {@code loadtest} profile:
+ *
+ * <ul>
+ *   <li>users {@code load-<role>-<n>} for each role the scenarios log in
+ *       as, e.g. {@code load-super-admin-1}, {@code load-staff-12}, all with
+ *       the password given as {@code loadtest.seed.password};</li>
+ *   <li>departments, each with its sub-departments, plus brands and units;</li>
+ *   <li>products spread over the sub-departments, each with a few price
+ *       levels.</li>
+ * </ul>
+ *
+ * Everything goes through the services, so caches, the search index and the
+ * outbox see the rows as they would see any other. A database that already
+ * has the first load user is left as it is, so a persistent Postgres is only
+ * seeded once. There is no default password; startup fails without one.
+ *
+ * Lives in the benchmarks module, with the {@code loadtest} and {@code h2}
+ * profiles, so none of it ships in the backend jar.
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestSeeder.class);
+
+    private static final List<Role> ROLES = List.of(
+            Role.SUPER_ADMIN, Role.ADMIN, Role.MANAGER, Role.SUPERVISOR, Role.STAFF);
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] NOUNS = {
+            "Bolt", "Bracket", "Cable", "Clamp", "Filter", "Gasket", "Hinge", "Hose",
+            "Lamp", "Nut", "Pipe", "Pump", "Relay", "Screw", "Seal", "Spring",
+            "Switch", "Valve", "Washer", "Wire"
+    };
+    private static final String[] ADJECTIVES = {
+            "Brass", "Compact", "Copper", "Heavy", "Large", "Light", "Long", "Micro",
+            "Nylon", "Short", "Small", "Steel"
+    };
+
+    private final UserRepository userRepo;
+    private final PasswordEncoder passwordEncoder;
+    private final BrandService brandService;
+    private final UnitService unitService;
+    private final DepartmentService departmentService;
+    private final SubDepartmentService subDepartmentService;
+    private final ProductService productService;
+    private final PriceLevelService priceLevelService;
+
+    private final String password;
+    private final int usersPerRole;
+    private final int departments;
+    private final int subDepartmentsPerDepartment;
+    private final int brands;
+    private final int products;
+    private final int priceLevelsPerProduct;
+
+    public LoadTestSeeder(
+            UserRepository userRepo,
+            PasswordEncoder passwordEncoder,
+            BrandService brandService,
+            UnitService unitService,
+            DepartmentService departmentService,
+            SubDepartmentService subDepartmentService,
+            ProductService productService,
+            PriceLevelService priceLevelService,
+            @Value("${loadtest.seed.password:}") String password,
+            @Value("${loadtest.seed.users-per-role:50}") int usersPerRole,
+            @Value("${loadtest.seed.departments:20}") int departments,
+            @Value("${loadtest.seed.sub-departments-per-department:5}") int subDepartmentsPerDepartment,
+            @Value("${loadtest.seed.brands:50}") int brands,
+            @Value("${loadtest.seed.products:20000}") int products,
+            @Value("${loadtest.seed.price-levels-per-product:2}") int priceLevelsPerProduct
+    ) {
+        this.userRepo = userRepo;
+        this.passwordEncoder = passwordEncoder;
+        this.brandService = brandService;
+        this.unitService = unitService;
+        this.departmentService = departmentService;
+        this.subDepartmentService = subDepartmentService;
+        this.productService = productService;
+        this.priceLevelService = priceLevelService;
+        this.password = password;
+        this.usersPerRole = usersPerRole;
+        this.departments = departments;
+        this.subDepartmentsPerDepartment = subDepartmentsPerDepartment;
+        this.brands = brands;
+        this.products = products;
+        this.priceLevelsPerProduct = priceLevelsPerProduct;
+    }
+
+    // ---------------- SEED ----------------
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+
+        if (password.isBlank()) {
+            throw new IllegalStateException("Set loadtest.seed.password to seed the load test users");
+        }
+        if (userRepo.findByUsername(username(ROLES.get(0), 1)).isPresent()) {
+            log.info("Load test data already present, not seeding");
+            return;
+        }
+
+        long start = System.nanoTime();
+        seedUsers();
+        List<Long> brandIds = seedBrands();
+        List<Long> unitIds = seedUnits();
+        List<Long> subDepartmentIds = seedDepartments();
+        int levels = seedProducts(brandIds, unitIds, subDepartmentIds);
+
+        log.info("Load test data seeded in {} ms: {} users, {} departments, {} products, {} price levels",
+                (System.nanoTime() - start) / 1_000_000, usersPerRole * ROLES.size(),
+                departments, products, levels);
+    }
+
+    // One BCrypt hash for every user; hashing each one would take minutes
+    private void seedUsers() {
+
+        String hash = passwordEncoder.encode(password);
+        List<User> users = new ArrayList<>();
+        for (Role role : ROLES) {
+            for (int n = 1; n <= usersPerRole; n++) {
+                User user = new User();
+                user.setUsername(username(role, n));
+                user.setPassword(hash);
+                user.setRole(role);
+                users.add(user);
+            }
+        }
+        userRepo.saveAll(users);
+    }
+
+    private List<Long> seedBrands() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= brands; i++) {
+            Brand brand = new Brand();
+            brand.setName("Load brand " + i);
+            ids.add(brandService.create(brand).getId());
+        }
+        return ids;
+    }
+
+    private List<Long> seedUnits() {
+        List<Long> ids = new ArrayList<>();
+        for (String name : List.of("Load piece", "Load box", "Load pack", "Load metre", "Load kilogram")) {
+            Unit unit = new Unit();
+            unit.setName(name);
+            ids.add(unitService.create(unit).getId());
+        }
+        return ids;
+    }
+
+    private List<Long> seedDepartments() {
+        List<Long> ids = new ArrayList<>();
+        for (int d = 1; d <= departments; d++) {
+            Department department = new Department();
+            department.setName("Load department " + d);
+            Long departmentId = departmentService.create(department).getId();
+
+            for (int s = 1; s <= subDepartmentsPerDepartment; s++) {
+                SubDepartment sub = new SubDepartment();
+                sub.setName("Load category " + d + "." + s);
+                ids.add(subDepartmentService.create(departmentId, sub).getId());
+            }
+        }
+        return ids;
+    }
+
+    // Round-robin over sub-departments, so every department gets its share
+    private int seedProducts(List<Long> brandIds, List<Long> unitIds, List<Long> subDepartmentIds) {
+
+        Random random = new Random(42);
+        int levels = 0;
+
+        for (int from = 0; from < products; from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, products);
+
+            List<ProductRequest> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                double cost = 1 + random.nextInt(500) / 10.0;
+
+                ProductRequest req = new ProductRequest();
+                req.setCode(String.format(Locale.ROOT, "LT-%06d", i + 1));
+                req.setName(ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                        + NOUNS[random.nextInt(NOUNS.length)] + " " + (i + 1));
+                req.setBrandId(brandIds.get(i % brandIds.size()));
+                req.setUnitId(unitIds.get(i % unitIds.size()));
+                req.setSubDepartmentId(subDepartmentIds.get(i % subDepartmentIds.size()));
+                req.setCostPrice(cost);
+                req.setSellingPrice(Math.round(cost * 150) / 100.0);
+                req.setStock(random.nextInt(200));
+                batch.add(req);
+            }
+            levels += seedPriceLevels(productService.createBatch(batch));
+        }
+        return levels;
+    }
+
+    private int seedPriceLevels(List<ProductView> created) {
+
+        if (priceLevelsPerProduct <= 0) {
+            return 0;
+        }
+
+        List<PriceLevelRequest> pending = new ArrayList<>();
+        int levels = 0;
+        for (ProductView product : created) {
+            for (int p = 1; p <= priceLevelsPerProduct; p++) {
+                PriceLevelRequest req = new PriceLevelRequest();
+                req.setProductId(product.getId());
+                req.setName("Level " + p);
+                req.setPrice(Math.round(product.getSellingPrice() * (100 - 5 * p)) / 100.0);
+                req.setPriority(p);
+                pending.add(req);
+            }
+            if (pending.size() >= BATCH_SIZE) {
+                levels += priceLevelService.createBatch(pending).size();
+                pending = new ArrayList<>();
+            }
+        }
+        if (!pending.isEmpty()) {
+            levels += priceLevelService.createBatch(pending).size();
+        }
+        return levels;
+    }
+
+    /** {@code load-super-admin-3}, {@code load-staff-12}. */
+    private static String username(Role role, int n) {
+        return "load-" + role.name().toLowerCase(Locale.ROOT).replace('_', '-') + "-" + n;
+    }
+}
@@ -0,0 +1,29 @@
+package com.inventory.registries.benchmarks.load;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import com.inventory.registries.InventoryRegistriesApplication;
+
+/**
+ * The backend with this module on its classpath, under the {@code loadtest}
+ * profile, so {@link LoadTestSeeder} fills the database before
+ * {@link LoadTest} runs against it. Add the {@code h2} profile for an
+ * in-memory database instead of Postgres:
+ *
+ * <pre>
+ * mvn -f inventory-registries-benchmarks compile exec:java \
+ *     -Dexec.mainClass=com.inventory.registries.benchmarks.load.LoadTestServer \
+ *     -Dspring.profiles.active=h2 -Dloadtest.seed.password=...
+ * </pre>
+ */
+public final class LoadTestServer {
+
+    private LoadTestServer() {
+    }
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(InventoryRegistriesApplication.class)
+                .profiles("loadtest")
+                .run(args);
+    }
+}
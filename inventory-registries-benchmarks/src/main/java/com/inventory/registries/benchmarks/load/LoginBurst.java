@@ -0,0 +1,73 @@
+package com.inventory.registries.benchmarks.load;
+
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Start of a shift: everyone logs in at once. Each pass is a login, one
+ * token refresh and a logout, going round every seeded user of every role.
+ * Logins are BCrypt-bound, so past the login pool's queue the server answers
+ * 429; those show as rejected, not as errors, and the user waits out the
+ * Retry-After before trying again.
+ */
+class LoginBurst extends Scenario {
+
+    private static final List<String> ROLES =
+            List.of("super-admin", "admin", "manager", "supervisor", "staff");
+
+    private int[] passes;
+
+    LoginBurst(LoadClient client) {
+        super(client);
+    }
+
+    @Override
+    String name() {
+        return "login-burst";
+    }
+
+    // Everyone at once: one user per seeded account
+    @Override
+    int defaultUsers(int users) {
+        return ROLES.size() * client.usersPerRole();
+    }
+
+    @Override
+    int setUp(int users) {
+        passes = new int[users];
+        return users;
+    }
+
+    @Override
+    void iteration(int user) throws InterruptedException {
+
+        // User u takes every users-th account, so the burst covers all of them
+        int account = user + passes[user]++ * passes.length;
+        String role = ROLES.get(account % ROLES.size());
+        int n = account / ROLES.size() % client.usersPerRole() + 1;
+
+        HttpResponse<String> response = client.postJson("POST /api/auth/login", "/api/auth/login", null,
+                Map.of("username", client.username(role, n), "password", client.password()));
+        if (response != null && response.statusCode() == 429) {
+            // Turned away: try again when told to, as the login page would
+            Thread.sleep(1000L * response.headers().firstValueAsLong("Retry-After").orElse(1));
+            return;
+        }
+        JsonNode login = LoadClient.json(response);
+        if (login == null) {
+            return;
+        }
+
+        JsonNode refreshed = LoadClient.json(client.postJson("POST /api/auth/refresh", "/api/auth/refresh", null,
+                Map.of("refreshToken", login.get("refreshToken").asString())));
+        if (refreshed == null) {
+            return;
+        }
+
+        client.postJson("POST /api/auth/logout", "/api/auth/logout", null,
+                Map.of("refreshToken", refreshed.get("refreshToken").asString()));
+    }
+}
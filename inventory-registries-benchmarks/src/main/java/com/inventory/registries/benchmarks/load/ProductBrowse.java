@@ -0,0 +1,73 @@
+package com.inventory.registries.benchmarks.load;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Supervisors working the catalog: a few pages of the product list, one
+ * product opened with its effective price, a search on a word of its name,
+ * its category's list and the notification badge.
+ */
+class ProductBrowse extends Scenario {
+
+    private static final int PAGES = 3;
+
+    private String[] tokens;
+
+    ProductBrowse(LoadClient client) {
+        super(client);
+    }
+
+    @Override
+    String name() {
+        return "product-browse";
+    }
+
+    // One login per seeded supervisor; more users than that share them
+    @Override
+    int setUp(int users) throws Exception {
+        tokens = new String[Math.min(users, client.usersPerRole())];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = client.login("supervisor", i + 1);
+        }
+        return users;
+    }
+
+    @Override
+    void iteration(int user) {
+
+        String token = tokens[user % tokens.length];
+
+        JsonNode page = LoadClient.json(client.get(
+                "GET /api/products?limit=50", "/api/products?limit=50", token));
+        for (int i = 1; i < PAGES && page != null && !page.get("nextCursor").isNull(); i++) {
+            page = LoadClient.json(client.get("GET /api/products?limit=50&cursor=",
+                    "/api/products?limit=50&cursor=" + LoadClient.encode(page.get("nextCursor").asString()),
+                    token));
+        }
+        if (page == null || page.get("items").isEmpty()) {
+            return;
+        }
+
+        JsonNode items = page.get("items");
+        JsonNode product = items.get(ThreadLocalRandom.current().nextInt(items.size()));
+        long id = product.get("id").asLong();
+
+        client.get("GET /api/products/{id}", "/api/products/" + id, token);
+        client.get("GET /api/price-levels/product/{id}/effective",
+                "/api/price-levels/product/" + id + "/effective", token);
+
+        String word = product.get("name").asString().split(" ")[0].toLowerCase(Locale.ROOT);
+        client.get("GET /api/products/search?q=", "/api/products/search?q=" + LoadClient.encode(word), token);
+
+        JsonNode category = product.get("subDepartment");
+        if (category != null && !category.isNull()) {
+            client.get("GET /api/products?subDepartmentId=&limit=50",
+                    "/api/products?limit=50&subDepartmentId=" + category.get("id").asLong(), token);
+        }
+
+        client.get("GET /api/notifications/unread-count", "/api/notifications/unread-count", token);
+    }
+}
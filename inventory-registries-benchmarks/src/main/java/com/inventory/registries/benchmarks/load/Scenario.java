@@ -0,0 +1,28 @@
+package com.inventory.registries.benchmarks.load;
+
+/**
+ * One scripted workload. {@link #setUp} runs once before the clock starts
+ * (logins, ids to work on); {@link #iteration} is one pass of the script by
+ * virtual user {@code user}, repeated until the run ends. Users are closed
+ * loop: each sends its next request as soon as the last one answers.
+ */
+abstract class Scenario {
+
+    protected final LoadClient client;
+
+    protected Scenario(LoadClient client) {
+        this.client = client;
+    }
+
+    abstract String name();
+
+    /** Users to run when not set for this scenario; {@code users} is the common setting. */
+    int defaultUsers(int users) {
+        return users;
+    }
+
+    /** Returns how many users it will run, which may differ from the number asked for. */
+    abstract int setUp(int users) throws Exception;
+
+    abstract void iteration(int user) throws Exception;
+}
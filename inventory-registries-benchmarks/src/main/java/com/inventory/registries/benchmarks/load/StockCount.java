@@ -0,0 +1,119 @@
+package com.inventory.registries.benchmarks.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * A full count of one department per pass: staff open a session, walk its
+ * lines page by page and upload each page's counts as CSV (one product in
+ * ten off by a few), a manager approves and an admin looks over the
+ * variances and applies it.
+ *
+ * Only one session can be open per department, so each user owns one
+ * department and there are at most as many users as departments. Sessions
+ * left open by an earlier, interrupted run are cancelled first.
+ */
+class StockCount extends Scenario {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final List<Long> departments = new ArrayList<>();
+    private String[] staff;
+    private String[] managers;
+    private String admin;
+
+    StockCount(LoadClient client) {
+        super(client);
+    }
+
+    @Override
+    String name() {
+        return "stock-count";
+    }
+
+    @Override
+    int setUp(int users) throws Exception {
+
+        admin = client.login("admin", 1);
+        for (JsonNode department : client.fetch("/api/departments", admin)) {
+            departments.add(department.get("id").asLong());
+        }
+        for (JsonNode session : client.fetch("/api/count-sessions", admin)) {
+            String status = session.get("status").asString();
+            if (status.equals("OPEN") || status.equals("APPROVED")) {
+                client.delete("/api/count-sessions/" + session.get("id").asLong(), admin);
+            }
+        }
+
+        int n = Math.min(Math.min(users, departments.size()), client.usersPerRole());
+        staff = new String[n];
+        managers = new String[n];
+        for (int i = 0; i < n; i++) {
+            staff[i] = client.login("staff", i + 1);
+            managers[i] = client.login("manager", i + 1);
+        }
+        return n;
+    }
+
+    @Override
+    void iteration(int user) throws Exception {
+
+        String token = staff[user];
+        JsonNode session = LoadClient.json(client.post("POST /api/count-sessions?departmentId=",
+                "/api/count-sessions?departmentId=" + departments.get(user), token));
+        if (session == null) {
+            return;
+        }
+        long id = session.get("id").asLong();
+        String base = "/api/count-sessions/" + id;
+
+        if (!count(base, token)) {
+            client.delete(base, admin);
+            return;
+        }
+
+        client.get("GET /api/count-sessions/{id}", base, token);
+        if (LoadClient.json(client.post("POST /api/count-sessions/{id}/approve",
+                base + "/approve", managers[user])) == null) {
+            client.delete(base, admin);
+            return;
+        }
+        client.get("GET /api/count-sessions/{id}/lines?varianceOnly=true",
+                base + "/lines?varianceOnly=true&limit=100", admin);
+        client.post("POST /api/count-sessions/{id}/apply", base + "/apply", admin);
+    }
+
+    // One upload per page of lines, as a counter working through the list would
+    private boolean count(String base, String token) {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String after = null;
+        do {
+            JsonNode page = LoadClient.json(client.get("GET /api/count-sessions/{id}/lines",
+                    base + "/lines?limit=" + PAGE_SIZE + (after != null ? "&after=" + after : ""), token));
+            if (page == null) {
+                return false;
+            }
+
+            StringBuilder csv = new StringBuilder("code,counted\n");
+            for (JsonNode line : page.get("items")) {
+                int counted = line.get("systemStock").asInt();
+                if (random.nextInt(10) == 0) {
+                    counted = Math.max(0, counted + random.nextInt(-3, 4));
+                }
+                csv.append(line.get("code").asString()).append(',').append(counted).append('\n');
+            }
+            if (LoadClient.json(client.postCsv("POST /api/count-sessions/{id}/counts",
+                    base + "/counts", token, csv.toString())) == null) {
+                return false;
+            }
+
+            JsonNode next = page.get("nextCursor");
+            after = next.isNull() ? null : next.asString();
+        } while (after != null);
+        return true;
+    }
+}
@@ -7,7 +7,7 @@ export const login = async (username, password) => {
     username,
     password,
   });
-  return res.data; // { token }
+  return res.data; // { token, role, refreshToken, expiresIn }
 };
 
 // 🔍 Decode JWT
@@ -39,7 +39,12 @@ export const isAuthenticated = () => {
   return !!sessionStorage.getItem("token");
 };
 
-// 🔓 Logout
+// 🔓 Logout (the refresh token is revoked server-side; best effort)
 export const logout = () => {
+  const refreshToken = sessionStorage.getItem("refreshToken");
+  if (refreshToken) {
+    api.post("/api/auth/logout", { refreshToken }).catch(() => {});
+  }
   sessionStorage.removeItem("token");
+  sessionStorage.removeItem("refreshToken");
 };
@@ -16,4 +16,53 @@ api.interceptors.request.use(
   (error) => Promise.reject(error)
 );
 
+// 🔄 Access tokens are short-lived: swap the refresh token for a new pair.
+// Concurrent 401s share one refresh, since each refresh token works once.
+let refreshing = null;
+
+export const refreshAccessToken = () => {
+  if (!refreshing) {
+    const refreshToken = sessionStorage.getItem("refreshToken");
+    refreshing = (
+      refreshToken
+        ? axios.post(`${api.defaults.baseURL}/api/auth/refresh`, { refreshToken })
+        : Promise.reject(new Error("no refresh token"))
+    )
+      .then((res) => {
+        sessionStorage.setItem("token", res.data.token);
+        sessionStorage.setItem("refreshToken", res.data.refreshToken);
+        return res.data.token;
+      })
+      .catch((err) => {
+        sessionStorage.removeItem("token");
+        sessionStorage.removeItem("refreshToken");
+        throw err;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+};
+
+// Retry once after a refresh; a second 401 (or a failed refresh) means log in again
+api.interceptors.response.use(
+  (response) => response,
+  async (error) => {
+    const config = error.config;
+    if (error.response?.status !== 401 || !config || config._retried || config.url?.startsWith("/api/auth/")) {
+      return Promise.reject(error);
+    }
+    config._retried = true;
+    try {
+      const token = await refreshAccessToken();
+      config.headers.Authorization = `Bearer ${token}`;
+      return api(config);
+    } catch {
+      window.location.assign("/login");
+      return Promise.reject(error);
+    }
+  }
+);
+
 export default api;
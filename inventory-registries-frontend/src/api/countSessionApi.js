@@ -0,0 +1,30 @@
+import api from "./axiosConfig";
+
+// -------------------- SESSIONS --------------------
+export const fetchCountSessions = () => api.get("/api/count-sessions");
+
+export const fetchCountSession = (id) => api.get(`/api/count-sessions/${id}`);
+
+// Snapshots system stock for every active product of the department
+export const openCountSession = (departmentId) =>
+  api.post("/api/count-sessions", null, { params: { departmentId } });
+
+// Keyset page: { items, nextCursor }. Pass nextCursor back as `after`.
+export const fetchCountLines = (id, params = {}) =>
+  api.get(`/api/count-sessions/${id}/lines`, { params: { limit: 100, ...params } });
+
+// -------------------- COUNTS (CSV File with code,counted columns) --------------------
+export const uploadCounts = (id, file) =>
+  api.post(`/api/count-sessions/${id}/counts`, file, {
+    headers: { "Content-Type": "text/csv" },
+  });
+
+// -------------------- WORKFLOW --------------------
+export const approveCountSession = (id) =>
+  api.post(`/api/count-sessions/${id}/approve`);
+
+export const applyCountSession = (id) =>
+  api.post(`/api/count-sessions/${id}/apply`);
+
+export const cancelCountSession = (id) =>
+  api.delete(`/api/count-sessions/${id}`);
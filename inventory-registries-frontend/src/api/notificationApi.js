@@ -1,11 +1,89 @@
 // src/api/notification.js
-import api from "./axiosConfig";
+import api, { refreshAccessToken } from "./axiosConfig";
 
 export const getNotifications = () =>
   api.get("/api/notifications");
 
+// Keyset page, newest first: { items, nextCursor }. Pass nextCursor back as `cursor`.
+export const getNotificationPage = (params = {}) =>
+  api.get("/api/notifications", { params: { limit: 50, ...params } });
+
+export const getUnreadCount = () =>
+  api.get("/api/notifications/unread-count");
+
 export const markNotificationRead = (id) =>
   api.put(`/api/notifications/${id}/read`);
 
+// { ids: [...] } or { upTo: createdAt } for everything up to that notification
+export const markNotificationsRead = (body) =>
+  api.put("/api/notifications/read", body);
+
 export const deleteNotificationApi = (id) =>
   api.delete(`/api/notifications/${id}`);
+
+// Live push (SSE). EventSource cannot send the Authorization header, so the
+// stream is read with fetch. Reconnects after a drop with Last-Event-ID; the
+// replay overlaps what was already seen, so the same id may arrive twice.
+// Returns an unsubscribe fn.
+export const subscribeNotifications = (onNotification) => {
+  const controller = new AbortController();
+  let lastEventId = null;
+  let retryMs = 5000;
+
+  const connect = async () => {
+    const headers = { Authorization: `Bearer ${sessionStorage.getItem("token")}` };
+    if (lastEventId) headers["Last-Event-ID"] = lastEventId;
+
+    const res = await fetch(`${api.defaults.baseURL}/api/notifications/stream`, {
+      headers,
+      signal: controller.signal,
+    });
+    // Expired access token: renew it before the next attempt
+    if (res.status === 401) {
+      await refreshAccessToken();
+      return;
+    }
+    if (!res.ok) throw new Error(`stream ${res.status}`);
+
+    const reader = res.body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = "";
+    for (;;) {
+      const { value, done } = await reader.read();
+      if (done) return;
+      buffer += value;
+
+      // Events end with a blank line; keep any partial event for the next chunk
+      let end;
+      while ((end = buffer.indexOf("\n\n")) >= 0) {
+        const block = buffer.slice(0, end);
+        buffer = buffer.slice(end + 2);
+
+        let id = null;
+        let data = "";
+        for (const line of block.split("\n")) {
+          if (line.startsWith("id:")) id = line.slice(3).trim();
+          else if (line.startsWith("data:")) data += line.slice(5);
+          else if (line.startsWith("retry:")) retryMs = Number(line.slice(6)) || retryMs;
+        }
+        if (id) lastEventId = id;
+        if (data) onNotification(JSON.parse(data));
+      }
+    }
+  };
+
+  const loop = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        await connect();
+      } catch {
+        // dropped or refused; retry below
+      }
+      if (!controller.signal.aborted) {
+        await new Promise((resolve) => setTimeout(resolve, retryMs));
+      }
+    }
+  };
+  loop();
+
+  return () => controller.abort();
+};
@@ -3,5 +3,29 @@ import api from "./axiosConfig";
 // ---- Product APIs ----
 export const fetchProducts = () => api.get("/api/products");
 export const createProduct = (data) => api.post("/api/products", data);
-export const updateProduct = (id, data) => api.put(`/api/products/${id}`, data);
+// Pass the product's `version` to guard against overwriting someone else's edit (412)
+export const updateProduct = (id, data, version) =>
+  api.put(`/api/products/${id}`, data,
+    version != null ? { headers: { "If-Match": `"${version}"` } } : undefined);
 export const deleteProduct = (id) => api.delete(`/api/products/${id}`);
+
+// Keyset page: { items, nextCursor, total }. Pass nextCursor back as `cursor`.
+export const fetchProductPage = (params = {}) =>
+  api.get("/api/products", { params: { limit: 50, ...params } });
+
+// Bulk import of a .csv (header row) or .ndjson File; resolves to the per-row report
+export const importProducts = (file) =>
+  api.post("/api/products/import", file, {
+    headers: {
+      "Content-Type": file.name.toLowerCase().endsWith(".csv")
+        ? "text/csv"
+        : "application/x-ndjson",
+    },
+  });
+
+// Full active catalog as a Blob ("csv" or "ndjson"), streamed by the server
+export const exportProducts = (format = "csv") =>
+  api.get("/api/products/export", { params: { format }, responseType: "blob" });
+
+// All-or-nothing create of up to 1000 products; resolves to the created rows
+export const createProducts = (rows) => api.post("/api/products/batch", rows);
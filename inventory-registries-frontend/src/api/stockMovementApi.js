@@ -0,0 +1,8 @@
+import api from "./axiosConfig";
+
+// Signed quantity: RECEIPT > 0, ISSUE < 0, ADJUSTMENT either way
+export const postStockMovement = (data) => api.post("/api/stock-movements", data);
+
+// Newest first: { items, nextCursor }. Pass nextCursor back as `before`.
+export const fetchStockMovements = (productId, params = {}) =>
+  api.get(`/api/stock-movements/product/${productId}`, { params: { limit: 50, ...params } });
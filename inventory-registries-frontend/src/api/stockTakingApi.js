@@ -21,3 +21,13 @@ export const approveStockTaking = (id) =>
 // -------------------- APPLY (updates product stock) --------------------
 export const applyStockTaking = (id) =>
   api.post(`/api/stock-taking/${id}/apply`);
+
+// -------------------- BULK (per-id outcomes) --------------------
+// Select with { ids } or a filter { departmentId, minVariance }; {} takes every
+// DRAFT (approve) or APPROVED (apply) row, up to 50,000 per call (`more` is set
+// when rows are left)
+export const bulkApproveStockTakings = (selection) =>
+  api.post("/api/stock-taking/bulk/approve", selection);
+
+export const bulkApplyStockTakings = (selection) =>
+  api.post("/api/stock-taking/bulk/apply", selection);
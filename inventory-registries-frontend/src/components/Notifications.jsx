@@ -9,9 +9,12 @@ import {
 } from "react-icons/fa";
 
 import {
-  getNotifications,
+  getNotificationPage,
+  getUnreadCount,
   markNotificationRead,
+  markNotificationsRead,
   deleteNotificationApi,
+  subscribeNotifications,
 } from "../api/notificationApi";
 
 // utility for time display
@@ -23,34 +26,66 @@ const formatTime = (dateTime) => {
 const Notifications = () => {
   // ---------------- STATE ----------------
   const [notifications, setNotifications] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [unread, setUnread] = useState({ unread: 0, capped: false });
 
   // ---------------- LOAD ----------------
+  const loadPage = (cursor) =>
+    getNotificationPage(cursor ? { cursor } : {}).then((res) => {
+      setNotifications((n) => {
+        const seen = new Set(n.map((x) => x.id));
+        return [...n, ...res.data.items.filter((x) => !seen.has(x.id))];
+      });
+      setNextCursor(res.data.nextCursor);
+    });
+
   useEffect(() => {
-    getNotifications().then((res) => setNotifications(res.data));
+    loadPage(null);
+    getUnreadCount().then((res) => setUnread(res.data));
+
+    // New notifications are pushed; a replayed id is ignored. The count is
+    // a bounded read, so it is simply fetched again.
+    return subscribeNotifications((incoming) => {
+      setNotifications((n) =>
+        n.some((x) => x.id === incoming.id) ? n : [incoming, ...n]
+      );
+      getUnreadCount().then((res) => setUnread(res.data));
+    });
   }, []);
 
   // ---------------- HANDLERS ----------------
   const markAsRead = (id) => {
-    markNotificationRead(id).then(() =>
+    markNotificationRead(id).then(() => {
       setNotifications((n) =>
         n.map((x) => (x.id === id ? { ...x, read: true } : x))
-      )
-    );
+      );
+      setUnread((u) => ({ ...u, unread: Math.max(u.unread - 1, 0) }));
+    });
   };
 
   const deleteNotification = (id) => {
-    deleteNotificationApi(id).then(() =>
-      setNotifications((n) => n.filter((x) => x.id !== id))
-    );
+    const wasUnread = notifications.some((x) => x.id === id && !x.read);
+    deleteNotificationApi(id).then(() => {
+      setNotifications((n) => n.filter((x) => x.id !== id));
+      if (wasUnread) setUnread((u) => ({ ...u, unread: Math.max(u.unread - 1, 0) }));
+    });
   };
 
+  // Everything up to the newest notification shown, loaded or not
   const markAllRead = () => {
-    // UI only (optional backend enhancement later)
-    setNotifications((n) => n.map((x) => ({ ...x, read: true })));
+    if (notifications.length === 0) return;
+    const upTo = notifications.reduce(
+      (max, x) => (x.createdAt > max ? x.createdAt : max),
+      notifications[0].createdAt
+    );
+    markNotificationsRead({ upTo }).then(() => {
+      setNotifications((n) =>
+        n.map((x) => (x.createdAt <= upTo ? { ...x, read: true } : x))
+      );
+      getUnreadCount().then((res) => setUnread(res.data));
+    });
   };
 
-  const unreadCount = notifications.filter((n) => !n.read).length;
-
   // ---------------- STYLES ----------------
   const styles = `
     @keyframes fadeIn { from { opacity: 0; transform: translateY(10px); } to { opacity: 1; transform: translateY(0); } }
@@ -82,7 +117,7 @@ const Notifications = () => {
           <h1>Notifications</h1>
           <p>Stay updated on inventory events and registry alerts.</p>
         </div>
-        {unreadCount > 0 && (
+        {unread.unread > 0 && (
           <button className="btn btn-outline" onClick={markAllRead}>
             <FaCheckDouble /> Mark All as Read
           </button>
@@ -96,7 +131,10 @@ const Notifications = () => {
           </div>
           <div>
             <div className="stat-title">Unread Alerts</div>
-            <div className="stat-value">{unreadCount}</div>
+            <div className="stat-value">
+              {unread.unread}
+              {unread.capped && "+"}
+            </div>
           </div>
         </div>
       </div>
@@ -146,6 +184,14 @@ const Notifications = () => {
           </div>
         )}
       </div>
+
+      {nextCursor && (
+        <div style={{ padding: "16px", textAlign: "center" }}>
+          <button className="btn btn-outline" onClick={() => loadPage(nextCursor)}>
+            Load more
+          </button>
+        </div>
+      )}
     </div>
   );
 };
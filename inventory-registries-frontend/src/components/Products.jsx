@@ -127,7 +127,7 @@ const Products = () => {
 
     try {
       if (isEditMode) {
-        await updateProduct(formData.id, payload);
+        await updateProduct(formData.id, payload, formData.version);
       } else {
         await createProduct(payload);
       }
@@ -135,7 +135,12 @@ const Products = () => {
       closeModal();
     } catch (err) {
       console.error("Save failed", err);
-      alert("Failed to save product.");
+      const status = err.response?.status;
+      alert(
+        status === 409 || status === 412
+          ? "This product was changed by someone else. Reload and try again."
+          : "Failed to save product."
+      );
     }
   };
 
@@ -165,6 +170,7 @@ const Products = () => {
         sellingPrice: p.sellingPrice,
         costPrice: p.costPrice,
         stock: p.stock,
+        version: p.version,
       });
       setIsEditMode(true);
     } else {
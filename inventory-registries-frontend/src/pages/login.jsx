@@ -45,6 +45,7 @@ const Login = () => {
 
       // ✅ Store Auth Data
       sessionStorage.setItem("token", data.token);
+      sessionStorage.setItem("refreshToken", data.refreshToken);
       sessionStorage.setItem("role", data.role);
       sessionStorage.setItem("user", data.username); // Optional: Store name for UI
 
@@ -55,7 +56,12 @@ const Login = () => {
       navigate("/"); 
     } catch (err) {
       console.error(err);
-      setError("Invalid username or password");
+      if (err.response?.status === 429) {
+        const wait = err.response.headers["retry-after"] || "a few";
+        setError(`Too many sign-ins right now, try again in ${wait} seconds`);
+      } else {
+        setError("Invalid username or password");
+      }
       setIsLoading(false);
     }
   };